@@ -0,0 +1,79 @@
+package cn.darkjrong.redis.benchmark;
+
+import cn.darkjrong.redis.BeanUtils;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import com.alibaba.fastjson.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanUtils#copyProperties} 基准
+ * <p>
+ * 原对象取自序列化器的无类型反序列化结果, 与 RedisUtils 按类型读取时的输入一致
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanUtilsBenchmark {
+
+    private static final TypeReference<Payloads.Person> PERSON_TYPE = new TypeReference<Payloads.Person>() {};
+
+    @Param({"100"})
+    private int size;
+
+    private Object single;
+    private Collection<Object> collection;
+
+    @Setup
+    public void setup() {
+        DefaultRedisValueSerializer serializer = new DefaultRedisValueSerializer();
+        serializer.setObjectMapper();
+        single = serializer.deserialize(serializer.serialize(Payloads.person(1)));
+        List<Object> objects = new ArrayList<>(size);
+        for (Payloads.Person person : Payloads.people(size)) {
+            objects.add(serializer.deserialize(serializer.serialize(person)));
+        }
+        collection = objects;
+    }
+
+    @Benchmark
+    public Payloads.Person singleClass() {
+        return BeanUtils.copyProperties(single, Payloads.Person.class);
+    }
+
+    @Benchmark
+    public Payloads.Person singleTypeReference() {
+        return BeanUtils.copyProperties(single, PERSON_TYPE);
+    }
+
+    @Benchmark
+    public List<Payloads.Person> collectionClass() {
+        return BeanUtils.copyProperties(collection, Payloads.Person.class);
+    }
+
+    @Benchmark
+    public List<Payloads.Person> collectionTypeReference() {
+        return BeanUtils.copyProperties(collection, PERSON_TYPE);
+    }
+
+}
@@ -0,0 +1,64 @@
+package cn.darkjrong.redis.benchmark;
+
+import cn.darkjrong.redis.configuration.RedisConfiguration;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisKeySerializer;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import cn.darkjrong.redis.memory.InMemoryRedisConnectionFactory;
+import cn.darkjrong.spring.boot.autoconfigure.RedisExtendProperties;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * 基准测试公共配置
+ * <p>
+ * Redis 地址通过系统属性指定: -Dredis.host=localhost -Dredis.port=6379 -Dredis.database=15,
+ * 指定 -Dredis.mode=memory 时使用内存 Redis
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 按 starter 的默认方式创建配置类
+     *
+     * @param connectionFactory 连接工厂
+     * @return {@link RedisConfiguration}
+     */
+    static RedisConfiguration redisConfiguration(RedisConnectionFactory connectionFactory) {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setType(CacheType.REDIS);
+        cacheProperties.getRedis().setTimeToLive(Duration.ofSeconds(60));
+        DefaultRedisValueSerializer redisValueSerializer = new DefaultRedisValueSerializer();
+        redisValueSerializer.setObjectMapper();
+        return new RedisConfiguration(connectionFactory, cacheProperties, new DefaultRedisKeySerializer(),
+                redisValueSerializer, new RedisExtendProperties());
+    }
+
+    /**
+     * 创建连接工厂
+     *
+     * @return {@link RedisConnectionFactory}
+     */
+    static RedisConnectionFactory connectionFactory() {
+        if ("memory".equals(System.getProperty("redis.mode"))) {
+            return new InMemoryRedisConnectionFactory();
+        }
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
+        configuration.setHostName(System.getProperty("redis.host", "localhost"));
+        configuration.setPort(Integer.getInteger("redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("redis.database", 15));
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+
+}
@@ -0,0 +1,84 @@
+package cn.darkjrong.redis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * keyGenerator() Bean 生成缓存 key 的基准
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyGeneratorBenchmark {
+
+    /**
+     * 参数形态: NONE 无参数, SIMPLE 简单参数, LONG 超过最大长度的字符串, OBJECT 对象参数
+     */
+    @Param({"NONE", "SIMPLE", "LONG", "OBJECT"})
+    private String params;
+
+    private KeyGenerator keyGenerator;
+    private Method method;
+    private Object[] args;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        // 生成 key 不访问 Redis, 连接工厂无需初始化
+        keyGenerator = BenchmarkSupport.redisConfiguration(new LettuceConnectionFactory()).keyGenerator();
+        method = KeyGeneratorBenchmark.class.getMethod("findUser", Object[].class);
+        switch (params) {
+            case "NONE":
+                args = new Object[0];
+                break;
+            case "SIMPLE":
+                args = new Object[]{1L, "Rong.Jia", true};
+                break;
+            case "LONG":
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < 64; i++) {
+                    builder.append("segment-").append(i);
+                }
+                args = new Object[]{builder.toString()};
+                break;
+            default:
+                args = new Object[]{Payloads.person(1), 1L};
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object generate() {
+        return keyGenerator.generate(this, method, args);
+    }
+
+    /**
+     * 模拟被缓存的方法
+     *
+     * @param args 参数
+     * @return null
+     */
+    public Object findUser(Object... args) {
+        return null;
+    }
+
+}
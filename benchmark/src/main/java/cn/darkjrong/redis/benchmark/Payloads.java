@@ -0,0 +1,244 @@
+package cn.darkjrong.redis.benchmark;
+
+import com.alibaba.fastjson.TypeReference;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试负载
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * 负载形态
+     */
+    public enum Shape {
+
+        /**
+         * 单个扁平对象
+         */
+        SMALL {
+            @Override
+            public Object create() {
+                return person(1);
+            }
+
+            @Override
+            public Type type() {
+                return Person.class;
+            }
+        },
+
+        /**
+         * 含集合、Map 及嵌套对象的订单
+         */
+        MEDIUM {
+            @Override
+            public Object create() {
+                return order(1, 20);
+            }
+
+            @Override
+            public Type type() {
+                return Order.class;
+            }
+        },
+
+        /**
+         * 1000 个对象的列表
+         */
+        LARGE {
+            @Override
+            public Object create() {
+                return people(1000);
+            }
+
+            @Override
+            public Type type() {
+                return new TypeReference<List<Person>>() {}.getType();
+            }
+        };
+
+        /**
+         * 创建负载
+         *
+         * @return {@link Object}
+         */
+        public abstract Object create();
+
+        /**
+         * 负载类型
+         *
+         * @return {@link Type}
+         */
+        public abstract Type type();
+    }
+
+    public static Person person(int id) {
+        Person person = new Person();
+        person.setId(id);
+        person.setName("Rong.Jia-" + id);
+        person.setAge(20 + id % 50);
+        person.setSex(id % 2 == 0 ? "女" : "男");
+        return person;
+    }
+
+    public static List<Person> people(int size) {
+        List<Person> people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            people.add(person(i));
+        }
+        return people;
+    }
+
+    public static Order order(long id, int items) {
+        Order order = new Order();
+        order.setId(id);
+        order.setBuyer(person((int) id));
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            OrderItem item = new OrderItem();
+            item.setSku("SKU-" + i);
+            item.setQuantity(i + 1);
+            item.setPrice(BigDecimal.valueOf(1999, 2).add(BigDecimal.valueOf(i)));
+            orderItems.add(item);
+        }
+        order.setItems(orderItems);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            attributes.put("attr" + i, "value" + i);
+        }
+        order.setAttributes(attributes);
+        return order;
+    }
+
+    public static class Person implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Integer id;
+        private String name;
+        private Integer age;
+        private String sex;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+        public String getSex() {
+            return sex;
+        }
+
+        public void setSex(String sex) {
+            this.sex = sex;
+        }
+    }
+
+    public static class Order implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+        private Person buyer;
+        private List<OrderItem> items;
+        private Map<String, String> attributes;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Person getBuyer() {
+            return buyer;
+        }
+
+        public void setBuyer(Person buyer) {
+            this.buyer = buyer;
+        }
+
+        public List<OrderItem> getItems() {
+            return items;
+        }
+
+        public void setItems(List<OrderItem> items) {
+            this.items = items;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    public static class OrderItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String sku;
+        private Integer quantity;
+        private BigDecimal price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+
+}
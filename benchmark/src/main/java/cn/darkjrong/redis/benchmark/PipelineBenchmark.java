@@ -0,0 +1,90 @@
+package cn.darkjrong.redis.benchmark;
+
+import cn.darkjrong.redis.RedisBatch;
+import cn.darkjrong.redis.RedisUtils;
+import cn.darkjrong.redis.configuration.RedisConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisUtils 逐条执行与 {@link RedisBatch} 管道执行的对比基准, 每次调用写入并读取 batchSize 个 key
+ * <p>
+ * 需要可访问的 Redis 或指定 -Dredis.mode=memory, 参见 {@link BenchmarkSupport}
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    private static final String KEY_PREFIX = "benchmark:pipeline:";
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private RedisConnectionFactory connectionFactory;
+    private RedisUtils redisUtils;
+    private Payloads.Person value;
+
+    @Setup
+    public void setup() {
+        connectionFactory = BenchmarkSupport.connectionFactory();
+        RedisConfiguration redisConfiguration = BenchmarkSupport.redisConfiguration(connectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfiguration.redisTemplate(connectionFactory);
+        redisUtils = redisConfiguration.redisUtils(redisTemplate, null, redisConfiguration.keyspaceScanner(redisTemplate));
+        value = Payloads.person(1);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        redisUtils.deleteByPattern(KEY_PREFIX + "*", 500);
+        if (connectionFactory instanceof DisposableBean) {
+            ((DisposableBean) connectionFactory).destroy();
+        }
+    }
+
+    @Benchmark
+    public void unpipelined(Blackhole blackhole) {
+        for (int i = 0; i < batchSize; i++) {
+            redisUtils.set(KEY_PREFIX + i, value);
+        }
+        for (int i = 0; i < batchSize; i++) {
+            blackhole.consume(redisUtils.get(KEY_PREFIX + i, Payloads.Person.class));
+        }
+    }
+
+    @Benchmark
+    public List<Object> pipelined() {
+        RedisBatch batch = redisUtils.batch();
+        for (int i = 0; i < batchSize; i++) {
+            batch.set(KEY_PREFIX + i, value);
+        }
+        for (int i = 0; i < batchSize; i++) {
+            batch.get(KEY_PREFIX + i, Payloads.Person.class);
+        }
+        return batch.execute();
+    }
+
+}
@@ -0,0 +1,67 @@
+package cn.darkjrong.redis.benchmark;
+
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DefaultRedisValueSerializer} 序列化/反序列化基准
+ * <p>
+ * deserialize 为无类型反序列化(RedisUtils.get(key)), deserializeTyped 为按目标类型反序列化(RedisUtils.get(key, Class))
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payloads.Shape shape;
+
+    private DefaultRedisValueSerializer serializer;
+    private Object value;
+    private byte[] bytes;
+    private Type type;
+
+    @Setup
+    public void setup() {
+        serializer = new DefaultRedisValueSerializer();
+        serializer.setObjectMapper();
+        value = shape.create();
+        bytes = serializer.serialize(value);
+        type = shape.type();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public Object deserializeTyped() {
+        return serializer.deserialize(bytes, type);
+    }
+
+}
@@ -0,0 +1,2529 @@
+package cn.darkjrong.redis;
+
+import cn.hutool.core.collection.CollectionUtil;
+import com.alibaba.fastjson.TypeReference;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceExceptionConverter;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.TimeoutUtils;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 异步工具类, 与 {@link RedisUtils} 提供相同的操作, 返回 {@link CompletableFuture}
+ * <p>
+ * 使用 Lettuce 共享连接({@link LettuceConnectionFactory#getShareNativeConnection()})时, 常用命令直接通过 Lettuce 异步 API 发送,
+ * 不占用线程等待; 反序列化在工作线程池中执行, 不阻塞 Lettuce I/O 线程. 其余命令及其他客户端(如 Jedis)在工作线程池中调用
+ * {@link RedisUtils} 执行. 阻塞命令(如 lBLeftPop)会在等待期间占用一个工作线程
+ * <pre>
+ * CompletableFuture&lt;User&gt; user = asyncRedisUtils.get("user:1", User.class);
+ * CompletableFuture&lt;List&lt;Order&gt;&gt; orders = asyncRedisUtils.lRange("orders:1", 0, -1, Order.class);
+ * CompletableFuture.allOf(user, orders).join();
+ * </pre>
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@SuppressWarnings("ALL")
+public class AsyncRedisUtils implements AutoCloseable {
+
+    private static final boolean LETTUCE_PRESENT = ClassUtils.isPresent("io.lettuce.core.RedisClient",
+            AsyncRedisUtils.class.getClassLoader());
+
+    private final RedisUtils redisUtils;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Converter<Exception, DataAccessException> exceptionConverter;
+
+    /**
+     * Redis 异步工具类, 使用内部线程池
+     *
+     * @param redisUtils {@link RedisUtils}
+     * @param threads    工作线程数
+     */
+    public AsyncRedisUtils(RedisUtils redisUtils, int threads) {
+        this(redisUtils, newExecutor(threads), true);
+    }
+
+    /**
+     * Redis 异步工具类
+     *
+     * @param redisUtils {@link RedisUtils}
+     * @param executor   工作线程池, 由调用方负责关闭
+     */
+    public AsyncRedisUtils(RedisUtils redisUtils, Executor executor) {
+        this(redisUtils, executor, false);
+    }
+
+    private AsyncRedisUtils(RedisUtils redisUtils, Executor executor, boolean owned) {
+        Assert.notNull(redisUtils, "redisUtils must not be null");
+        Assert.notNull(executor, "executor must not be null");
+        this.redisUtils = redisUtils;
+        this.redisTemplate = redisUtils.getRedisTemplate();
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+        this.exceptionConverter = LETTUCE_PRESENT ? new LettuceExceptionConverter() : null;
+    }
+
+    /**
+     * 获取同步工具类
+     *
+     * @return {@link RedisUtils}
+     */
+    public RedisUtils getRedisUtils() {
+        return redisUtils;
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /* -------------------key相关操作--------------------- */
+
+    /**
+     * 删除key
+     *
+     * @param key Key
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> delete(String key) {
+        return lettuceVoid(commands -> commands.del(rawKey(key)), () -> redisUtils.delete(key));
+    }
+
+    /**
+     * 批量删除key
+     *
+     * @param keys Key集合
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> delete(Collection<String> keys) {
+        return CollectionUtil.isEmpty(keys) ? CompletableFuture.completedFuture(null)
+                : lettuceVoid(commands -> commands.del(redisUtils.rawKeys(keys)), () -> redisUtils.delete(keys));
+    }
+
+    /**
+     * 非阻塞删除key, 内存由 Redis 在后台线程释放
+     *
+     * @param key Key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> unlink(String key) {
+        return lettuce(commands -> commands.unlink(rawKey(key)), result -> result != null && result > 0, () -> redisUtils.unlink(key));
+    }
+
+    /**
+     * 批量非阻塞删除key, 内存由 Redis 在后台线程释放
+     *
+     * @param keys Key集合
+     * @return {@link CompletableFuture}<{@link Long}> 删除的数量
+     */
+    public CompletableFuture<Long> unlink(Collection<String> keys) {
+        return CollectionUtil.isEmpty(keys) ? CompletableFuture.completedFuture(0L)
+                : lettuce(commands -> commands.unlink(redisUtils.rawKeys(keys)), () -> redisUtils.unlink(keys));
+    }
+
+    /**
+     * 按匹配模式删除key, 使用 SCAN 遍历并以 UNLINK 分批删除, 不阻塞 Redis
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量
+     * @return {@link CompletableFuture}<{@link Long}> 删除的数量
+     */
+    public CompletableFuture<Long> deleteByPattern(String pattern, int batchSize) {
+        return supply(() -> redisUtils.deleteByPattern(pattern, batchSize));
+    }
+
+    /**
+     * 按匹配模式删除key, 使用 SCAN 遍历并以 UNLINK 分批删除, 每批在一次管道中执行, 不阻塞 Redis
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量
+     * @param pause     每批之间的停顿(限流), 为null时不停顿
+     * @return {@link CompletableFuture}<{@link Long}> 删除的数量
+     */
+    public CompletableFuture<Long> deleteByPattern(String pattern, int batchSize, @Nullable Duration pause) {
+        return supply(() -> redisUtils.deleteByPattern(pattern, batchSize, pause));
+    }
+
+    /**
+     * 序列化key
+     *
+     * @param key Key
+     * @return {@link CompletableFuture}<{@link byte[]}>
+     */
+    public CompletableFuture<byte[]> dump(String key) {
+        return supply(() -> redisUtils.dump(key));
+    }
+
+    /**
+     * 是否存在key
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> hasKey(String key) {
+        return lettuce(commands -> commands.exists(rawKey(key)), result -> result != null && result > 0, () -> redisUtils.hasKey(key));
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @param key     key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> expire(String key, long timeout, TimeUnit unit) {
+        return lettuce(commands -> commands.pexpire(rawKey(key), TimeoutUtils.toMillis(timeout, unit)), () -> redisUtils.expire(key, timeout, unit));
+    }
+
+    /**
+     * 设置过期时间, 并增加随机抖动, 使批量设置的 key 分散过期
+     *
+     * @param key     key
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @param jitter  抖动比例, 如 0.1 表示 ±10%
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> expire(String key, long timeout, TimeUnit unit, double jitter) {
+        return supply(() -> redisUtils.expire(key, timeout, unit, jitter));
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key  key
+     * @param date 日期
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> expireAt(String key, Date date) {
+        return supply(() -> redisUtils.expireAt(key, date));
+    }
+
+    /**
+     * 查找匹配的key, 安全模式下使用 SCAN 实现
+     *
+     * @param pattern 匹配模式
+     * @return {@link CompletableFuture}<{@link Set}<{@link String}>>
+     */
+    public CompletableFuture<Set<String>> keys(String pattern) {
+        return supply(() -> redisUtils.keys(pattern));
+    }
+
+    /**
+     * 将当前数据库的 key 移动到给定的数据库 db 当中
+     *
+     * @param key     key
+     * @param dbIndex 数据库索引
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> move(String key, int dbIndex) {
+        return supply(() -> redisUtils.move(key, dbIndex));
+    }
+
+    /**
+     * 移除 key 的过期时间，key 将持久保持
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> persist(String key) {
+        return lettuce(commands -> commands.persist(rawKey(key)), () -> redisUtils.persist(key));
+    }
+
+    /**
+     * 返回 key 的剩余的过期时间
+     *
+     * @param key  key
+     * @param unit 单位
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> getExpire(String key, TimeUnit unit) {
+        return supply(() -> redisUtils.getExpire(key, unit));
+    }
+
+    /**
+     * 返回 key 的剩余的过期时间
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> getExpire(String key) {
+        return supply(() -> redisUtils.getExpire(key));
+    }
+
+    /**
+     * 从当前数据库中随机返回一个 key
+     *
+     * @return {@link CompletableFuture}<{@link String}>
+     */
+    public CompletableFuture<String> randomKey() {
+        return supply(() -> redisUtils.randomKey());
+    }
+
+    /**
+     * 修改 key 的名称
+     *
+     * @param oldKey 老key
+     * @param newKey 新key
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> rename(String oldKey, String newKey) {
+        return run(() -> redisUtils.rename(oldKey, newKey));
+    }
+
+    /**
+     * 仅当 newKey 不存在时，将 oldKey 改名为 newKey
+     *
+     * @param oldKey 老key
+     * @param newKey 新key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> renameIfAbsent(String oldKey, String newKey) {
+        return supply(() -> redisUtils.renameIfAbsent(oldKey, newKey));
+    }
+
+    /**
+     * 返回 key 所储存的值的类型
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link DataType}>
+     */
+    public CompletableFuture<DataType> type(String key) {
+        return supply(() -> redisUtils.type(key));
+    }
+
+    /* -------------------string相关操作--------------------- */
+
+    /**
+     * 设置指定 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> set(String key, Object value) {
+        return lettuceVoid(commands -> commands.set(rawKey(key), rawValue(value)), () -> redisUtils.set(key, value));
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> get(String key) {
+        return lettuceAndDeserialize(commands -> commands.get(rawKey(key)), this::deserializeValue, () -> redisUtils.get(key));
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key    key
+     * @param tClass 返回值类型
+     * @return {@link CompletableFuture}<{@link T}> 返回值
+     */
+    public <T> CompletableFuture<T> get(String key, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.get(rawKey(key)), bytes -> redisUtils.deserialize(bytes, tClass), () -> redisUtils.get(key, tClass));
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key            key
+     * @param tTypeReference 返回值类型
+     * @return {@link CompletableFuture}<{@link T}> 返回值
+     */
+    public <T> CompletableFuture<T> get(String key, TypeReference<T> tTypeReference) {
+        return lettuceAndDeserialize(commands -> commands.get(rawKey(key)), bytes -> redisUtils.deserialize(bytes, tTypeReference.getType()), () -> redisUtils.get(key, tTypeReference));
+    }
+
+    /**
+     * 返回 key 中字符串值的子字符
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link String}>
+     */
+    public CompletableFuture<String> getRange(String key, long start, long end) {
+        return supply(() -> redisUtils.getRange(key, start, end));
+    }
+
+    /**
+     * 将给定 key 的值设为 value ，并返回 key 的旧值(old value)
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> getAndSet(String key, Object value) {
+        return supply(() -> redisUtils.getAndSet(key, value));
+    }
+
+    /**
+     * 对 key 所储存的字符串值，获取指定偏移量上的位(bit)
+     *
+     * @param key    key
+     * @param offset 偏移量
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> getBit(String key, long offset) {
+        return supply(() -> redisUtils.getBit(key, offset));
+    }
+
+    /**
+     * 批量获取
+     *
+     * @param keys keys
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> multiGet(Collection<String> keys) {
+        return CollectionUtil.isEmpty(keys) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.mget(redisUtils.rawKeys(keys)), values -> values(values).stream().map(this::deserializeValue).collect(Collectors.toList()), () -> redisUtils.multiGet(keys));
+    }
+
+    /**
+     * 批量获取
+     *
+     * @param <T>    目标对象泛型
+     * @param tClass 目标对象类型
+     * @param keys   keys
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public <T> CompletableFuture<List<T>> multiGet(Collection<String> keys, Class<T> tClass) {
+        return CollectionUtil.isEmpty(keys) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.mget(redisUtils.rawKeys(keys)), values -> redisUtils.deserializeList(values(values), tClass), () -> redisUtils.multiGet(keys, tClass));
+    }
+
+    /**
+     * 批量获取
+     *
+     * @param <T>            目标对象泛型
+     * @param tTypeReference 目标对象类型
+     * @param keys           keys
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public <T> CompletableFuture<List<T>> multiGet(Collection<String> keys, TypeReference<T> tTypeReference) {
+        return CollectionUtil.isEmpty(keys) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.mget(redisUtils.rawKeys(keys)), values -> redisUtils.deserializeList(values(values), tTypeReference.getType()), () -> redisUtils.multiGet(keys, tTypeReference));
+    }
+
+    /**
+     * 设置ASCII码, 字符串'a'的ASCII码是97, 转为二进制是'01100001', 此方法是将二进制第offset位值变为value
+     *
+     * @param offset 位置
+     * @param value  值,true为1, false为0
+     * @param key    key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> setBit(String key, long offset, boolean value) {
+        return supply(() -> redisUtils.setBit(key, offset, value));
+    }
+
+    /**
+     * 将值 value 关联到 key ，并将 key 的过期时间设为 timeout
+     *
+     * @param timeout 过期时间
+     * @param unit    时间单位, 天:TimeUnit.DAYS 小时:TimeUnit.HOURS 分钟:TimeUnit.MINUTES
+     *                秒:TimeUnit.SECONDS 毫秒:TimeUnit.MILLISECONDS
+     * @param key     key
+     * @param value   值
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> setEx(String key, Object value, long timeout, TimeUnit unit) {
+        return lettuceVoid(commands -> commands.psetex(rawKey(key), TimeoutUtils.toMillis(timeout, unit), rawValue(value)), () -> redisUtils.setEx(key, value, timeout, unit));
+    }
+
+    /**
+     * 将值 value 关联到 key ，并将 key 的过期时间设为 timeout 加随机抖动, 使批量写入的 key 分散过期
+     *
+     * @param key     key
+     * @param value   值
+     * @param timeout 过期时间
+     * @param unit    时间单位
+     * @param jitter  抖动比例, 如 0.1 表示 ±10%
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> setEx(String key, Object value, long timeout, TimeUnit unit, double jitter) {
+        return run(() -> redisUtils.setEx(key, value, timeout, unit, jitter));
+    }
+
+    /**
+     * 只有在 key 不存在时设置 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Boolean}> 之前已经存在返回false, 不存在返回true
+     */
+    public CompletableFuture<Boolean> setIfAbsent(String key, Object value) {
+        return lettuce(commands -> commands.setnx(rawKey(key), rawValue(value)), () -> redisUtils.setIfAbsent(key, value));
+    }
+
+    /**
+     * 用 value 参数覆写给定 key 所储存的字符串值，从偏移量 offset 开始
+     *
+     * @param offset 从指定位置开始覆写
+     * @param key    key
+     * @param value  值
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> setRange(String key, Object value, long offset) {
+        return run(() -> redisUtils.setRange(key, value, offset));
+    }
+
+    /**
+     * 获取字符串的长度
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> size(String key) {
+        return supply(() -> redisUtils.size(key));
+    }
+
+    /**
+     * 批量添加
+     *
+     * @param maps 集合
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> multiSet(Map<String, Object> maps) {
+        return run(() -> redisUtils.multiSet(maps));
+    }
+
+    /**
+     * 同时设置一个或多个 key-value 对，当且仅当所有给定 key 都不存在
+     *
+     * @param maps 集合
+     * @return {@link CompletableFuture}<{@link Boolean}> 之前已经存在返回false, 不存在返回true
+     */
+    public CompletableFuture<Boolean> multiSetIfAbsent(Map<String, Object> maps) {
+        return supply(() -> redisUtils.multiSetIfAbsent(maps));
+    }
+
+    /**
+     * 增加(自增长)
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> increment(String key) {
+        return lettuce(commands -> commands.incr(rawKey(key)), () -> redisUtils.increment(key));
+    }
+
+    /**
+     * 增加(自增长), 负数则为自减
+     *
+     * @param key       key
+     * @param increment 增量
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> increment(String key, long increment) {
+        return lettuce(commands -> commands.incrby(rawKey(key), increment), () -> redisUtils.increment(key, increment));
+    }
+
+    /**
+     * 增加(自增长), 负数则为自减
+     *
+     * @param key       key
+     * @param increment 自增值
+     * @return {@link CompletableFuture}<{@link Double}>
+     */
+    public CompletableFuture<Double> increment(String key, double increment) {
+        return lettuce(commands -> commands.incrbyfloat(rawKey(key), increment), () -> redisUtils.increment(key, increment));
+    }
+
+    /**
+     * 减少(自减)，正数则为自增
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> decrement(String key) {
+        return lettuce(commands -> commands.decr(rawKey(key)), () -> redisUtils.decrement(key));
+    }
+
+    /**
+     * 减少(自减)，正数则为自增
+     *
+     * @param key       key
+     * @param increment 自减量
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> decrement(String key, long increment) {
+        return lettuce(commands -> commands.decrby(rawKey(key), increment), () -> redisUtils.decrement(key, increment));
+    }
+
+    /**
+     * 追加到末尾
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Integer}>
+     */
+    public CompletableFuture<Integer> append(String key, String value) {
+        return supply(() -> redisUtils.append(key, value));
+    }
+
+    /* -------------------hash相关操作------------------------- */
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key   key
+     * @param field 字段名
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> hGet(String key, String field) {
+        return lettuceAndDeserialize(commands -> commands.hget(rawKey(key), rawHashKey(field)), this::deserializeHashValue, () -> redisUtils.hGet(key, field));
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param tClass 目标对象类型
+     * @param <T>    目标对象泛型
+     * @param key    key
+     * @param field  字段名
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> hGet(String key, String field, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.hget(rawKey(key), rawHashKey(field)), bytes -> redisUtils.hDeserialize(bytes, tClass), () -> redisUtils.hGet(key, field, tClass));
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param <T>            目标对象泛型
+     * @param tTypeReference 目标对象类型
+     * @param key            key
+     * @param field          字段名
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> hGet(String key, String field, TypeReference<T> tTypeReference) {
+        return lettuceAndDeserialize(commands -> commands.hget(rawKey(key), rawHashKey(field)), bytes -> redisUtils.hDeserialize(bytes, tTypeReference.getType()), () -> redisUtils.hGet(key, field, tTypeReference));
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Map}<{@link Object}, {@link Object}>>
+     */
+    public CompletableFuture<Map<Object, Object>> hGetAll(String key) {
+        return lettuceAndDeserialize(commands -> commands.hgetall(rawKey(key)), this::deserializeHash, () -> redisUtils.hGetAll(key));
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param valueClass Value类型
+     * @param key        key
+     * @return {@link CompletableFuture}<{@link Map}<{@link String}, {@link V}>>
+     */
+    public <V> CompletableFuture<Map<String, V>> hGetAll(String key, Class<V> valueClass) {
+        return lettuceAndDeserialize(commands -> commands.hgetall(rawKey(key)), entries -> redisUtils.hDeserializeMap(entries, valueClass), () -> redisUtils.hGetAll(key, valueClass));
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param key            key
+     * @param vTypeReference Value类型
+     * @return {@link CompletableFuture}<{@link Map}<{@link String}, {@link V}>>
+     */
+    public <V> CompletableFuture<Map<String, V>> hGetAll(String key, TypeReference<V> vTypeReference) {
+        return lettuceAndDeserialize(commands -> commands.hgetall(rawKey(key)), entries -> redisUtils.hDeserializeMap(entries, vTypeReference.getType()), () -> redisUtils.hGetAll(key, vTypeReference));
+    }
+
+    /**
+     * 获取在哈希表中给定字段的值
+     *
+     * @param key    key
+     * @param fields 字段
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> hMultiGet(String key, Collection<String> fields) {
+        return CollectionUtil.isEmpty(fields) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.hmget(rawKey(key), redisUtils.rawHashKeys(fields)), values -> values(values).stream().map(this::deserializeHashValue).collect(Collectors.toList()), () -> redisUtils.hMultiGet(key, fields));
+    }
+
+    /**
+     * 获取在哈希表中给定字段的值
+     *
+     * @param key    key
+     * @param fields 字段
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> hMultiGet(String key, Collection<String> fields, Class<T> tClass) {
+        return CollectionUtil.isEmpty(fields) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.hmget(rawKey(key), redisUtils.rawHashKeys(fields)), values -> redisUtils.hDeserializeList(values(values), tClass), () -> redisUtils.hMultiGet(key, fields, tClass));
+    }
+
+    /**
+     * 获取在哈希表中给定字段的值
+     *
+     * @param key            key
+     * @param fields         字段
+     * @param tTypeReference 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> hMultiGet(String key, Collection<String> fields, TypeReference<T> tTypeReference) {
+        return CollectionUtil.isEmpty(fields) ? CompletableFuture.completedFuture(Collections.emptyList())
+                : lettuceAndDeserialize(commands -> commands.hmget(rawKey(key), redisUtils.rawHashKeys(fields)), values -> redisUtils.hDeserializeList(values(values), tTypeReference.getType()), () -> redisUtils.hMultiGet(key, fields, tTypeReference));
+    }
+
+    /**
+     * 指定hashKey存储指定值
+     *
+     * @param key     key
+     * @param hashKey 哈希key
+     * @param value   值
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> hPut(String key, String hashKey, Object value) {
+        return lettuceVoid(commands -> commands.hset(rawKey(key), rawHashKey(hashKey), rawHashValue(value)), () -> redisUtils.hPut(key, hashKey, value));
+    }
+
+    /**
+     * 指定Key存储所有的值
+     *
+     * @param key  key
+     * @param maps 数据
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> hPutAll(String key, Map<String, Object> maps) {
+        return run(() -> redisUtils.hPutAll(key, maps));
+    }
+
+    /**
+     * 仅当hashKey不存在时才设置值
+     *
+     * @param key     key
+     * @param hashKey 哈希key
+     * @param value   值
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> hPutIfAbsent(String key, String hashKey, Object value) {
+        return lettuce(commands -> commands.hsetnx(rawKey(key), rawHashKey(hashKey), rawHashValue(value)), () -> redisUtils.hPutIfAbsent(key, hashKey, value));
+    }
+
+    /**
+     * 删除一个或多个哈希表字段
+     *
+     * @param key    key
+     * @param fields 字段
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> hDelete(String key, Object... fields) {
+        return supply(() -> redisUtils.hDelete(key, fields));
+    }
+
+    /**
+     * 查看哈希表 key 中，指定的字段是否存在
+     *
+     * @param key   key
+     * @param field 字段
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> hExists(String key, String field) {
+        return lettuce(commands -> commands.hexists(rawKey(key), rawHashKey(field)), () -> redisUtils.hExists(key, field));
+    }
+
+    /**
+     * 为哈希表 key 中的指定字段的整数值加上增量 increment
+     *
+     * @param key       key
+     * @param field     字段
+     * @param increment 增量
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> hIncrement(String key, Object field, long increment) {
+        return supply(() -> redisUtils.hIncrement(key, field, increment));
+    }
+
+    /**
+     * 为哈希表 key 中的指定字段的整数值加上增量 increment
+     *
+     * @param key   key
+     * @param field 场
+     * @param delta δ
+     * @return {@link CompletableFuture}<{@link Double}>
+     */
+    public CompletableFuture<Double> hIncrement(String key, Object field, double delta) {
+        return supply(() -> redisUtils.hIncrement(key, field, delta));
+    }
+
+    /**
+     * 获取所有哈希表中的字段
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> hKeys(String key) {
+        return supply(() -> redisUtils.hKeys(key));
+    }
+
+    /**
+     * 获取所有哈希表中的字段
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Set}<{@link String}>>
+     */
+    public CompletableFuture<Set<String>> hKeysToStr(String key) {
+        return supply(() -> redisUtils.hKeysToStr(key));
+    }
+
+    /**
+     * 获取所有哈希表中的字段
+     *
+     * @param key key
+     * @param tClass 字段类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> hKeys(String key, Class<T> tClass) {
+        return supply(() -> redisUtils.hKeys(key, tClass));
+    }
+
+    /**
+     * 获取所有哈希表中的字段
+     *
+     * @param key key
+     * @param typeReference 字段类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> hKeys(String key, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.hKeys(key, typeReference));
+    }
+
+    /**
+     * 获取哈希表中字段的数量
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> hSize(String key) {
+        return lettuce(commands -> commands.hlen(rawKey(key)), () -> redisUtils.hSize(key));
+    }
+
+    /**
+     * 获取哈希表中所有值
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> hValues(String key) {
+        return supply(() -> redisUtils.hValues(key));
+    }
+
+    /**
+     * 获取哈希表中所有值
+     *
+     * @param tClass 对象类型
+     * @param key    key
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> hValues(String key, Class<T> tClass) {
+        return supply(() -> redisUtils.hValues(key, tClass));
+    }
+
+    /**
+     * 获取哈希表中所有值
+     *
+     * @param typeReference 对象类型
+     * @param key           key
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> hValues(String key, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.hValues(key, typeReference));
+    }
+
+    /**
+     * 迭代哈希表中的键值对
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @return {@link CompletableFuture}<{@link Map}<{@link Object}, {@link Object}>>
+     */
+    public CompletableFuture<Map<Object, Object>> hScan(String key, ScanOptions options) {
+        return supply(() -> redisUtils.hScan(key, options));
+    }
+
+    /**
+     * 迭代哈希表中的键值对
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @param tClass  对象类型
+     * @return {@link CompletableFuture}<{@link Map}<{@link String}, {@link T}>>
+     */
+    public <T> CompletableFuture<Map<String, T>> hScan(String key, ScanOptions options, Class<T> tClass) {
+        return supply(() -> redisUtils.hScan(key, options, tClass));
+    }
+
+    /**
+     * 迭代哈希表中的键值对
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @param typeReference  对象类型
+     * @return {@link CompletableFuture}<{@link Map}<{@link String}, {@link T}>>
+     */
+    public <T> CompletableFuture<Map<String, T>> hScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.hScan(key, options, typeReference));
+    }
+
+    /* ------------------------list相关操作---------------------------- */
+
+    /**
+     * 通过索引获取列表中的元素
+     *
+     * @param key   key
+     * @param index 索引, 从0开始
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> lIndex(String key, long index) {
+        return supply(() -> redisUtils.lIndex(key, index));
+    }
+
+    /**
+     * 通过索引获取列表中的元素
+     *
+     * @param key    key
+     * @param index  索引, 从0开始
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> lIndex(String key, long index, Class<T> tClass) {
+        return supply(() -> redisUtils.lIndex(key, index, tClass));
+    }
+
+    /**
+     * 通过索引获取列表中的元素
+     *
+     * @param key    key
+     * @param index  索引, 从0开始
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> lIndex(String key, long index, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.lIndex(key, index, typeReference));
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param start 开始位置, 0是开始位置
+     * @param end   结束位置, -1返回所有
+     * @param key   key
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> lRange(String key, long start, long end) {
+        return lettuceAndDeserialize(commands -> commands.lrange(rawKey(key), start, end), values -> values.stream().map(this::deserializeValue).collect(Collectors.toList()), () -> redisUtils.lRange(key, start, end));
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param start  开始位置, 0是开始位置
+     * @param end    结束位置, -1返回所有
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> lRange(String key, long start, long end, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.lrange(rawKey(key), start, end), values -> redisUtils.deserializeList(values, tClass), () -> redisUtils.lRange(key, start, end, tClass));
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param start  开始位置, 0是开始位置
+     * @param end    结束位置, -1返回所有
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> lRange(String key, long start, long end, TypeReference<T> typeReference) {
+        return lettuceAndDeserialize(commands -> commands.lrange(rawKey(key), start, end), values -> redisUtils.deserializeList(values, typeReference.getType()), () -> redisUtils.lRange(key, start, end, typeReference));
+    }
+
+    /**
+     * 存储在list头部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLeftPush(String key, Object value) {
+        return lettuce(commands -> commands.lpush(rawKey(key), rawValue(value)), () -> redisUtils.lLeftPush(key, value));
+    }
+
+    /**
+     * 往list头部存储 所有值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLeftPushAll(String key, Object... value) {
+        return supply(() -> redisUtils.lLeftPushAll(key, value));
+    }
+
+    /**
+     * 往list头部存储 所有值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLeftPushAll(String key, Collection<Object> value) {
+        return supply(() -> redisUtils.lLeftPushAll(key, value));
+    }
+
+    /**
+     * 当list存在的时候才加入头部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLeftPushIfPresent(String key, Object value) {
+        return supply(() -> redisUtils.lLeftPushIfPresent(key, value));
+    }
+
+    /**
+     * 如果pivot存在,再pivot前面添加
+     *
+     * @param key   key
+     * @param pivot 主
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLeftPush(String key, String pivot, Object value) {
+        return supply(() -> redisUtils.lLeftPush(key, pivot, value));
+    }
+
+    /**
+     * 存储在list尾部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRightPush(String key, Object value) {
+        return lettuce(commands -> commands.rpush(rawKey(key), rawValue(value)), () -> redisUtils.lRightPush(key, value));
+    }
+
+    /**
+     * 在list尾部存储所有值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRightPushAll(String key, Object... value) {
+        return supply(() -> redisUtils.lRightPushAll(key, value));
+    }
+
+    /**
+     * 在list尾部存储所有值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRightPushAll(String key, Collection<Object> value) {
+        return supply(() -> redisUtils.lRightPushAll(key, value));
+    }
+
+    /**
+     * 为已存在的列表添加值到尾部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRightPushIfPresent(String key, Object value) {
+        return supply(() -> redisUtils.lRightPushIfPresent(key, value));
+    }
+
+    /**
+     * 在pivot元素的右边添加值
+     *
+     * @param key   key
+     * @param pivot 主
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRightPush(String key, String pivot, Object value) {
+        return supply(() -> redisUtils.lRightPush(key, pivot, value));
+    }
+
+    /**
+     * 通过索引设置列表元素的值
+     *
+     * @param index 位置
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> lSet(String key, long index, Object value) {
+        return run(() -> redisUtils.lSet(key, index, value));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Object}> 删除的元素
+     */
+    public CompletableFuture<Object> lLeftPop(String key) {
+        return lettuceAndDeserialize(commands -> commands.lpop(rawKey(key)), this::deserializeValue, () -> redisUtils.lLeftPop(key));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素
+     *
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lLeftPop(String key, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.lpop(rawKey(key)), bytes -> redisUtils.deserialize(bytes, tClass), () -> redisUtils.lLeftPop(key, tClass));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素
+     *
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lLeftPop(String key, TypeReference<T> typeReference) {
+        return lettuceAndDeserialize(commands -> commands.lpop(rawKey(key)), bytes -> redisUtils.deserialize(bytes, typeReference.getType()), () -> redisUtils.lLeftPop(key, typeReference));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param key     key
+     * @return {@link CompletableFuture}<{@link Object}> 删除的元素
+     */
+    public CompletableFuture<Object> lBLeftPop(String key, long timeout, TimeUnit unit) {
+        return supply(() -> redisUtils.lBLeftPop(key, timeout, unit));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lBLeftPop(String key, long timeout, TimeUnit unit, Class<T> tClass) {
+        return supply(() -> redisUtils.lBLeftPop(key, timeout, unit, tClass));
+    }
+
+    /**
+     * 移出并获取列表的第一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lBLeftPop(String key, long timeout, TimeUnit unit, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.lBLeftPop(key, timeout, unit, typeReference));
+    }
+
+    /**
+     * 移除并获取列表最后一个元素
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Object}> 删除的元素
+     */
+    public CompletableFuture<Object> lRightPop(String key) {
+        return lettuceAndDeserialize(commands -> commands.rpop(rawKey(key)), this::deserializeValue, () -> redisUtils.lRightPop(key));
+    }
+
+    /**
+     * 移除并获取列表最后一个元素
+     *
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lRightPop(String key, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.rpop(rawKey(key)), bytes -> redisUtils.deserialize(bytes, tClass), () -> redisUtils.lRightPop(key, tClass));
+    }
+
+    /**
+     * 移除并获取列表最后一个元素
+     *
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lRightPop(String key, TypeReference<T> typeReference) {
+        return lettuceAndDeserialize(commands -> commands.rpop(rawKey(key)), bytes -> redisUtils.deserialize(bytes, typeReference.getType()), () -> redisUtils.lRightPop(key, typeReference));
+    }
+
+    /**
+     * 移出并获取列表的最后一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 等待时间
+     * @param unit    时间单位
+     * @param key     key
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> lBRightPop(String key, long timeout, TimeUnit unit) {
+        return supply(() -> redisUtils.lBRightPop(key, timeout, unit));
+    }
+
+    /**
+     * 移出并获取列表的最后一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lBRightPop(String key, long timeout, TimeUnit unit, Class<T> tClass) {
+        return supply(() -> redisUtils.lBRightPop(key, timeout, unit, tClass));
+    }
+
+    /**
+     * 移出并获取列表的最后一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}> 删除的元素
+     */
+    public <T> CompletableFuture<T> lBRightPop(String key, long timeout, TimeUnit unit, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.lBRightPop(key, timeout, unit, typeReference));
+    }
+
+    /**
+     * 移除列表的最后一个元素，并将该元素添加到另一个列表并返回
+     *
+     * @param sourceKey      源key
+     * @param destinationKey 目标key
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> lRightPopAndLeftPush(String sourceKey, String destinationKey) {
+        return supply(() -> redisUtils.lRightPopAndLeftPush(sourceKey, destinationKey));
+    }
+
+    /**
+     * 从列表中弹出一个值，将弹出的元素插入到另外一个列表中并返回它； 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param sourceKey      源key
+     * @param destinationKey 目标key
+     * @param timeout        超时时间
+     * @param unit           单位
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> lBRightPopAndLeftPush(String sourceKey, String destinationKey, long timeout, TimeUnit unit) {
+        return supply(() -> redisUtils.lBRightPopAndLeftPush(sourceKey, destinationKey, timeout, unit));
+    }
+
+    /**
+     * 删除集合中值等于value得元素
+     *
+     * @param index index=0, 删除所有值等于value的元素; index>0, 从头部开始删除第一个值等于value的元素;
+     *              index<0, 从尾部开始删除第一个值等于value的元素;
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lRemove(String key, long index, Object value) {
+        return supply(() -> redisUtils.lRemove(key, index, value));
+    }
+
+    /**
+     * 裁剪list
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    public CompletableFuture<Void> lTrim(String key, long start, long end) {
+        return run(() -> redisUtils.lTrim(key, start, end));
+    }
+
+    /**
+     * 获取列表长度
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> lLen(String key) {
+        return lettuce(commands -> commands.llen(rawKey(key)), () -> redisUtils.lLen(key));
+    }
+
+    /* --------------------set相关操作-------------------------- */
+
+    /**
+     * set添加元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sAdd(String key, Object... values) {
+        return lettuce(commands -> commands.sadd(rawKey(key), rawValues(values)), () -> redisUtils.sAdd(key, values));
+    }
+
+    /**
+     * set移除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sRemove(String key, Object... values) {
+        return lettuce(commands -> commands.srem(rawKey(key), rawValues(values)), () -> redisUtils.sRemove(key, values));
+    }
+
+    /**
+     * 移除并返回集合的一个随机元素
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> sPop(String key) {
+        return supply(() -> redisUtils.sPop(key));
+    }
+
+    /**
+     * 移除并返回集合的一个随机元素
+     *
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> sPop(String key, Class<T> tClass) {
+        return supply(() -> redisUtils.sPop(key, tClass));
+    }
+
+    /**
+     * 移除并返回集合的一个随机元素
+     *
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> sPop(String key, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.sPop(key, typeReference));
+    }
+
+    /**
+     * 将元素value从一个集合移到另一个集合
+     *
+     * @param key     key
+     * @param value   值
+     * @param destKey 目标key
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> sMove(String key, Object value, String destKey) {
+        return supply(() -> redisUtils.sMove(key, value, destKey));
+    }
+
+    /**
+     * 获取集合的大小
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sSize(String key) {
+        return lettuce(commands -> commands.scard(rawKey(key)), () -> redisUtils.sSize(key));
+    }
+
+    /**
+     * 判断集合是否包含value
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> sIsMember(String key, Object value) {
+        return lettuce(commands -> commands.sismember(rawKey(key), rawValue(value)), () -> redisUtils.sIsMember(key, value));
+    }
+
+    /**
+     * 获取key集合的交集
+     *
+     * @param keys keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sIntersect(Collection<String> keys) {
+        return supply(() -> redisUtils.sIntersect(keys));
+    }
+
+    /**
+     * 获取两个集合的交集
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sIntersect(String key, String otherKey) {
+        return supply(() -> redisUtils.sIntersect(key, otherKey));
+    }
+
+    /**
+     * 获取key集合与多个集合的交集
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sIntersect(String key, Collection<String> otherKeys) {
+        return supply(() -> redisUtils.sIntersect(key, otherKeys));
+    }
+
+    /**
+     * key集合的交集存储到destKey集合中
+     *
+     * @param destKey 目标key
+     * @param keys    keys
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sIntersectAndStore(Collection<String> keys, String destKey) {
+        return supply(() -> redisUtils.sIntersectAndStore(keys, destKey));
+    }
+
+    /**
+     * key与otherKey集合的交集存储到destKey集合中
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @param destKey  目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sIntersectAndStore(String key, String otherKey, String destKey) {
+        return supply(() -> redisUtils.sIntersectAndStore(key, otherKey, destKey));
+    }
+
+    /**
+     * key与多个集合的交集存储到destKey集合中
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @param destKey   目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sIntersectAndStore(String key, Collection<String> otherKeys, String destKey) {
+        return supply(() -> redisUtils.sIntersectAndStore(key, otherKeys, destKey));
+    }
+
+    /**
+     * 获取两个集合的并集
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sUnion(String key, String otherKeys) {
+        return supply(() -> redisUtils.sUnion(key, otherKeys));
+    }
+
+    /**
+     * 获取key集合的并集
+     *
+     * @param keys keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sUnion(Collection<String> keys) {
+        return supply(() -> redisUtils.sUnion(keys));
+    }
+
+    /**
+     * 获取key集合与多个集合的并集
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sUnion(String key, Collection<String> otherKeys) {
+        return supply(() -> redisUtils.sUnion(key, otherKeys));
+    }
+
+    /**
+     * key集合与otherKey集合的并集存储到destKey中
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @param destKey  目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sUnionAndStore(String key, String otherKey, String destKey) {
+        return supply(() -> redisUtils.sUnionAndStore(key, otherKey, destKey));
+    }
+
+    /**
+     * key集合与多个集合的并集存储到destKey中
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @param destKey   目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sUnionAndStore(String key, Collection<String> otherKeys, String destKey) {
+        return supply(() -> redisUtils.sUnionAndStore(key, otherKeys, destKey));
+    }
+
+    /**
+     * key集合的并集存储到destKey中
+     *
+     * @param destKey 目标key
+     * @param keys    keys
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sUnionAndStore(Collection<String> keys, String destKey) {
+        return supply(() -> redisUtils.sUnionAndStore(keys, destKey));
+    }
+
+    /**
+     * 获取两个集合的差集
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sDifference(String key, String otherKey) {
+        return supply(() -> redisUtils.sDifference(key, otherKey));
+    }
+
+    /**
+     * 获取key集合与多个集合的差集
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sDifference(String key, Collection<String> otherKeys) {
+        return supply(() -> redisUtils.sDifference(key, otherKeys));
+    }
+
+    /**
+     * 获取key集合的差集
+     *
+     * @param keys keys
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sDifference(Collection<String> keys) {
+        return supply(() -> redisUtils.sDifference(keys));
+    }
+
+    /**
+     * key集合与otherKey集合的差集存储到destKey中
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @param destKey  目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sDifference(String key, String otherKey, String destKey) {
+        return supply(() -> redisUtils.sDifference(key, otherKey, destKey));
+    }
+
+    /**
+     * key集合与多个集合的差集存储到destKey中
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @param destKey   目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sDifference(String key, Collection<String> otherKeys, String destKey) {
+        return supply(() -> redisUtils.sDifference(key, otherKeys, destKey));
+    }
+
+    /**
+     * key集合的差集存储到destKey中
+     *
+     * @param destKey 目标key
+     * @param keys    keys
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> sDifference(Collection<String> keys, String destKey) {
+        return supply(() -> redisUtils.sDifference(keys, destKey));
+    }
+
+    /**
+     * 获取Set集合的所有元素
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sMembers(String key) {
+        return lettuceAndDeserialize(commands -> commands.smembers(rawKey(key)), values -> values.stream().map(this::deserializeValue).collect(Collectors.toCollection(LinkedHashSet::new)), () -> redisUtils.sMembers(key));
+    }
+
+    /**
+     * 获取Set集合的所有元素
+     *
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> sMembers(String key, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.smembers(rawKey(key)), values -> redisUtils.deserializeSet(values, tClass), () -> redisUtils.sMembers(key, tClass));
+    }
+
+    /**
+     * 获取Set集合的所有元素
+     *
+     * @param key key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> sMembers(String key, TypeReference<T> typeReference) {
+        return lettuceAndDeserialize(commands -> commands.smembers(rawKey(key)), values -> redisUtils.deserializeSet(values, typeReference.getType()), () -> redisUtils.sMembers(key, typeReference));
+    }
+
+    /**
+     * 随机获取集合中的一个元素
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public CompletableFuture<Object> sRandomMember(String key) {
+        return supply(() -> redisUtils.sRandomMember(key));
+    }
+
+    /**
+     * 随机获取集合中的一个元素
+     *
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    public <T> CompletableFuture<T> sRandomMember(String key, Class<T> tClass) {
+        return supply(() -> redisUtils.sRandomMember(key, tClass));
+    }
+
+    /**
+     * 随机获取集合中的一个元素
+     *
+     * @param key key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Object}>
+     */
+    public <T> CompletableFuture<T> sRandomMember(String key, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.sRandomMember(key, typeReference));
+    }
+
+    /**
+     * 随机获取集合中count个元素
+     *
+     * @param key   key
+     * @param count 个数
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> sRandomMembers(String key, long count) {
+        return supply(() -> redisUtils.sRandomMembers(key, count));
+    }
+
+    /**
+     * 随机获取集合中count个元素
+     *
+     * @param tClass 对象类型
+     * @param key    key
+     * @param count  个数
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> sRandomMembers(String key, long count, Class<T> tClass) {
+        return supply(() -> redisUtils.sRandomMembers(key, count, tClass));
+    }
+
+    /**
+     * 随机获取集合中count个元素
+     *
+     * @param key           key
+     * @param typeReference 对象类型
+     * @param count         个数
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    public <T> CompletableFuture<List<T>> sRandomMembers(String key, long count, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.sRandomMembers(key, count, typeReference));
+    }
+
+    /**
+     * 随机获取集合中count个元素并且去除重复的
+     *
+     * @param key   key
+     * @param count 个数
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> sDistinctRandomMembers(String key, long count) {
+        return supply(() -> redisUtils.sDistinctRandomMembers(key, count));
+    }
+
+    /**
+     * 随机获取集合中count个元素并且去除重复的
+     *
+     * @param key    key
+     * @param count  个数
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> sDistinctRandomMembers(String key, long count, Class<T> tClass) {
+        return supply(() -> redisUtils.sDistinctRandomMembers(key, count, tClass));
+    }
+
+    /**
+     * 随机获取集合中count个元素并且去除重复的
+     *
+     * @param key    key
+     * @param count  个数
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> sDistinctRandomMembers(String key, long count, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.sDistinctRandomMembers(key, count, typeReference));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public CompletableFuture<List<Object>> sScan(String key, ScanOptions options) {
+        return supply(() -> redisUtils.sScan(key, options));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param tClass 对象类型
+     * @param options 选项
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public <T> CompletableFuture<List<T>> sScan(String key, ScanOptions options, Class<T> tClass) {
+        return supply(() -> redisUtils.sScan(key, options, tClass));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param typeReference 对象类型
+     * @param options 选项
+     * @return {@link CompletableFuture}<{@link List}<{@link Object}>>
+     */
+    public <T> CompletableFuture<List<T>> sScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.sScan(key, options, typeReference));
+    }
+
+    /*------------------zSet相关操作--------------------------------*/
+
+    /**
+     * 添加元素,有序集合是按照元素的score值由小到大排列
+     *
+     * @param key   key
+     * @param value 值
+     * @param score 分数
+     * @return {@link CompletableFuture}<{@link Boolean}>
+     */
+    public CompletableFuture<Boolean> zAdd(String key, Object value, double score) {
+        return lettuce(commands -> commands.zadd(rawKey(key), score, rawValue(value)), result -> result != null && result == 1, () -> redisUtils.zAdd(key, value, score));
+    }
+
+    /**
+     * 添加元素,有序集合是按照元素的score值由小到大排列
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zAdd(String key, Set<TypedTuple<Object>> values) {
+        return supply(() -> redisUtils.zAdd(key, values));
+    }
+
+    /**
+     * zSet删除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zRemove(String key, Object... values) {
+        return lettuce(commands -> commands.zrem(rawKey(key), rawValues(values)), () -> redisUtils.zRemove(key, values));
+    }
+
+    /**
+     * 增加元素的score值，并返回增加后的值
+     *
+     * @param key   key
+     * @param value 值
+     * @param delta δ
+     * @return {@link CompletableFuture}<{@link Double}>
+     */
+    public CompletableFuture<Double> zIncrementScore(String key, Object value, double delta) {
+        return lettuce(commands -> commands.zincrby(rawKey(key), delta, rawValue(value)), () -> redisUtils.zIncrementScore(key, value, delta));
+    }
+
+    /**
+     * 返回元素在集合的排名,有序集合是按照元素的score值由小到大排列
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}> 0表示第一位
+     */
+    public CompletableFuture<Long> zRank(String key, Object value) {
+        return supply(() -> redisUtils.zRank(key, value));
+    }
+
+    /**
+     * 返回元素在集合的排名,按元素的score值由大到小排列
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zReverseRank(String key, Object value) {
+        return supply(() -> redisUtils.zReverseRank(key, value));
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param start 开始位置
+     * @param end   结束位置, -1查询所有
+     * @param key   key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> zRange(String key, long start, long end) {
+        return lettuceAndDeserialize(commands -> commands.zrange(rawKey(key), start, end), values -> values.stream().map(this::deserializeValue).collect(Collectors.toCollection(LinkedHashSet::new)), () -> redisUtils.zRange(key, start, end));
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param start  开始位置
+     * @param end    结束位置, -1查询所有
+     * @param key    key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zRange(String key, long start, long end, Class<T> tClass) {
+        return lettuceAndDeserialize(commands -> commands.zrange(rawKey(key), start, end), values -> redisUtils.deserializeSet(new LinkedHashSet<>(values), tClass), () -> redisUtils.zRange(key, start, end, tClass));
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param start  开始位置
+     * @param end    结束位置, -1查询所有
+     * @param key    key
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zRange(String key, long start, long end, TypeReference<T> typeReference) {
+        return lettuceAndDeserialize(commands -> commands.zrange(rawKey(key), start, end), values -> redisUtils.deserializeSet(new LinkedHashSet<>(values), typeReference.getType()), () -> redisUtils.zRange(key, start, end, typeReference));
+    }
+
+    /**
+     * 获取集合元素, 并且把score值也获取
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<Set<TypedTuple<Object>>> zRangeWithScores(String key, long start, long end) {
+        return supply(() -> redisUtils.zRangeWithScores(key, start, end));
+    }
+
+    /**
+     * 获取集合元素, 并且把score值也获取
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeWithScores(String key, long start, long end, Class<T> tClass) {
+        return supply(() -> redisUtils.zRangeWithScores(key, start, end, tClass));
+    }
+
+    /**
+     * 获取集合元素, 并且把score值也获取
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeWithScores(String key, long start, long end, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zRangeWithScores(key, start, end, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> zRangeByScore(String key, double min, double max) {
+        return supply(() -> redisUtils.zRangeByScore(key, min, max));
+    }
+
+    /**
+     * 根据Score值查询集合元素
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zRangeByScore(String key, double min, double max, Class<T> tClass) {
+        return supply(() -> redisUtils.zRangeByScore(key, min, max, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zRangeByScore(String key, double min, double max, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zRangeByScore(key, min, max, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<Set<TypedTuple<Object>>> zRangeByScoreWithScores(String key, double min, double max) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeByScoreWithScores(String key, double min, double max, Class<T> tClass) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param min 最小值
+     * @param max 最大值
+     * @param key key
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeByScoreWithScores(String key, double min, double max, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<Set<TypedTuple<Object>>> zRangeByScoreWithScores(String key, double min, double max, long start, long end) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max, start, end));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeByScoreWithScores(String key, double min, double max, long start, long end, Class<T> tClass) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max, start, end, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zRangeByScoreWithScores(String key, double min, double max, long start, long end, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zRangeByScoreWithScores(key, min, max, start, end, typeReference));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> zReverseRange(String key, long start, long end) {
+        return supply(() -> redisUtils.zReverseRange(key, start, end));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRange(String key, long start, long end, Class<T> tClass) {
+        return supply(() -> redisUtils.zReverseRange(key, start, end, tClass));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRange(String key, long start, long end, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zReverseRange(key, start, end, typeReference));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序, 并返回score值
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<Set<TypedTuple<Object>>> zReverseRangeWithScores(String key, long start, long end) {
+        return supply(() -> redisUtils.zReverseRangeWithScores(key, start, end));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序, 并返回score值
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zReverseRangeWithScores(String key, long start, long end, Class<T> tClass) {
+        return supply(() -> redisUtils.zReverseRangeWithScores(key, start, end, tClass));
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序, 并返回score值
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zReverseRangeWithScores(String key, long start, long end, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zReverseRangeWithScores(key, start, end, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> zReverseRangeByScore(String key, double min, double max) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRangeByScore(String key, double min, double max, Class<T> tClass) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRangeByScore(String key, double min, double max, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<Set<TypedTuple<Object>>> zReverseRangeByScoreWithScores(String key, double min, double max) {
+        return supply(() -> redisUtils.zReverseRangeByScoreWithScores(key, min, max));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zReverseRangeByScoreWithScores(String key, double min, double max, Class<T> tClass) {
+        return supply(() -> redisUtils.zReverseRangeByScoreWithScores(key, min, max, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<Set<TypedTuple<T>>> zReverseRangeByScoreWithScores(String key, double min, double max, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zReverseRangeByScoreWithScores(key, min, max, typeReference));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Set}<{@link Object}>>
+     */
+    public CompletableFuture<Set<Object>> zReverseRangeByScore(String key, double min, double max, long start, long end) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max, start, end));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRangeByScore(String key, double min, double max, long start, long end, Class<T> tClass) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max, start, end, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link Set}<{@link T}>>
+     */
+    public <T> CompletableFuture<Set<T>> zReverseRangeByScore(String key, double min, double max, long start, long end, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zReverseRangeByScore(key, min, max, start, end, typeReference));
+    }
+
+    /**
+     * 根据score值获取集合元素数量
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zCount(String key, double min, double max) {
+        return supply(() -> redisUtils.zCount(key, min, max));
+    }
+
+    /**
+     * 获取集合大小
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zSize(String key) {
+        return lettuce(commands -> commands.zcard(rawKey(key)), () -> redisUtils.zSize(key));
+    }
+
+    /**
+     * 获取集合大小
+     *
+     * @param key key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zZCard(String key) {
+        return supply(() -> redisUtils.zZCard(key));
+    }
+
+    /**
+     * 获取集合中value元素的score值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link CompletableFuture}<{@link Double}>
+     */
+    public CompletableFuture<Double> zScore(String key, Object value) {
+        return lettuce(commands -> commands.zscore(rawKey(key), rawValue(value)), () -> redisUtils.zScore(key, value));
+    }
+
+    /**
+     * 移除指定索引位置的成员
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zRemoveRange(String key, long start, long end) {
+        return supply(() -> redisUtils.zRemoveRange(key, start, end));
+    }
+
+    /**
+     * 根据指定的score值的范围来移除成员
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zRemoveRangeByScore(String key, double min, double max) {
+        return supply(() -> redisUtils.zRemoveRangeByScore(key, min, max));
+    }
+
+    /**
+     * 获取key和otherKey的并集并存储在destKey中
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @param destKey  目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zUnionAndStore(String key, String otherKey, String destKey) {
+        return supply(() -> redisUtils.zUnionAndStore(key, otherKey, destKey));
+    }
+
+    /**
+     * 获取key和otherKey的并集并存储在destKey中
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @param destKey   目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zUnionAndStore(String key, Collection<String> otherKeys, String destKey) {
+        return supply(() -> redisUtils.zUnionAndStore(key, otherKeys, destKey));
+    }
+
+    /**
+     * 获取key和otherKey的交集并存储在destKey中
+     *
+     * @param key      key
+     * @param otherKey 其他key
+     * @param destKey  目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zIntersectAndStore(String key, String otherKey, String destKey) {
+        return supply(() -> redisUtils.zIntersectAndStore(key, otherKey, destKey));
+    }
+
+    /**
+     * 获取key和otherKey的交集并存储在destKey中
+     *
+     * @param key       key
+     * @param otherKeys 其他keys
+     * @param destKey   目标key
+     * @return {@link CompletableFuture}<{@link Long}>
+     */
+    public CompletableFuture<Long> zIntersectAndStore(String key, Collection<String> otherKeys, String destKey) {
+        return supply(() -> redisUtils.zIntersectAndStore(key, otherKeys, destKey));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @return {@link CompletableFuture}<{@link List}<{@link TypedTuple}<{@link Object}>>>
+     */
+    public CompletableFuture<List<TypedTuple<Object>>> zScan(String key, ScanOptions options) {
+        return supply(() -> redisUtils.zScan(key, options));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<List<TypedTuple<T>>> zScan(String key, ScanOptions options, Class<T> tClass) {
+        return supply(() -> redisUtils.zScan(key, options, tClass));
+    }
+
+    /**
+     * 迭代哈希表中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param typeReference 对象类型
+     * @return {@link CompletableFuture}<{@link List}<{@link TypedTuple}<{@link T}>>>
+     */
+    public <T> CompletableFuture<List<TypedTuple<T>>> zScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return supply(() -> redisUtils.zScan(key, options, typeReference));
+    }
+
+    /* -------------------异步执行------------------------- */
+
+    private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    private CompletableFuture<Void> run(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, executor);
+    }
+
+    /**
+     * 通过 Lettuce 异步 API 执行命令, 不支持时在工作线程池中执行同步方法
+     *
+     * @param command  Lettuce 命令
+     * @param fallback 同步方法
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    private <T> CompletableFuture<T> lettuce(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command,
+                                             Supplier<T> fallback) {
+        CompletableFuture<T> future = dispatch(command);
+        return future != null ? future : supply(fallback);
+    }
+
+    /**
+     * 通过 Lettuce 异步 API 执行命令并转换结果, 不支持时在工作线程池中执行同步方法; 转换在 Lettuce I/O 线程中执行, 只用于简单转换
+     *
+     * @param command   Lettuce 命令
+     * @param converter 结果转换
+     * @param fallback  同步方法
+     * @return {@link CompletableFuture}<{@link R}>
+     */
+    private <T, R> CompletableFuture<R> lettuce(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command,
+                                                Function<T, R> converter, Supplier<R> fallback) {
+        CompletableFuture<T> future = dispatch(command);
+        return future != null ? future.thenApply(converter) : supply(fallback);
+    }
+
+    /**
+     * 通过 Lettuce 异步 API 执行命令并在工作线程池中反序列化结果, 不支持时在工作线程池中执行同步方法
+     *
+     * @param command      Lettuce 命令
+     * @param deserializer 反序列化
+     * @param fallback     同步方法
+     * @return {@link CompletableFuture}<{@link R}>
+     */
+    private <T, R> CompletableFuture<R> lettuceAndDeserialize(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command,
+                                                              Function<T, R> deserializer, Supplier<R> fallback) {
+        CompletableFuture<T> future = dispatch(command);
+        return future != null ? future.thenApplyAsync(deserializer, executor) : supply(fallback);
+    }
+
+    /**
+     * 通过 Lettuce 异步 API 执行无返回值的命令, 不支持时在工作线程池中执行同步方法
+     *
+     * @param command  Lettuce 命令
+     * @param fallback 同步方法
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    private <T> CompletableFuture<Void> lettuceVoid(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command,
+                                                    Runnable fallback) {
+        CompletableFuture<T> future = dispatch(command);
+        return future != null ? future.thenApply(result -> null) : run(fallback);
+    }
+
+    /**
+     * 在共享的 Lettuce 连接上发送命令
+     *
+     * @param command Lettuce 命令
+     * @return {@link CompletableFuture}<{@link T}>, 不支持 Lettuce 异步 API 时为null
+     */
+    private <T> CompletableFuture<T> dispatch(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command) {
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        if (!LETTUCE_PRESENT || !(connectionFactory instanceof LettuceConnectionFactory)
+                || !((LettuceConnectionFactory) connectionFactory).getShareNativeConnection()) {
+            return null;
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // 共享连接在关闭 RedisConnection 时不会释放, 已发送的命令不受影响
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Object nativeConnection = connection.getNativeConnection();
+            if (!(nativeConnection instanceof RedisClusterAsyncCommands)) {
+                return null;
+            }
+            command.apply((RedisClusterAsyncCommands<byte[], byte[]>) nativeConnection).whenComplete((result, e) -> {
+                if (e == null) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(translate(e));
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(translate(e));
+        }
+        return future;
+    }
+
+    private Throwable translate(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof DataAccessException || !(cause instanceof Exception)) {
+            return cause;
+        }
+        DataAccessException translated = exceptionConverter.convert((Exception) cause);
+        return translated != null ? translated : cause;
+    }
+
+    /* -------------------字节转换------------------------- */
+
+    private byte[] rawKey(String key) {
+        return redisUtils.rawKey(key);
+    }
+
+    private byte[] rawHashKey(String hashKey) {
+        return redisUtils.rawHashKey(hashKey);
+    }
+
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    private byte[][] rawValues(Object... values) {
+        return Arrays.stream(values).map(this::rawValue).toArray(byte[][]::new);
+    }
+
+    private byte[] rawHashValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getHashValueSerializer()).serialize(value);
+    }
+
+    private Object deserializeValue(byte[] bytes) {
+        return redisTemplate.getValueSerializer().deserialize(bytes);
+    }
+
+    private Object deserializeHashValue(byte[] bytes) {
+        return redisTemplate.getHashValueSerializer().deserialize(bytes);
+    }
+
+    private Map<Object, Object> deserializeHash(Map<byte[], byte[]> entries) {
+        Map<Object, Object> map = new LinkedHashMap<>(entries.size());
+        entries.forEach((k, v) -> map.put(redisTemplate.getHashKeySerializer().deserialize(k), deserializeHashValue(v)));
+        return map;
+    }
+
+    private static List<byte[]> values(List<KeyValue<byte[], byte[]>> keyValues) {
+        return keyValues.stream().map(a -> a.getValueOrElse(null)).collect(Collectors.toList());
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "redis-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+}
@@ -6,8 +6,12 @@ import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONValidator;
 import com.alibaba.fastjson.TypeReference;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.lang.Nullable;
 
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +23,17 @@ import java.util.stream.Collectors;
 @SuppressWarnings("ALL")
 public class BeanUtils {
 
+    private static volatile LongConsumer conversionListener;
+
+    /**
+     * 设置转换耗时监听器, 每次单个对象复制属性后回调, 参数为耗时(纳秒), 为 null 时不计时
+     *
+     * @param listener 监听器
+     */
+    public static void setConversionListener(@Nullable LongConsumer listener) {
+        conversionListener = listener;
+    }
+
     /**
      * 复制属性
      *
@@ -59,8 +74,7 @@ public class BeanUtils {
      */
     public static <T> T copyProperties(Object object, Class<T> tClass) {
         if (ObjectUtil.isNotNull(object)) {
-            String json = JSONValidator.from(object.toString()).validate() ? object.toString() : JSON.toJSONString(object);
-            return JSON.parseObject(json, tClass);
+            return convert(object, json -> JSON.parseObject(json, tClass));
         }
         return null;
     }
@@ -75,8 +89,22 @@ public class BeanUtils {
      */
     public static <T> T copyProperties(Object object, TypeReference<T> tTypeReference) {
         if (ObjectUtil.isNotNull(object)) {
-            String json = JSONValidator.from(object.toString()).validate() ? object.toString() : JSON.toJSONString(object);
-            return JSON.parseObject(json, tTypeReference);
+            return convert(object, json -> JSON.parseObject(json, tTypeReference));
+        }
+        return null;
+    }
+
+    /**
+     * 复制属性
+     *
+     * @param object 原对象
+     * @param type   目标对象类型
+     * @param <T>    目标对象泛型
+     * @return {@link T} 目标对象
+     */
+    public static <T> T copyProperties(Object object, Type type) {
+        if (ObjectUtil.isNotNull(object)) {
+            return convert(object, json -> JSON.parseObject(json, type));
         }
         return null;
     }
@@ -239,21 +267,15 @@ public class BeanUtils {
         return Collections.emptySet();
     }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+    private static <T> T convert(Object object, Function<String, T> parser) {
+        LongConsumer listener = conversionListener;
+        long start = listener == null ? 0 : System.nanoTime();
+        String json = JSONValidator.from(object.toString()).validate() ? object.toString() : JSON.toJSONString(object);
+        T result = parser.apply(json);
+        if (listener != null) {
+            listener.accept(System.nanoTime() - start);
+        }
+        return result;
+    }
 
 }
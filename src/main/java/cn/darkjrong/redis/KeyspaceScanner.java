@@ -0,0 +1,400 @@
+package cn.darkjrong.redis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisConnectionUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 全库 key 扫描器
+ * <p>
+ * 集群模式下在每个主节点上独立执行 SCAN, 各节点在有界线程池中并行扫描, 结果合并为一个流;
+ * 单机/哨兵模式下直接执行 SCAN. 支持按批处理 key, 每批命令在一次管道中执行(如批量修正过期时间), 以及按批 UNLINK 删除.
+ * 流的扫描线程与批处理使用各自的线程池, 遍历流的同时执行批处理(如按模式删除)不会互相等待
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class KeyspaceScanner implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyspaceScanner.class);
+
+    private static final Object END = new Object();
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long ABANDON_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor streamExecutor;
+
+    /**
+     * 全库 key 扫描器
+     *
+     * @param redisTemplate {@link RedisTemplate}
+     * @param parallelism   并行扫描的节点数
+     */
+    public KeyspaceScanner(RedisTemplate<String, Object> redisTemplate, int parallelism) {
+        Assert.notNull(redisTemplate, "redisTemplate must not be null");
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+        this.redisTemplate = redisTemplate;
+        this.executor = newExecutor(parallelism, "redis-keyspace-scanner-");
+        this.streamExecutor = newExecutor(parallelism, "redis-keyspace-stream-");
+    }
+
+    private static ThreadPoolExecutor newExecutor(int parallelism, String threadNamePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 扫描匹配的 key, 结果可能包含重复的 key
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭, 如: {@code try (Stream<String> keys = scanner.scan("user:*", 1000)) {...}}.
+     * 集群模式下消费方超过 60 秒未读取时视为已放弃, 扫描线程停止扫描并释放连接, 之后继续读取将抛出 {@link IllegalStateException}
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的数量提示
+     * @return {@link Stream}<{@link String}>
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<String> scan(String pattern, long count) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        List<RedisClusterNode> masters = masters();
+        if (masters == null) {
+            return redisTemplate.scan(options).stream();
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        return scanRaw(masters, options).map(keySerializer::deserialize);
+    }
+
+    /**
+     * 扫描匹配的 key 并按批处理, 每批 key 来自同一节点, 其回调中的命令在一次管道中执行
+     *
+     * @param pattern   匹配模式
+     * @param count     每次 SCAN 的数量提示
+     * @param batchSize 每批 key 的数量
+     * @param callback  批处理回调
+     * @return long 处理的 key 数量
+     */
+    public long forEachBatch(String pattern, long count, int batchSize, KeyBatchCallback callback) {
+        Assert.notNull(callback, "callback must not be null");
+        return scanBatches(pattern, count, batchSize, null, keys -> executeBatch(keys, callback));
+    }
+
+    /**
+     * 扫描匹配的 key 并以 UNLINK 分批删除, 每批命令在一次管道中执行, 内存由 Redis 在后台线程释放
+     *
+     * @param pattern   匹配模式
+     * @param count     每次 SCAN 的数量提示
+     * @param batchSize 每批 key 的数量
+     * @param pause     每批之间的停顿(限流), 为null或0时不停顿
+     * @return long 实际删除的 key 数量
+     */
+    public long unlink(String pattern, long count, int batchSize, @Nullable Duration pause) {
+        return scanBatches(pattern, count, batchSize, pause, this::unlinkBatch);
+    }
+
+    private long scanBatches(String pattern, long count, int batchSize, @Nullable Duration pause,
+                             ToLongFunction<List<byte[]>> handler) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        long pauseNanos = pause == null || pause.isNegative() ? 0 : pause.toNanos();
+        List<RedisClusterNode> masters = masters();
+        if (masters == null) {
+            return redisTemplate.execute(connection -> {
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    return drain(cursor, batchSize, pauseNanos, handler);
+                }
+            }, true);
+        }
+
+        AtomicLong processed = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(masters.size());
+        for (RedisClusterNode node : masters) {
+            futures.add(executor.submit(() -> {
+                try (RedisClusterConnection connection = connectionFactory().getClusterConnection();
+                     Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    processed.addAndGet(drain(cursor, batchSize, pauseNanos, handler));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return processed.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        streamExecutor.shutdownNow();
+    }
+
+    private long drain(Cursor<byte[]> cursor, int batchSize, long pauseNanos, ToLongFunction<List<byte[]>> handler) {
+        long processed = 0;
+        List<byte[]> batch = new ArrayList<>(batchSize);
+        while (cursor.hasNext()) {
+            batch.add(cursor.next());
+            if (batch.size() >= batchSize) {
+                processed += handler.applyAsLong(batch);
+                batch = new ArrayList<>(batchSize);
+                if (pauseNanos > 0) {
+                    pause(pauseNanos);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            processed += handler.applyAsLong(batch);
+        }
+        return processed;
+    }
+
+    private long executeBatch(List<byte[]> keys, KeyBatchCallback callback) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            boolean pipelined = openPipeline(connection);
+            try {
+                callback.doInBatch(connection, keys);
+            } finally {
+                if (pipelined) {
+                    connection.closePipeline();
+                }
+            }
+            return null;
+        });
+        return keys.size();
+    }
+
+    private long unlinkBatch(List<byte[]> keys) {
+        Long unlinked = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long total = 0;
+            // 逐个 UNLINK, 避免集群下同批 key 跨槽
+            if (openPipeline(connection)) {
+                keys.forEach(key -> connection.keyCommands().unlink(key));
+                for (Object result : connection.closePipeline()) {
+                    total += result instanceof Long ? (Long) result : 0;
+                }
+            } else {
+                for (byte[] key : keys) {
+                    Long result = connection.keyCommands().unlink(key);
+                    total += result != null ? result : 0;
+                }
+            }
+            return total;
+        });
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private static boolean openPipeline(RedisConnection connection) {
+        try {
+            connection.openPipeline();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            // Jedis 集群连接不支持管道, 逐条执行
+            return false;
+        }
+    }
+
+    private static void pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning keyspace", e);
+        }
+    }
+
+    private Stream<byte[]> scanRaw(List<RedisClusterNode> masters, ScanOptions options) {
+        if (masters.isEmpty()) {
+            // 没有扫描任务时不会写入结束标记, 直接返回空流
+            return Stream.empty();
+        }
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        AtomicInteger remaining = new AtomicInteger(masters.size());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        // 流已关闭或被放弃
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicLong lastRead = new AtomicLong(System.nanoTime());
+        List<Future<?>> futures = new ArrayList<>(masters.size());
+        for (RedisClusterNode node : masters) {
+            futures.add(streamExecutor.submit(() -> {
+                try (RedisClusterConnection connection = connectionFactory().getClusterConnection();
+                     Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    while (cursor.hasNext()) {
+                        if (!offer(queue, cursor.next(), cancelled, lastRead, error)) {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    logger.error("Scan node [{}] failed", node, e);
+                    error.compareAndSet(null, e);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        try {
+                            offer(queue, END, cancelled, lastRead, error);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+            }));
+        }
+
+        Iterator<byte[]> iterator = new Iterator<byte[]>() {
+
+            private Object next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        while ((next = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                            if (cancelled.get()) {
+                                throw new IllegalStateException("Scan keyspace aborted", error.get());
+                            }
+                        }
+                        lastRead.set(System.nanoTime());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while scanning keyspace", e);
+                    }
+                }
+                if (next == END) {
+                    if (error.get() != null) {
+                        throw new IllegalStateException("Scan keyspace failed", error.get());
+                    }
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public byte[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                byte[] key = (byte[]) next;
+                next = null;
+                return key;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    cancelled.set(true);
+                    futures.forEach(a -> a.cancel(true));
+                    queue.clear();
+                });
+    }
+
+    /**
+     * 写入扫描结果, 队列满时等待消费方读取; 流已关闭或消费方超时未读取(未关闭而被放弃的流)时停止写入
+     *
+     * @return boolean 是否写入
+     */
+    private static boolean offer(BlockingQueue<Object> queue, Object item, AtomicBoolean cancelled,
+                                 AtomicLong lastRead, AtomicReference<Throwable> error) throws InterruptedException {
+        while (!queue.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (cancelled.get()) {
+                return false;
+            }
+            if (System.nanoTime() - lastRead.get() > ABANDON_TIMEOUT_NANOS) {
+                logger.warn("Scan stream has not been read for {}s, it may not be closed, abort scanning",
+                        TimeUnit.NANOSECONDS.toSeconds(ABANDON_TIMEOUT_NANOS));
+                error.compareAndSet(null, new IllegalStateException("Scan stream abandoned"));
+                cancelled.set(true);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取集群主节点
+     *
+     * @return {@link List}<{@link RedisClusterNode}>, 非集群模式时为null
+     */
+    private List<RedisClusterNode> masters() {
+        RedisConnectionFactory connectionFactory = connectionFactory();
+        RedisConnection connection = RedisConnectionUtils.getConnection(connectionFactory);
+        try {
+            if (!(connection instanceof RedisClusterConnection)) {
+                return null;
+            }
+            List<RedisClusterNode> masters = new ArrayList<>();
+            for (RedisClusterNode node : ((RedisClusterConnection) connection).clusterGetNodes()) {
+                if (node.isMaster() && node.isConnected()) {
+                    masters.add(node);
+                }
+            }
+            return masters;
+        } finally {
+            RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+        }
+    }
+
+    private RedisConnectionFactory connectionFactory() {
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        Assert.state(connectionFactory != null, "RedisConnectionFactory is required");
+        return connectionFactory;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning keyspace", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Scan keyspace failed", e.getCause());
+        }
+    }
+
+    /**
+     * 批处理回调
+     */
+    @FunctionalInterface
+    public interface KeyBatchCallback {
+
+        /**
+         * 处理一批 key, 在回调中对 connection 执行的命令会在一次管道中发送
+         *
+         * @param connection 连接
+         * @param keys       key
+         */
+        void doInBatch(RedisConnection connection, List<byte[]> keys);
+    }
+
+}
@@ -0,0 +1,262 @@
+package cn.darkjrong.redis;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisListCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis 列表队列消费者
+ * <p>
+ * 在独立线程(JDK 21+ 时为虚拟线程, 参见 {@link VirtualThreads})中循环执行 BLPOP, 每个消费者独占一个连接:
+ * 使用 Lettuce 时直接由原生客户端建立连接, 不占用连接池; 其他客户端(如 Jedis)在消费者存活期间持有连接池中的一个连接.
+ * 处理器抛出的异常只记录日志, 连接异常时按退避时间重连, 连接工厂已销毁时停止消费.
+ * 由 {@link RedisUtils} 创建的消费者在其销毁时一并关闭
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class QueueConsumer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueConsumer.class);
+
+    private static final boolean LETTUCE_PRESENT = ClassUtils.isPresent("io.lettuce.core.RedisClient",
+            QueueConsumer.class.getClassLoader());
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final String queueKey;
+    private final byte[] rawKey;
+    private final long timeoutSeconds;
+    private final Function<byte[], ?> deserializer;
+    private final Consumer<Object> handler;
+    private final Thread thread;
+    private final Consumer<QueueConsumer> onExit;
+    private volatile boolean running = true;
+
+    /**
+     * 列表队列消费者
+     *
+     * @param connectionFactory 连接工厂
+     * @param queueKey          队列 key
+     * @param rawKey            序列化后的队列 key
+     * @param pollTimeout       每次 BLPOP 的阻塞时间, 最小1秒, 也是关闭后的最长退出时间
+     * @param deserializer      反序列化
+     * @param handler           处理器
+     * @param threadFactory     线程工厂
+     * @param onExit            消费线程退出时回调
+     */
+    @SuppressWarnings("unchecked")
+    <T> QueueConsumer(RedisConnectionFactory connectionFactory, String queueKey, byte[] rawKey, Duration pollTimeout,
+                      Function<byte[], T> deserializer, Consumer<T> handler, ThreadFactory threadFactory,
+                      Consumer<QueueConsumer> onExit) {
+        Assert.notNull(connectionFactory, "connectionFactory must not be null");
+        Assert.notNull(handler, "handler must not be null");
+        this.connectionFactory = connectionFactory;
+        this.queueKey = queueKey;
+        this.rawKey = rawKey;
+        this.timeoutSeconds = Math.max(1, pollTimeout.getSeconds());
+        this.deserializer = deserializer;
+        this.handler = (Consumer<Object>) handler;
+        this.thread = threadFactory.newThread(this::run);
+        this.onExit = onExit;
+    }
+
+    /**
+     * 启动消费
+     *
+     * @return {@link QueueConsumer}
+     */
+    QueueConsumer start() {
+        thread.start();
+        return this;
+    }
+
+    /**
+     * 是否正在消费
+     *
+     * @return boolean
+     */
+    public boolean isRunning() {
+        return running && thread.isAlive();
+    }
+
+    /**
+     * 停止消费并等待线程退出: 正在进行的 BLPOP 返回(至多一个阻塞时间)后线程退出, 超时仍未退出时中断线程
+     */
+    @Override
+    public void close() {
+        stop();
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        long joinMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds + 1);
+        try {
+            thread.join(joinMillis);
+            if (thread.isAlive()) {
+                // 处理器耗时过长或连接无响应, 中断后可能丢失已弹出未处理的消息
+                thread.interrupt();
+                thread.join(joinMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 通知停止消费, 不等待线程退出
+     */
+    void stop() {
+        running = false;
+    }
+
+    private void run() {
+        long backoff = 0;
+        try {
+            while (running) {
+                BlockingConnection connection;
+                try {
+                    connection = openConnection();
+                } catch (IllegalStateException e) {
+                    // 连接工厂已销毁, 不再重连
+                    logger.warn("Stop consuming queue [{}]: {}", queueKey, e.getMessage());
+                    break;
+                } catch (Exception e) {
+                    backoff = backoff(backoff, e);
+                    continue;
+                }
+                try (BlockingConnection ignored = connection) {
+                    backoff = 0;
+                    while (running) {
+                        byte[] value = connection.bLPop(timeoutSeconds, rawKey);
+                        if (value != null) {
+                            handle(value);
+                        }
+                    }
+                } catch (Exception e) {
+                    backoff = backoff(backoff, e);
+                }
+            }
+        } finally {
+            running = false;
+            onExit.accept(this);
+        }
+    }
+
+    /**
+     * 按退避时间等待重连
+     *
+     * @param backoff 上次退避时间
+     * @param e       异常
+     * @return 本次退避时间
+     */
+    private long backoff(long backoff, Exception e) {
+        if (!running) {
+            return backoff;
+        }
+        backoff = backoff == 0 ? 100 : Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        logger.warn("Consume queue [{}] failed, reconnect in {} ms: {}", queueKey, backoff, e.getMessage());
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoff);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return backoff;
+    }
+
+    private void handle(byte[] value) {
+        try {
+            handler.accept(deserializer.apply(value));
+        } catch (Exception e) {
+            logger.error("Handle message of queue [{}] failed", queueKey, e);
+        }
+    }
+
+    private BlockingConnection openConnection() {
+        if (LETTUCE_PRESENT && connectionFactory instanceof LettuceConnectionFactory) {
+            return new LettuceBlockingConnection((LettuceConnectionFactory) connectionFactory);
+        }
+        RedisConnection connection = connectionFactory.getConnection();
+        return new BlockingConnection() {
+
+            @Override
+            public byte[] bLPop(long timeoutSeconds, byte[] key) {
+                List<byte[]> result = connection.listCommands().bLPop((int) timeoutSeconds, key);
+                return result != null && result.size() > 1 ? result.get(1) : null;
+            }
+
+            @Override
+            public void close() {
+                connection.close();
+            }
+        };
+    }
+
+    /**
+     * 消费者独占的连接
+     */
+    private interface BlockingConnection extends AutoCloseable {
+
+        byte[] bLPop(long timeoutSeconds, byte[] key);
+
+        @Override
+        void close();
+    }
+
+    /**
+     * 由 Lettuce 原生客户端建立的连接, 不经过连接池
+     */
+    private static class LettuceBlockingConnection implements BlockingConnection {
+
+        private final StatefulConnection<byte[], byte[]> connection;
+        private final RedisListCommands<byte[], byte[]> commands;
+
+        LettuceBlockingConnection(LettuceConnectionFactory connectionFactory) {
+            AbstractRedisClient client = connectionFactory.getRequiredNativeClient();
+            if (client instanceof RedisClusterClient) {
+                StatefulRedisClusterConnection<byte[], byte[]> clusterConnection = ((RedisClusterClient) client).connect(ByteArrayCodec.INSTANCE);
+                this.connection = clusterConnection;
+                this.commands = clusterConnection.sync();
+            } else {
+                StatefulRedisConnection<byte[], byte[]> redisConnection = ((RedisClient) client).connect(ByteArrayCodec.INSTANCE);
+                if (connectionFactory.getDatabase() != 0) {
+                    redisConnection.sync().select(connectionFactory.getDatabase());
+                }
+                this.connection = redisConnection;
+                this.commands = redisConnection.sync();
+            }
+        }
+
+        @Override
+        public byte[] bLPop(long timeoutSeconds, byte[] key) {
+            KeyValue<byte[], byte[]> result = commands.blpop(timeoutSeconds, key);
+            return result != null && result.hasValue() ? result.getValue() : null;
+        }
+
+        @Override
+        public void close() {
+            connection.close();
+        }
+    }
+
+}
@@ -0,0 +1,816 @@
+package cn.darkjrong.redis;
+
+import com.alibaba.fastjson.TypeReference;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Redis 响应式工具类, 基于 {@link ReactiveRedisTemplate}, 与 {@link RedisUtils} 使用相同的序列化方式
+ * <p>
+ * 扫描(SCAN/HSCAN/SSCAN/ZSCAN)按订阅方的请求量逐批拉取; 大列表、大有序集合可使用分页读取(如 {@link #lRangePaged(String, int, Class)}),
+ * 每页在下游消费完成后才请求下一页, 避免一次读入全部元素
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@SuppressWarnings("ALL")
+public class ReactiveRedisUtils {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final RedisSerializer<String> keySerializer;
+    private final RedisSerializer<String> hashKeySerializer;
+    private final RedisSerializer<Object> valueSerializer;
+    private final RedisSerializer<Object> hashValueSerializer;
+
+    /**
+     * Redis 响应式工具类
+     *
+     * @param reactiveRedisTemplate {@link ReactiveRedisTemplate}
+     * @param keySerializer         key 序列化器
+     * @param valueSerializer       value 序列化器
+     */
+    public ReactiveRedisUtils(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                              RedisSerializer<String> keySerializer, RedisSerializer<?> valueSerializer) {
+        Assert.notNull(reactiveRedisTemplate, "reactiveRedisTemplate must not be null");
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.keySerializer = keySerializer;
+        this.hashKeySerializer = keySerializer;
+        this.valueSerializer = (RedisSerializer<Object>) valueSerializer;
+        this.hashValueSerializer = (RedisSerializer<Object>) valueSerializer;
+    }
+
+    public ReactiveRedisTemplate<String, Object> getReactiveRedisTemplate() {
+        return reactiveRedisTemplate;
+    }
+
+    /* -------------------key相关操作--------------------- */
+
+    /**
+     * 删除key
+     *
+     * @param keys key
+     * @return {@link Mono}<{@link Long}> 删除的数量
+     */
+    public Mono<Long> delete(String... keys) {
+        return reactiveRedisTemplate.delete(keys);
+    }
+
+    /**
+     * 非阻塞删除key, 内存由 Redis 在后台线程释放
+     *
+     * @param keys key
+     * @return {@link Mono}<{@link Long}> 删除的数量
+     */
+    public Mono<Long> unlink(String... keys) {
+        return reactiveRedisTemplate.unlink(keys);
+    }
+
+    /**
+     * 是否存在key
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> hasKey(String key) {
+        return reactiveRedisTemplate.hasKey(key);
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key     key
+     * @param timeout 过期时间
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> expire(String key, Duration timeout) {
+        return reactiveRedisTemplate.expire(key, timeout);
+    }
+
+    /**
+     * 返回 key 的剩余的过期时间
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Duration}>
+     */
+    public Mono<Duration> getExpire(String key) {
+        return reactiveRedisTemplate.getExpire(key);
+    }
+
+    /**
+     * 使用 SCAN 增量遍历匹配的key, 按订阅方的请求量逐批拉取; 结果可能包含重复的 key
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的数量提示
+     * @return {@link Flux}<{@link String}>
+     */
+    public Flux<String> scanKeys(String pattern, long count) {
+        return reactiveRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(count).build());
+    }
+
+    /* -------------------string相关操作--------------------- */
+
+    /**
+     * 设置指定 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> set(String key, Object value) {
+        return reactiveRedisTemplate.opsForValue().set(key, value);
+    }
+
+    /**
+     * 设置指定 key 的值及过期时间
+     *
+     * @param key     key
+     * @param value   值
+     * @param timeout 过期时间
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> setEx(String key, Object value, Duration timeout) {
+        return reactiveRedisTemplate.opsForValue().set(key, value, timeout);
+    }
+
+    /**
+     * 只有在 key 不存在时设置 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Boolean}> 之前已经存在返回false, 不存在返回true
+     */
+    public Mono<Boolean> setIfAbsent(String key, Object value) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(key, value);
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Object}>
+     */
+    public Mono<Object> get(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key    key
+     * @param tClass 返回值类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> get(String key, Class<T> tClass) {
+        return doGet(key, tClass);
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key            key
+     * @param tTypeReference 返回值类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> get(String key, TypeReference<T> tTypeReference) {
+        return doGet(key, tTypeReference.getType());
+    }
+
+    private <T> Mono<T> doGet(String key, Type type) {
+        return mono(connection -> connection.stringCommands().get(rawKey(key)))
+                .handle(this.<T>deserializer(type));
+    }
+
+    /**
+     * 批量获取, 不存在的 key 不出现在结果中
+     *
+     * @param keys   keys
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> multiGet(Collection<String> keys, Class<T> tClass) {
+        return doMultiGet(keys, tClass);
+    }
+
+    /**
+     * 批量获取, 不存在的 key 不出现在结果中
+     *
+     * @param keys           keys
+     * @param tTypeReference 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> multiGet(Collection<String> keys, TypeReference<T> tTypeReference) {
+        return doMultiGet(keys, tTypeReference.getType());
+    }
+
+    private <T> Flux<T> doMultiGet(Collection<String> keys, Type type) {
+        if (keys == null || keys.isEmpty()) {
+            return Flux.empty();
+        }
+        List<ByteBuffer> rawKeys = new ArrayList<>(keys.size());
+        keys.forEach(key -> rawKeys.add(rawKey(key)));
+        return mono(connection -> connection.stringCommands().mGet(rawKeys))
+                .flatMapIterable(values -> values)
+                .filter(ByteBuffer::hasRemaining)
+                .handle(this.<T>deserializer(type));
+    }
+
+    /**
+     * 增加(自增长), 负数则为自减
+     *
+     * @param key       key
+     * @param increment 增量
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> increment(String key, long increment) {
+        return reactiveRedisTemplate.opsForValue().increment(key, increment);
+    }
+
+    /* -------------------hash相关操作------------------------- */
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key   key
+     * @param field 字段名
+     * @return {@link Mono}<{@link Object}>
+     */
+    public Mono<Object> hGet(String key, String field) {
+        return reactiveRedisTemplate.opsForHash().get(key, field);
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key    key
+     * @param field  字段名
+     * @param tClass 目标对象类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> hGet(String key, String field, Class<T> tClass) {
+        return doHGet(key, field, tClass);
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key            key
+     * @param field          字段名
+     * @param tTypeReference 目标对象类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> hGet(String key, String field, TypeReference<T> tTypeReference) {
+        return doHGet(key, field, tTypeReference.getType());
+    }
+
+    private <T> Mono<T> doHGet(String key, String field, Type type) {
+        return mono(connection -> connection.hashCommands().hGet(rawKey(key), rawHashKey(field)))
+                .handle(this.<T>hDeserializer(type));
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param key    key
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Flux<Map.Entry<String, T>> hGetAll(String key, Class<T> tClass) {
+        return doHGetAll(key, tClass);
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param key            key
+     * @param tTypeReference 目标对象类型
+     * @return {@link Flux}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Flux<Map.Entry<String, T>> hGetAll(String key, TypeReference<T> tTypeReference) {
+        return doHGetAll(key, tTypeReference.getType());
+    }
+
+    private <T> Flux<Map.Entry<String, T>> doHGetAll(String key, Type type) {
+        return flux(connection -> connection.hashCommands().hGetAll(rawKey(key))).map(entry -> hDeserialize(entry, type));
+    }
+
+    /**
+     * 指定hashKey存储指定值
+     *
+     * @param key     key
+     * @param hashKey 哈希key
+     * @param value   值
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> hPut(String key, String hashKey, Object value) {
+        return reactiveRedisTemplate.opsForHash().put(key, hashKey, value);
+    }
+
+    /**
+     * 存储多个哈希key值
+     *
+     * @param key  key
+     * @param maps 哈希key值
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> hPutAll(String key, Map<String, Object> maps) {
+        return reactiveRedisTemplate.opsForHash().putAll(key, maps);
+    }
+
+    /**
+     * 删除一个或多个哈希表字段
+     *
+     * @param key    key
+     * @param fields 字段
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> hDelete(String key, String... fields) {
+        return reactiveRedisTemplate.opsForHash().remove(key, (Object[]) fields);
+    }
+
+    /**
+     * 获取哈希表中字段的数量
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> hSize(String key) {
+        return reactiveRedisTemplate.opsForHash().size(key);
+    }
+
+    /**
+     * 增量迭代哈希表中的键值对, 按订阅方的请求量逐批拉取
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass  目标对象类型
+     * @return {@link Flux}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Flux<Map.Entry<String, T>> hScan(String key, ScanOptions options, Class<T> tClass) {
+        return doHScan(key, options, tClass);
+    }
+
+    /**
+     * 增量迭代哈希表中的键值对, 按订阅方的请求量逐批拉取
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Flux<Map.Entry<String, T>> hScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doHScan(key, options, typeReference.getType());
+    }
+
+    private <T> Flux<Map.Entry<String, T>> doHScan(String key, ScanOptions options, Type type) {
+        return flux(connection -> connection.hashCommands().hScan(rawKey(key), options)).map(entry -> hDeserialize(entry, type));
+    }
+
+    /* ------------------------list相关操作---------------------------- */
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param key   key
+     * @param start 开始位置, 0是开始位置
+     * @param end   结束位置, -1返回所有
+     * @return {@link Flux}<{@link Object}>
+     */
+    public Flux<Object> lRange(String key, long start, long end) {
+        return reactiveRedisTemplate.opsForList().range(key, start, end);
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param key    key
+     * @param start  开始位置, 0是开始位置
+     * @param end    结束位置, -1返回所有
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> lRange(String key, long start, long end, Class<T> tClass) {
+        return doLRange(key, start, end, tClass);
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param key           key
+     * @param start         开始位置, 0是开始位置
+     * @param end           结束位置, -1返回所有
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> lRange(String key, long start, long end, TypeReference<T> typeReference) {
+        return doLRange(key, start, end, typeReference.getType());
+    }
+
+    private <T> Flux<T> doLRange(String key, long start, long end, Type type) {
+        return flux(connection -> connection.listCommands().lRange(rawKey(key), start, end))
+                .handle(this.<T>deserializer(type));
+    }
+
+    /**
+     * 分页读取列表的全部元素, 下游消费完一页后才读取下一页
+     *
+     * @param key      key
+     * @param pageSize 每页数量
+     * @param tClass   目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> lRangePaged(String key, int pageSize, Class<T> tClass) {
+        return paged(pageSize, (start, end) -> doLRange(key, start, end, tClass));
+    }
+
+    /**
+     * 分页读取列表的全部元素, 下游消费完一页后才读取下一页
+     *
+     * @param key           key
+     * @param pageSize      每页数量
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> lRangePaged(String key, int pageSize, TypeReference<T> typeReference) {
+        return paged(pageSize, (start, end) -> doLRange(key, start, end, typeReference.getType()));
+    }
+
+    /**
+     * 存储在list头部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> lLeftPush(String key, Object value) {
+        return reactiveRedisTemplate.opsForList().leftPush(key, value);
+    }
+
+    /**
+     * 存储在list尾部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> lRightPush(String key, Object value) {
+        return reactiveRedisTemplate.opsForList().rightPush(key, value);
+    }
+
+    /**
+     * 移出并获取列表的第一个元素
+     *
+     * @param key    key
+     * @param tClass 目标对象类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> lLeftPop(String key, Class<T> tClass) {
+        return mono(connection -> connection.listCommands().lPop(rawKey(key)))
+                .handle(this.<T>deserializer(tClass));
+    }
+
+    /**
+     * 移除并获取列表最后一个元素
+     *
+     * @param key    key
+     * @param tClass 目标对象类型
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> lRightPop(String key, Class<T> tClass) {
+        return mono(connection -> connection.listCommands().rPop(rawKey(key)))
+                .handle(this.<T>deserializer(tClass));
+    }
+
+    /**
+     * 获取列表长度
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> lLen(String key) {
+        return reactiveRedisTemplate.opsForList().size(key);
+    }
+
+    /* --------------------set相关操作-------------------------- */
+
+    /**
+     * set添加元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> sAdd(String key, Object... values) {
+        return reactiveRedisTemplate.opsForSet().add(key, values);
+    }
+
+    /**
+     * set移除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> sRemove(String key, Object... values) {
+        return reactiveRedisTemplate.opsForSet().remove(key, values);
+    }
+
+    /**
+     * 判断集合是否包含value
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> sIsMember(String key, Object value) {
+        return reactiveRedisTemplate.opsForSet().isMember(key, value);
+    }
+
+    /**
+     * 获取集合的大小
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> sSize(String key) {
+        return reactiveRedisTemplate.opsForSet().size(key);
+    }
+
+    /**
+     * 获取集合所有元素
+     *
+     * @param key    key
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> sMembers(String key, Class<T> tClass) {
+        return flux(connection -> connection.setCommands().sMembers(rawKey(key)))
+                .handle(this.<T>deserializer(tClass));
+    }
+
+    /**
+     * 增量迭代集合元素, 按订阅方的请求量逐批拉取
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass  目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> sScan(String key, ScanOptions options, Class<T> tClass) {
+        return doSScan(key, options, tClass);
+    }
+
+    /**
+     * 增量迭代集合元素, 按订阅方的请求量逐批拉取
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> sScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doSScan(key, options, typeReference.getType());
+    }
+
+    private <T> Flux<T> doSScan(String key, ScanOptions options, Type type) {
+        return flux(connection -> connection.setCommands().sScan(rawKey(key), options))
+                .handle(this.<T>deserializer(type));
+    }
+
+    /*------------------zSet相关操作--------------------------------*/
+
+    /**
+     * 添加元素,有序集合是按照元素的score值由小到大排列
+     *
+     * @param key   key
+     * @param value 值
+     * @param score 分数
+     * @return {@link Mono}<{@link Boolean}>
+     */
+    public Mono<Boolean> zAdd(String key, Object value, double score) {
+        return reactiveRedisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    /**
+     * 移除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> zRemove(String key, Object... values) {
+        return reactiveRedisTemplate.opsForZSet().remove(key, values);
+    }
+
+    /**
+     * 获取集合中value元素的score值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link Mono}<{@link Double}>
+     */
+    public Mono<Double> zScore(String key, Object value) {
+        return reactiveRedisTemplate.opsForZSet().score(key, value);
+    }
+
+    /**
+     * 获取集合大小
+     *
+     * @param key key
+     * @return {@link Mono}<{@link Long}>
+     */
+    public Mono<Long> zSize(String key) {
+        return reactiveRedisTemplate.opsForZSet().size(key);
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param key    key
+     * @param start  开始位置
+     * @param end    结束位置, -1查询所有
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> zRange(String key, long start, long end, Class<T> tClass) {
+        return doZRange(key, start, end, tClass);
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param key           key
+     * @param start         开始位置
+     * @param end           结束位置, -1查询所有
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> zRange(String key, long start, long end, TypeReference<T> typeReference) {
+        return doZRange(key, start, end, typeReference.getType());
+    }
+
+    private <T> Flux<T> doZRange(String key, long start, long end, Type type) {
+        return flux(connection -> connection.zSetCommands().zRange(rawKey(key), Range.closed(start, end)))
+                .handle(this.<T>deserializer(type));
+    }
+
+    /**
+     * 分页读取有序集合的全部元素, 从小到大排序, 下游消费完一页后才读取下一页
+     *
+     * @param key      key
+     * @param pageSize 每页数量
+     * @param tClass   目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> zRangePaged(String key, int pageSize, Class<T> tClass) {
+        return paged(pageSize, (start, end) -> doZRange(key, start, end, tClass));
+    }
+
+    /**
+     * 获取集合元素, 并且把score值也获取
+     *
+     * @param key    key
+     * @param start  开始位置
+     * @param end    结束位置, -1查询所有
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link TypedTuple}<{@link T}>>
+     */
+    public <T> Flux<TypedTuple<T>> zRangeWithScores(String key, long start, long end, Class<T> tClass) {
+        return flux(connection -> connection.zSetCommands().zRangeWithScores(rawKey(key), Range.closed(start, end)))
+                .map(tuple -> deserialize(tuple, tClass));
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key    key
+     * @param min    最小值
+     * @param max    最大值
+     * @param tClass 目标对象类型
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> zRangeByScore(String key, double min, double max, Class<T> tClass) {
+        return flux(connection -> connection.zSetCommands().zRangeByScore(rawKey(key), Range.closed(min, max)))
+                .handle(this.<T>deserializer(tClass));
+    }
+
+    /**
+     * 增量迭代有序集合元素, 按订阅方的请求量逐批拉取
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass  目标对象类型
+     * @return {@link Flux}<{@link TypedTuple}<{@link T}>>
+     */
+    public <T> Flux<TypedTuple<T>> zScan(String key, ScanOptions options, Class<T> tClass) {
+        return doZScan(key, options, tClass);
+    }
+
+    /**
+     * 增量迭代有序集合元素, 按订阅方的请求量逐批拉取
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 目标对象类型
+     * @return {@link Flux}<{@link TypedTuple}<{@link T}>>
+     */
+    public <T> Flux<TypedTuple<T>> zScan(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doZScan(key, options, typeReference.getType());
+    }
+
+    private <T> Flux<TypedTuple<T>> doZScan(String key, ScanOptions options, Type type) {
+        return flux(connection -> connection.zSetCommands().zScan(rawKey(key), options)).map(tuple -> deserialize(tuple, type));
+    }
+
+    /* -------------------字节转换------------------------- */
+
+    private <T> Flux<T> flux(ReactiveRedisCallback<T> callback) {
+        return reactiveRedisTemplate.createFlux(callback);
+    }
+
+    private <T> Mono<T> mono(ReactiveRedisCallback<T> callback) {
+        return reactiveRedisTemplate.createMono(callback);
+    }
+
+    /**
+     * 按页读取 [0, -1] 范围, 读到不足一页时结束; 按下游需求读取, 至多预读一页
+     *
+     * @param pageSize 每页数量
+     * @param page     按范围读取一页
+     * @return {@link Flux}<{@link T}>
+     */
+    static <T> Flux<T> paged(int pageSize, BiFunction<Long, Long, Flux<T>> page) {
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+        return Flux.<Long, Long>generate(() -> 0L, (offset, sink) -> {
+                    sink.next(offset);
+                    return offset + pageSize;
+                })
+                .concatMap(offset -> page.apply(offset, offset + pageSize - 1).collectList(), 1)
+                .takeUntil(list -> list.size() < pageSize)
+                // 默认预取 256 页, 下游只取少量元素时也会读取大量页面
+                .concatMapIterable(list -> list, 1);
+    }
+
+    private ByteBuffer rawKey(String key) {
+        return ByteBuffer.wrap(keySerializer.serialize(key));
+    }
+
+    private ByteBuffer rawHashKey(String hashKey) {
+        return ByteBuffer.wrap(hashKeySerializer.serialize(hashKey));
+    }
+
+    /**
+     * 反序列化为 null 的值(如 JSON 中的 null)跳过, Reactor 不允许发出 null
+     */
+    private <T> BiConsumer<ByteBuffer, SynchronousSink<T>> deserializer(Type type) {
+        return (buffer, sink) -> {
+            T value = deserialize(buffer, type);
+            if (value != null) {
+                sink.next(value);
+            }
+        };
+    }
+
+    private <T> BiConsumer<ByteBuffer, SynchronousSink<T>> hDeserializer(Type type) {
+        return (buffer, sink) -> {
+            T value = hDeserialize(buffer, type);
+            if (value != null) {
+                sink.next(value);
+            }
+        };
+    }
+
+    private <T> T deserialize(ByteBuffer buffer, Type type) {
+        return RedisUtils.deserialize(valueSerializer, ByteUtils.getBytes(buffer), type);
+    }
+
+    private <T> T hDeserialize(ByteBuffer buffer, Type type) {
+        return RedisUtils.deserialize(hashValueSerializer, ByteUtils.getBytes(buffer), type);
+    }
+
+    private <T> Map.Entry<String, T> hDeserialize(Map.Entry<ByteBuffer, ByteBuffer> entry, Type type) {
+        return new AbstractMap.SimpleImmutableEntry<>(hashKeySerializer.deserialize(ByteUtils.getBytes(entry.getKey())),
+                hDeserialize(entry.getValue(), type));
+    }
+
+    private <T> TypedTuple<T> deserialize(Tuple tuple, Type type) {
+        return TypedTuple.of(RedisUtils.deserialize(valueSerializer, tuple.getValue(), type), tuple.getScore());
+    }
+
+}
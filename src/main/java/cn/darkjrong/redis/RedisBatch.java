@@ -0,0 +1,471 @@
+package cn.darkjrong.redis;
+
+import com.alibaba.fastjson.TypeReference;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.TimeoutUtils;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis 批量操作, 所有命令在一次管道(pipeline)中发送, 结果按添加顺序返回
+ * <pre>
+ * List&lt;Object&gt; results = redisUtils.batch()
+ *         .set("a", 1)
+ *         .hPut("h", "f", person)
+ *         .expire("h", 1, TimeUnit.HOURS)
+ *         .get("b", Person.class)
+ *         .execute();
+ * </pre>
+ * 无返回值的命令(如 hPutAll、lTrim)在结果中对应 null
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@SuppressWarnings("ALL")
+public class RedisBatch {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final List<Command> commands = new ArrayList<>();
+
+    RedisBatch(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /* -------------------key相关操作--------------------- */
+
+    /**
+     * 删除key
+     *
+     * @param key key
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch delete(String key) {
+        return add(connection -> connection.keyCommands().del(rawKey(key)));
+    }
+
+    /**
+     * 非阻塞删除key
+     *
+     * @param key key
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch unlink(String key) {
+        return add(connection -> connection.keyCommands().unlink(rawKey(key)));
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key     key
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch expire(String key, long timeout, TimeUnit unit) {
+        return add(connection -> connection.keyCommands().pExpire(rawKey(key), TimeoutUtils.toMillis(timeout, unit)));
+    }
+
+    /**
+     * 是否存在key
+     *
+     * @param key key
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hasKey(String key) {
+        return add(connection -> connection.keyCommands().exists(rawKey(key)));
+    }
+
+    /* -------------------string相关操作--------------------- */
+
+    /**
+     * 设置指定 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch set(String key, Object value) {
+        return add(connection -> connection.stringCommands().set(rawKey(key), rawValue(value)));
+    }
+
+    /**
+     * 将值 value 关联到 key ，并将 key 的过期时间设为 timeout
+     *
+     * @param key     key
+     * @param value   值
+     * @param timeout 过期时间
+     * @param unit    时间单位
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch setEx(String key, Object value, long timeout, TimeUnit unit) {
+        return add(connection -> connection.stringCommands().set(rawKey(key), rawValue(value),
+                Expiration.from(timeout, unit), SetOption.upsert()));
+    }
+
+    /**
+     * 只有在 key 不存在时设置 key 的值
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch setIfAbsent(String key, Object value) {
+        return add(connection -> connection.stringCommands().setNX(rawKey(key), rawValue(value)));
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key key
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch get(String key) {
+        return add(connection -> connection.stringCommands().get(rawKey(key)),
+                a -> redisTemplate.getValueSerializer().deserialize((byte[]) a));
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key    key
+     * @param tClass 返回值类型
+     * @return {@link RedisBatch}
+     */
+    public <T> RedisBatch get(String key, Class<T> tClass) {
+        return get(key, (Type) tClass);
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key            key
+     * @param tTypeReference 返回值类型
+     * @return {@link RedisBatch}
+     */
+    public <T> RedisBatch get(String key, TypeReference<T> tTypeReference) {
+        return get(key, tTypeReference.getType());
+    }
+
+    private RedisBatch get(String key, Type type) {
+        return add(connection -> connection.stringCommands().get(rawKey(key)),
+                a -> RedisUtils.deserialize(redisTemplate.getValueSerializer(), (byte[]) a, type));
+    }
+
+    /**
+     * 增加(自增长), 负数则为自减
+     *
+     * @param key       key
+     * @param increment 增量
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch increment(String key, long increment) {
+        return add(connection -> connection.stringCommands().incrBy(rawKey(key), increment));
+    }
+
+    /* -------------------hash相关操作------------------------- */
+
+    /**
+     * 指定hashKey存储指定值
+     *
+     * @param key     key
+     * @param hashKey 哈希key
+     * @param value   值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hPut(String key, String hashKey, Object value) {
+        return add(connection -> connection.hashCommands().hSet(rawKey(key), rawHashKey(hashKey), rawHashValue(value)));
+    }
+
+    /**
+     * 指定Key存储所有的值, 无返回值
+     *
+     * @param key  key
+     * @param maps 数据
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hPutAll(String key, Map<String, Object> maps) {
+        Map<byte[], byte[]> hashes = new LinkedHashMap<>(maps.size());
+        maps.forEach((k, v) -> hashes.put(rawHashKey(k), rawHashValue(v)));
+        return addVoid(connection -> connection.hashCommands().hMSet(rawKey(key), hashes));
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key   key
+     * @param field 字段名
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hGet(String key, String field) {
+        return add(connection -> connection.hashCommands().hGet(rawKey(key), rawHashKey(field)),
+                a -> redisTemplate.getHashValueSerializer().deserialize((byte[]) a));
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key    key
+     * @param field  字段名
+     * @param tClass 目标对象类型
+     * @return {@link RedisBatch}
+     */
+    public <T> RedisBatch hGet(String key, String field, Class<T> tClass) {
+        return hGet(key, field, (Type) tClass);
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key            key
+     * @param field          字段名
+     * @param tTypeReference 目标对象类型
+     * @return {@link RedisBatch}
+     */
+    public <T> RedisBatch hGet(String key, String field, TypeReference<T> tTypeReference) {
+        return hGet(key, field, tTypeReference.getType());
+    }
+
+    private RedisBatch hGet(String key, String field, Type type) {
+        return add(connection -> connection.hashCommands().hGet(rawKey(key), rawHashKey(field)),
+                a -> RedisUtils.deserialize(redisTemplate.getHashValueSerializer(), (byte[]) a, type));
+    }
+
+    /**
+     * 删除一个或多个哈希表字段
+     *
+     * @param key    key
+     * @param fields 字段
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hDelete(String key, String... fields) {
+        byte[][] rawFields = Arrays.stream(fields).map(this::rawHashKey).toArray(byte[][]::new);
+        return add(connection -> connection.hashCommands().hDel(rawKey(key), rawFields));
+    }
+
+    /**
+     * 为哈希表 key 中的指定字段的整数值加上增量 increment
+     *
+     * @param key       key
+     * @param field     字段
+     * @param increment 增量
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch hIncrement(String key, String field, long increment) {
+        return add(connection -> connection.hashCommands().hIncrBy(rawKey(key), rawHashKey(field), increment));
+    }
+
+    /* ------------------------list相关操作---------------------------- */
+
+    /**
+     * 存储在list头部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch lLeftPush(String key, Object value) {
+        return add(connection -> connection.listCommands().lPush(rawKey(key), rawValue(value)));
+    }
+
+    /**
+     * 存储在list尾部
+     *
+     * @param key   key
+     * @param value 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch lRightPush(String key, Object value) {
+        return add(connection -> connection.listCommands().rPush(rawKey(key), rawValue(value)));
+    }
+
+    /**
+     * 在list尾部存储所有值
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch lRightPushAll(String key, Object... values) {
+        byte[][] rawValues = rawValues(values);
+        return add(connection -> connection.listCommands().rPush(rawKey(key), rawValues));
+    }
+
+    /**
+     * 裁剪list, 无返回值
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch lTrim(String key, long start, long end) {
+        return addVoid(connection -> connection.listCommands().lTrim(rawKey(key), start, end));
+    }
+
+    /* --------------------set相关操作-------------------------- */
+
+    /**
+     * set添加元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch sAdd(String key, Object... values) {
+        byte[][] rawValues = rawValues(values);
+        return add(connection -> connection.setCommands().sAdd(rawKey(key), rawValues));
+    }
+
+    /**
+     * set移除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch sRemove(String key, Object... values) {
+        byte[][] rawValues = rawValues(values);
+        return add(connection -> connection.setCommands().sRem(rawKey(key), rawValues));
+    }
+
+    /*------------------zSet相关操作--------------------------------*/
+
+    /**
+     * 添加元素,有序集合是按照元素的score值由小到大排列
+     *
+     * @param key   key
+     * @param value 值
+     * @param score 分数
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch zAdd(String key, Object value, double score) {
+        return add(connection -> connection.zSetCommands().zAdd(rawKey(key), score, rawValue(value)));
+    }
+
+    /**
+     * 增加元素的score值
+     *
+     * @param key   key
+     * @param value 值
+     * @param delta 增量
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch zIncrementScore(String key, Object value, double delta) {
+        return add(connection -> connection.zSetCommands().zIncrBy(rawKey(key), delta, rawValue(value)));
+    }
+
+    /**
+     * zSet删除元素
+     *
+     * @param key    key
+     * @param values 值
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch zRemove(String key, Object... values) {
+        byte[][] rawValues = rawValues(values);
+        return add(connection -> connection.zSetCommands().zRem(rawKey(key), rawValues));
+    }
+
+    /* -------------------执行--------------------- */
+
+    /**
+     * 已添加的命令数
+     *
+     * @return int
+     */
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * 在一次管道中执行所有命令
+     *
+     * @return {@link List}<{@link Object}> 与命令添加顺序一致的结果
+     */
+    public List<Object> execute() {
+        if (commands.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Command> snapshot = new ArrayList<>(commands);
+        List<Object> rawResults = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            snapshot.forEach(a -> a.command.accept(connection));
+            return null;
+        }, null);
+
+        List<Object> results = new ArrayList<>(snapshot.size());
+        Iterator<Object> iterator = rawResults.iterator();
+        for (Command command : snapshot) {
+            if (!command.hasResult) {
+                results.add(null);
+                continue;
+            }
+            Object result = iterator.hasNext() ? iterator.next() : null;
+            results.add(result == null ? null : command.converter.apply(result));
+        }
+        return results;
+    }
+
+    private RedisBatch add(Consumer<RedisConnection> command) {
+        return add(command, Function.identity());
+    }
+
+    private RedisBatch add(Consumer<RedisConnection> command, Function<Object, Object> converter) {
+        commands.add(new Command(command, converter, true));
+        return this;
+    }
+
+    private RedisBatch addVoid(Consumer<RedisConnection> command) {
+        commands.add(new Command(command, Function.identity(), false));
+        return this;
+    }
+
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    private byte[][] rawValues(Object... values) {
+        return Arrays.stream(values).map(this::rawValue).toArray(byte[][]::new);
+    }
+
+    private byte[] rawHashKey(String hashKey) {
+        return ((RedisSerializer<String>) redisTemplate.getHashKeySerializer()).serialize(hashKey);
+    }
+
+    private byte[] rawHashValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getHashValueSerializer()).serialize(value);
+    }
+
+    /**
+     * 管道命令
+     */
+    private static class Command {
+
+        private final Consumer<RedisConnection> command;
+        private final Function<Object, Object> converter;
+
+        /**
+         * 是否有返回值, 无返回值(status)的命令不会出现在管道结果中
+         */
+        private final boolean hasResult;
+
+        Command(Consumer<RedisConnection> command, Function<Object, Object> converter, boolean hasResult) {
+            this.command = command;
+            this.converter = converter;
+            this.hasResult = hasResult;
+        }
+    }
+
+}
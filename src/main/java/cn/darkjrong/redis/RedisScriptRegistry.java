@@ -0,0 +1,335 @@
+package cn.darkjrong.redis;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.HexUtil;
+import com.alibaba.fastjson.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lua 脚本注册表
+ * <p>
+ * 从类路径(默认 redis/scripts/*.lua)加载脚本, 以文件名(不含扩展名)作为脚本名称, 注册时预先计算 SHA1.
+ * 执行时使用 EVALSHA, 服务端返回 NOSCRIPT(如重启、SCRIPT FLUSH、故障转移后)时自动 SCRIPT LOAD 后重试.
+ * <p>
+ * 参数绑定: byte[] 原样传递; 字符串、数字、布尔、枚举按文本传递, 便于在脚本中直接使用 tonumber 等;
+ * 其他对象及 {@link #value(Object)} 包装的参数使用 RedisTemplate 的 value 序列化器, 与 RedisUtils 写入的值一致.
+ * <p>
+ * 结果绑定: Long/Integer 等整数类型对应整数返回值, Boolean 对应 Lua true/false, List 对应数组(元素按泛型绑定),
+ * String 与 Double 等按文本解析, 其他类型使用 value 序列化器反序列化
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@SuppressWarnings("unchecked")
+public class RedisScriptRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisScriptRegistry.class);
+
+    private static final String SCRIPT_SUFFIX = ".lua";
+    private static final String NO_SCRIPT = "NOSCRIPT";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, Script> scripts = new ConcurrentHashMap<>();
+
+    public RedisScriptRegistry(RedisTemplate<String, Object> redisTemplate) {
+        Assert.notNull(redisTemplate, "redisTemplate must not be null");
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 加载类路径下的脚本
+     *
+     * @param locationPattern 资源路径模式, 如 classpath*:redis/scripts/*.lua
+     * @return 加载的脚本数量
+     */
+    public int load(String locationPattern) {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver(ClassUtils.getDefaultClassLoader()).getResources(locationPattern);
+        } catch (IOException e) {
+            throw new IllegalStateException("Load Redis scripts from [" + locationPattern + "] failed", e);
+        }
+        int count = 0;
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename != null && filename.endsWith(SCRIPT_SUFFIX)) {
+                register(filename.substring(0, filename.length() - SCRIPT_SUFFIX.length()), resource);
+                count++;
+            }
+        }
+        logger.debug("Loaded {} Redis scripts from [{}]", count, locationPattern);
+        return count;
+    }
+
+    /**
+     * 注册脚本
+     *
+     * @param name     脚本名称
+     * @param resource 脚本资源
+     */
+    public void register(String name, Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            register(name, StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Read Redis script [" + resource + "] failed", e);
+        }
+    }
+
+    /**
+     * 注册脚本, 同名且内容不同的脚本不允许重复注册
+     *
+     * @param name   脚本名称
+     * @param source 脚本内容
+     */
+    public void register(String name, String source) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.hasText(source, "source must not be empty");
+        Script script = new Script(source);
+        Script previous = scripts.putIfAbsent(name, script);
+        if (previous != null && !previous.sha1.equals(script.sha1)) {
+            throw new IllegalStateException("Duplicate Redis script [" + name + "] with different content");
+        }
+    }
+
+    /**
+     * 是否存在脚本
+     *
+     * @param name 脚本名称
+     * @return boolean
+     */
+    public boolean contains(String name) {
+        return scripts.containsKey(name);
+    }
+
+    /**
+     * 已注册的脚本名称
+     *
+     * @return {@link Set}<{@link String}>
+     */
+    public Set<String> getScriptNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(scripts.keySet()));
+    }
+
+    /**
+     * 获取脚本的 SHA1
+     *
+     * @param name 脚本名称
+     * @return SHA1
+     */
+    public String getSha1(String name) {
+        return script(name).sha1;
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param name       脚本名称
+     * @param resultType 返回值类型
+     * @param keys       key, 对应脚本中的 KEYS
+     * @param args       参数, 对应脚本中的 ARGV
+     * @return {@link T} 返回值
+     */
+    public <T> T execute(String name, Class<T> resultType, List<String> keys, Object... args) {
+        return doExecute(name, resultType, keys, args);
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param name       脚本名称
+     * @param resultType 返回值类型
+     * @param keys       key, 对应脚本中的 KEYS
+     * @param args       参数, 对应脚本中的 ARGV
+     * @return {@link T} 返回值
+     */
+    public <T> T execute(String name, TypeReference<T> resultType, List<String> keys, Object... args) {
+        return doExecute(name, resultType.getType(), keys, args);
+    }
+
+    /**
+     * 包装参数, 使其使用 value 序列化器序列化(如需与 RedisUtils 写入的字符串值保持一致时)
+     *
+     * @param value 参数
+     * @return 包装后的参数
+     */
+    public static Object value(Object value) {
+        return new SerializedValue(value);
+    }
+
+    private <T> T doExecute(String name, Type resultType, List<String> keys, Object[] args) {
+        Script script = script(name);
+        ReturnType returnType = returnType(resultType);
+        int numKeys = keys == null ? 0 : keys.size();
+        byte[][] keysAndArgs = new byte[numKeys + args.length][];
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        for (int i = 0; i < numKeys; i++) {
+            keysAndArgs[i] = keySerializer.serialize(keys.get(i));
+        }
+        for (int i = 0; i < args.length; i++) {
+            keysAndArgs[numKeys + i] = rawArg(args[i]);
+        }
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection ->
+                eval(connection, script, returnType, numKeys, keysAndArgs));
+        return (T) convert(result, resultType);
+    }
+
+    /**
+     * 优先 EVALSHA, 脚本未缓存时 SCRIPT LOAD 后重试
+     * <p>
+     * 驱动按平台默认字符集传输脚本, 含非 ASCII 字符(如中文注释)的脚本在非 UTF-8 环境下服务端计算的 SHA1 与本地不同,
+     * 因此以 SCRIPT LOAD 返回的 SHA1 为准, 否则每次 EVALSHA 都会失败
+     */
+    private static Object eval(RedisConnection connection, Script script, ReturnType returnType, int numKeys, byte[][] keysAndArgs) {
+        String sha1 = script.serverSha1;
+        try {
+            return connection.scriptingCommands().evalSha(sha1, returnType, numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            logger.debug("Redis script [{}] is not cached by server, load it", sha1);
+            String loaded = connection.scriptingCommands().scriptLoad(script.source);
+            if (loaded == null) {
+                return connection.scriptingCommands().eval(script.source, returnType, numKeys, keysAndArgs);
+            }
+            script.serverSha1 = loaded;
+            return connection.scriptingCommands().evalSha(loaded, returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Script script(String name) {
+        Script script = scripts.get(name);
+        Assert.notNull(script, () -> "Redis script [" + name + "] is not registered");
+        return script;
+    }
+
+    private byte[] rawArg(@Nullable Object arg) {
+        if (arg == null) {
+            return new byte[0];
+        }
+        if (arg instanceof byte[]) {
+            return (byte[]) arg;
+        }
+        if (arg instanceof SerializedValue) {
+            return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(((SerializedValue) arg).value);
+        }
+        if (arg instanceof BigDecimal) {
+            return ((BigDecimal) arg).toPlainString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (arg instanceof CharSequence || arg instanceof Number || arg instanceof Boolean || arg instanceof Character) {
+            return arg.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (arg instanceof Enum) {
+            return ((Enum<?>) arg).name().getBytes(StandardCharsets.UTF_8);
+        }
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(arg);
+    }
+
+    private static ReturnType returnType(Type type) {
+        Class<?> rawType = ClassUtils.resolvePrimitiveIfNecessary(ResolvableType.forType(type).resolve(Object.class));
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return ReturnType.MULTI;
+        }
+        if (rawType == Boolean.class) {
+            return ReturnType.BOOLEAN;
+        }
+        if (rawType == Long.class || rawType == Integer.class || rawType == Short.class || rawType == Byte.class) {
+            return ReturnType.INTEGER;
+        }
+        return ReturnType.VALUE;
+    }
+
+    private Object convert(@Nullable Object result, Type type) {
+        if (result == null) {
+            return null;
+        }
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        Class<?> rawType = ClassUtils.resolvePrimitiveIfNecessary(resolvableType.resolve(Object.class));
+        if (result instanceof List) {
+            ResolvableType generic = resolvableType.asCollection().getGeneric(0);
+            Type elementType = generic == ResolvableType.NONE ? Object.class : generic.getType();
+            List<Object> values = new ArrayList<>(((List<?>) result).size());
+            for (Object element : (List<?>) result) {
+                values.add(convert(element, elementType));
+            }
+            return Set.class.isAssignableFrom(rawType) ? new LinkedHashSet<>(values) : values;
+        }
+        if (result instanceof byte[]) {
+            byte[] bytes = (byte[]) result;
+            if (rawType == String.class || Number.class.isAssignableFrom(rawType)) {
+                return Convert.convert(rawType, new String(bytes, StandardCharsets.UTF_8));
+            }
+            return RedisUtils.deserialize(redisTemplate.getValueSerializer(), bytes, type);
+        }
+        return rawType == Object.class ? result : Convert.convert(rawType, result);
+    }
+
+    /**
+     * 已注册的脚本
+     */
+    private static final class Script {
+
+        private final byte[] source;
+        private final String sha1;
+        private volatile String serverSha1;
+
+        Script(String source) {
+            this.source = source.getBytes(StandardCharsets.UTF_8);
+            this.sha1 = sha1(this.source);
+            this.serverSha1 = sha1;
+        }
+
+        private static String sha1(byte[] source) {
+            try {
+                return HexUtil.encodeHexStr(MessageDigest.getInstance("SHA-1").digest(source));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 使用 value 序列化器序列化的参数
+     */
+    private static final class SerializedValue {
+
+        private final Object value;
+
+        SerializedValue(Object value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -1,16 +1,33 @@
 package cn.darkjrong.redis;
 
+import cn.darkjrong.redis.configuration.serializer.RedisValueSerializer;
 import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.util.ObjectUtil;
 import com.alibaba.fastjson.TypeReference;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.TimeoutUtils;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Redis工具类
@@ -19,9 +36,18 @@ import java.util.stream.Collectors;
  * @date 2019/04/22 14:02:22
  */
 @SuppressWarnings("ALL")
-public class RedisUtils {
+public class RedisUtils implements DisposableBean {
+
+    private final Set<QueueConsumer> consumers = ConcurrentHashMap.newKeySet();
+    private volatile boolean destroyed = false;
 
     private RedisTemplate<String, Object> redisTemplate;
+    private RedisCommandCoalescer commandCoalescer;
+    private KeyspaceScanner keyspaceScanner;
+    private boolean safeMode = false;
+    private long scanCount = 1000;
+    private boolean virtualThreads = true;
+    private Duration queuePollTimeout = Duration.ofSeconds(1);
 
     public void setRedisTemplate(RedisTemplate<String, Object> redisTemplate) {
         this.redisTemplate = redisTemplate;
@@ -31,6 +57,60 @@ public class RedisUtils {
         return this.redisTemplate;
     }
 
+    /**
+     * 设置读命令合并器, 设置后 get/hGet 的单 key 读取将被合并执行
+     *
+     * @param commandCoalescer 读命令合并器
+     */
+    public void setCommandCoalescer(RedisCommandCoalescer commandCoalescer) {
+        this.commandCoalescer = commandCoalescer;
+    }
+
+    /**
+     * 设置全库 key 扫描器, 设置后 SCAN 在集群模式下按主节点并行执行
+     *
+     * @param keyspaceScanner 全库 key 扫描器
+     */
+    public void setKeyspaceScanner(KeyspaceScanner keyspaceScanner) {
+        this.keyspaceScanner = keyspaceScanner;
+    }
+
+    /**
+     * 设置安全模式, 开启后 {@link #keys(String)} 使用 SCAN 代替阻塞的 KEYS
+     *
+     * @param safeMode 是否开启
+     */
+    public void setSafeMode(boolean safeMode) {
+        this.safeMode = safeMode;
+    }
+
+    /**
+     * 设置安全模式下每次 SCAN 的数量提示
+     *
+     * @param scanCount 数量提示
+     */
+    public void setScanCount(long scanCount) {
+        this.scanCount = scanCount;
+    }
+
+    /**
+     * 设置队列消费者是否优先使用虚拟线程(JDK 21+)
+     *
+     * @param virtualThreads 是否优先使用虚拟线程
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 设置队列消费者每次 BLPOP 的阻塞时间
+     *
+     * @param queuePollTimeout 阻塞时间, 最小1秒
+     */
+    public void setQueuePollTimeout(Duration queuePollTimeout) {
+        this.queuePollTimeout = queuePollTimeout;
+    }
+
     /* -------------------key相关操作--------------------- */
 
     /**
@@ -51,6 +131,54 @@ public class RedisUtils {
         redisTemplate.delete(keys);
     }
 
+    /**
+     * 非阻塞删除key, 内存由 Redis 在后台线程释放
+     *
+     * @param key Key
+     * @return {@link Boolean}
+     */
+    public Boolean unlink(String key) {
+        return redisTemplate.unlink(key);
+    }
+
+    /**
+     * 批量非阻塞删除key, 内存由 Redis 在后台线程释放
+     *
+     * @param keys Key集合
+     * @return {@link Long} 删除的数量
+     */
+    public Long unlink(Collection<String> keys) {
+        return redisTemplate.unlink(keys);
+    }
+
+    /**
+     * 按匹配模式删除key, 使用 SCAN 遍历并以 UNLINK 分批删除, 不阻塞 Redis
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量
+     * @return long 删除的数量
+     */
+    public long deleteByPattern(String pattern, int batchSize) {
+        return deleteByPattern(pattern, batchSize, null);
+    }
+
+    /**
+     * 按匹配模式删除key, 使用 SCAN 遍历并以 UNLINK 分批删除, 每批在一次管道中执行, 不阻塞 Redis
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量
+     * @param pause     每批之间的停顿(限流), 为null时不停顿
+     * @return long 删除的数量
+     */
+    public long deleteByPattern(String pattern, int batchSize, @Nullable Duration pause) {
+        if (keyspaceScanner != null) {
+            return keyspaceScanner.unlink(pattern, scanCount, batchSize, pause);
+        }
+        try (KeyspaceScanner scanner = new KeyspaceScanner(redisTemplate, 1)) {
+            return scanner.unlink(pattern, scanCount, batchSize, pause);
+        }
+    }
+
     /**
      * 序列化key
      *
@@ -83,6 +211,19 @@ public class RedisUtils {
         return redisTemplate.expire(key, timeout, unit);
     }
 
+    /**
+     * 设置过期时间, 并增加随机抖动, 使批量设置的 key 分散过期
+     *
+     * @param key     key
+     * @param timeout 超时时间
+     * @param unit    单位
+     * @param jitter  抖动比例, 如 0.1 表示 ±10%
+     * @return {@link Boolean}
+     */
+    public Boolean expire(String key, long timeout, TimeUnit unit, double jitter) {
+        return redisTemplate.expire(key, TtlUtils.jitter(unit.toMillis(timeout), jitter), TimeUnit.MILLISECONDS);
+    }
+
     /**
      * 设置过期时间
      *
@@ -95,15 +236,37 @@ public class RedisUtils {
     }
 
     /**
-     * 查找匹配的key
+     * 查找匹配的key, 安全模式下使用 SCAN 实现
      *
      * @param pattern 匹配模式
      * @return {@link Set}<{@link String}>
      */
     public Set<String> keys(String pattern) {
+        if (safeMode) {
+            try (Stream<String> keys = scanKeys(pattern, scanCount)) {
+                return keys.collect(Collectors.toCollection(LinkedHashSet::new));
+            }
+        }
         return redisTemplate.keys(pattern);
     }
 
+    /**
+     * 使用 SCAN 增量遍历匹配的key, 不阻塞 Redis; 结果可能包含重复的 key
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭, 如: {@code try (Stream<String> keys = scanKeys("user:*", 1000)) {...}}
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的数量提示
+     * @return {@link Stream}<{@link String}>
+     */
+    public Stream<String> scanKeys(String pattern, long count) {
+        if (keyspaceScanner != null) {
+            return keyspaceScanner.scan(pattern, count);
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        return redisTemplate.scan(options).stream();
+    }
+
     /**
      * 将当前数据库的 key 移动到给定的数据库 db 当中
      *
@@ -205,6 +368,9 @@ public class RedisUtils {
      * @return {@link Object}
      */
     public Object get(String key) {
+        if (commandCoalescer != null) {
+            return redisTemplate.getValueSerializer().deserialize(rawGet(key));
+        }
         return redisTemplate.opsForValue().get(key);
     }
 
@@ -216,7 +382,7 @@ public class RedisUtils {
      * @return {@link T} 返回值
      */
     public <T> T get(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(get(key), tClass);
+        return doGet(key, tClass);
     }
 
     /**
@@ -227,7 +393,31 @@ public class RedisUtils {
      * @return {@link T} 返回值
      */
     public <T> T get(String key, TypeReference<T> tTypeReference) {
-        return BeanUtils.copyProperties(get(key), tTypeReference);
+        return doGet(key, tTypeReference.getType());
+    }
+
+    /**
+     * 获取指定 key 的值
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doGet(String key, Type type) {
+        return deserialize(rawGet(key), type);
+    }
+
+    /**
+     * 获取指定 key 的原始值
+     *
+     * @param key key
+     * @return {@link byte[]}
+     */
+    private byte[] rawGet(String key) {
+        if (commandCoalescer != null) {
+            return commandCoalescer.await(commandCoalescer.get(rawKey(key)));
+        }
+        return execute(connection -> connection.stringCommands().get(rawKey(key)));
     }
 
     /**
@@ -283,8 +473,7 @@ public class RedisUtils {
      * @return {@link List}<{@link Object}>
      */
     public <T> List<T> multiGet(Collection<String> keys, Class<T> tClass) {
-        List<Object> objects = redisTemplate.opsForValue().multiGet(keys);
-        return BeanUtils.copyProperties(objects, tClass);
+        return doMultiGet(keys, tClass);
     }
 
     /**
@@ -296,8 +485,21 @@ public class RedisUtils {
      * @return {@link List}<{@link Object}>
      */
     public <T> List<T> multiGet(Collection<String> keys, TypeReference<T> tTypeReference) {
-        List<Object> objects = redisTemplate.opsForValue().multiGet(keys);
-        return BeanUtils.copyProperties(objects, tTypeReference);
+        return doMultiGet(keys, tTypeReference.getType());
+    }
+
+    /**
+     * 批量获取
+     *
+     * @param keys keys
+     * @param type 目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doMultiGet(Collection<String> keys, Type type) {
+        if (CollectionUtil.isEmpty(keys)) {
+            return Collections.emptyList();
+        }
+        return deserializeList(execute(connection -> connection.stringCommands().mGet(rawKeys(keys))), type);
     }
 
     /**
@@ -325,6 +527,19 @@ public class RedisUtils {
         redisTemplate.opsForValue().set(key, value, timeout, unit);
     }
 
+    /**
+     * 将值 value 关联到 key ，并将 key 的过期时间设为 timeout 加随机抖动, 使批量写入的 key 分散过期
+     *
+     * @param key     key
+     * @param value   值
+     * @param timeout 过期时间
+     * @param unit    时间单位
+     * @param jitter  抖动比例, 如 0.1 表示 ±10%
+     */
+    public void setEx(String key, Object value, long timeout, TimeUnit unit, double jitter) {
+        redisTemplate.opsForValue().set(key, value, TtlUtils.jitter(unit.toMillis(timeout), jitter), TimeUnit.MILLISECONDS);
+    }
+
     /**
      * 只有在 key 不存在时设置 key 的值
      *
@@ -450,6 +665,9 @@ public class RedisUtils {
      * @return {@link Object}
      */
     public Object hGet(String key, String field) {
+        if (commandCoalescer != null) {
+            return redisTemplate.getHashValueSerializer().deserialize(rawHGet(key, field));
+        }
         return redisTemplate.opsForHash().get(key, field);
     }
 
@@ -463,7 +681,7 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T hGet(String key, String field, Class<T> tClass) {
-        return BeanUtils.copyProperties(hGet(key, field), tClass);
+        return doHGet(key, field, tClass);
     }
 
     /**
@@ -476,7 +694,33 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T hGet(String key, String field, TypeReference<T> tTypeReference) {
-        return BeanUtils.copyProperties(hGet(key, field), tTypeReference);
+        return doHGet(key, field, tTypeReference.getType());
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的值
+     *
+     * @param key   key
+     * @param field 字段名
+     * @param type  目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doHGet(String key, String field, Type type) {
+        return hDeserialize(rawHGet(key, field), type);
+    }
+
+    /**
+     * 获取存储在哈希表中指定字段的原始值
+     *
+     * @param key   key
+     * @param field 字段名
+     * @return {@link byte[]}
+     */
+    private byte[] rawHGet(String key, String field) {
+        if (commandCoalescer != null) {
+            return commandCoalescer.await(commandCoalescer.hGet(rawKey(key), rawHashKey(field)));
+        }
+        return execute(connection -> connection.hashCommands().hGet(rawKey(key), rawHashKey(field)));
     }
 
     /**
@@ -497,7 +741,7 @@ public class RedisUtils {
      * @return {@link Map}<{@link String}, {@link V}>
      */
     public <V> Map<String, V> hGetAll(String key, Class<V> valueClass) {
-        return BeanUtils.copyProperties(hGetAll(key), String.class, valueClass);
+        return doHGetAll(key, valueClass);
     }
 
     /**
@@ -508,7 +752,18 @@ public class RedisUtils {
      * @return {@link Map}<{@link String}, {@link V}>
      */
     public <V> Map<String, V> hGetAll(String key, TypeReference<V> vTypeReference) {
-        return BeanUtils.copyProperties(hGetAll(key), new TypeReference<String>(){}, vTypeReference);
+        return doHGetAll(key, vTypeReference.getType());
+    }
+
+    /**
+     * 获取哈希表中所有字段的值
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link Map}<{@link String}, {@link V}>
+     */
+    private <V> Map<String, V> doHGetAll(String key, Type type) {
+        return hDeserializeMap(execute(connection -> connection.hashCommands().hGetAll(rawKey(key))), type);
     }
 
     /**
@@ -535,7 +790,7 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> hMultiGet(String key, Collection<String> fields, Class<T> tClass) {
-        return BeanUtils.copyProperties(this.hMultiGet(key, fields), tClass);
+        return doHMultiGet(key, fields, tClass);
     }
 
     /**
@@ -547,7 +802,22 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> hMultiGet(String key, Collection<String> fields, TypeReference<T> tTypeReference) {
-        return BeanUtils.copyProperties(this.hMultiGet(key, fields), tTypeReference);
+        return doHMultiGet(key, fields, tTypeReference.getType());
+    }
+
+    /**
+     * 获取在哈希表中给定字段的值
+     *
+     * @param key    key
+     * @param fields 字段
+     * @param type   目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doHMultiGet(String key, Collection<String> fields, Type type) {
+        if (CollectionUtil.isEmpty(fields)) {
+            return Collections.emptyList();
+        }
+        return hDeserializeList(execute(connection -> connection.hashCommands().hMGet(rawKey(key), rawHashKeys(fields))), type);
     }
 
     /**
@@ -699,7 +969,7 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> hValues(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(hValues(key), tClass);
+        return doHValues(key, tClass);
     }
 
     /**
@@ -710,7 +980,18 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> hValues(String key, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(hValues(key), typeReference);
+        return doHValues(key, typeReference.getType());
+    }
+
+    /**
+     * 获取哈希表中所有值
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doHValues(String key, Type type) {
+        return hDeserializeList(execute(connection -> connection.hashCommands().hVals(rawKey(key))), type);
     }
 
     /**
@@ -738,13 +1019,7 @@ public class RedisUtils {
      * @return {@link Map}<{@link String}, {@link T}>
      */
     public <T> Map<String, T> hScan(String key, ScanOptions options, Class<T> tClass) {
-        Map<Object, Object> objectMap = hScan(key, options);
-        if (CollectionUtil.isNotEmpty(objectMap)) {
-            return objectMap.entrySet().stream()
-                    .collect(Collectors.toMap(a -> BeanUtils.copyProperties(a.getKey(), String.class),
-                    v -> BeanUtils.copyProperties(v.getValue(), tClass)));
-        }
-        return Collections.emptyMap();
+        return doHScan(key, options, tClass);
     }
 
     /**
@@ -756,13 +1031,105 @@ public class RedisUtils {
      * @return {@link Map}<{@link String}, {@link T}>
      */
     public <T> Map<String, T> hScan(String key, ScanOptions options, TypeReference<T> typeReference) {
-        Map<Object, Object> objectMap = hScan(key, options);
-        if (CollectionUtil.isNotEmpty(objectMap)) {
-            return objectMap.entrySet().stream()
-                    .collect(Collectors.toMap(a -> BeanUtils.copyProperties(a.getKey(), String.class),
-                            v -> BeanUtils.copyProperties(v.getValue(), typeReference)));
+        return doHScan(key, options, typeReference.getType());
+    }
+
+    /**
+     * 迭代哈希表中的键值对
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @param type    目标对象类型
+     * @return {@link Map}<{@link String}, {@link T}>
+     */
+    private <T> Map<String, T> doHScan(String key, ScanOptions options, Type type) {
+        try (Stream<Map.Entry<String, T>> stream = doHScanStream(key, options, type)) {
+            Map<String, T> map = new LinkedHashMap<>();
+            stream.forEach(a -> map.put(a.getKey(), a.getValue()));
+            return map;
+        }
+    }
+
+    /**
+     * 流式迭代哈希表中的键值对, 随游标推进逐批读取, 内存占用与哈希表大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @return {@link Stream}<{@link Map.Entry}<{@link Object}, {@link Object}>>
+     */
+    public Stream<Map.Entry<Object, Object>> hScanStream(String key, ScanOptions options) {
+        return redisTemplate.opsForHash().scan(key, options).stream();
+    }
+
+    /**
+     * 流式迭代哈希表中的键值对, 随游标推进逐批读取, 内存占用与哈希表大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @param tClass  对象类型
+     * @return {@link Stream}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Stream<Map.Entry<String, T>> hScanStream(String key, ScanOptions options, Class<T> tClass) {
+        return doHScanStream(key, options, tClass);
+    }
+
+    /**
+     * 流式迭代哈希表中的键值对, 随游标推进逐批读取, 内存占用与哈希表大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key           key
+     * @param options       操作选项
+     * @param typeReference 对象类型
+     * @return {@link Stream}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    public <T> Stream<Map.Entry<String, T>> hScanStream(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doHScanStream(key, options, typeReference.getType());
+    }
+
+    /**
+     * 迭代哈希表中的键值对, 逐个交给消费者处理
+     *
+     * @param key      key
+     * @param options  操作选项
+     * @param tClass   对象类型
+     * @param consumer 消费者, 参数依次为字段名、值
+     */
+    public <T> void hScan(String key, ScanOptions options, Class<T> tClass, BiConsumer<String, T> consumer) {
+        try (Stream<Map.Entry<String, T>> stream = doHScanStream(key, options, tClass)) {
+            stream.forEach(a -> consumer.accept(a.getKey(), a.getValue()));
         }
-        return Collections.emptyMap();
+    }
+
+    /**
+     * 迭代哈希表中的键值对, 逐个交给消费者处理
+     *
+     * @param key           key
+     * @param options       操作选项
+     * @param typeReference 对象类型
+     * @param consumer      消费者, 参数依次为字段名、值
+     */
+    public <T> void hScan(String key, ScanOptions options, TypeReference<T> typeReference, BiConsumer<String, T> consumer) {
+        try (Stream<Map.Entry<String, T>> stream = doHScanStream(key, options, typeReference.getType())) {
+            stream.forEach(a -> consumer.accept(a.getKey(), a.getValue()));
+        }
+    }
+
+    /**
+     * 流式迭代哈希表中的键值对
+     *
+     * @param key     key
+     * @param options 操作选项
+     * @param type    目标对象类型
+     * @return {@link Stream}<{@link Map.Entry}<{@link String}, {@link T}>>
+     */
+    private <T> Stream<Map.Entry<String, T>> doHScanStream(String key, ScanOptions options, Type type) {
+        Cursor<Map.Entry<byte[], byte[]>> cursor = redisTemplate.executeWithStickyConnection(connection -> connection.hashCommands().hScan(rawKey(key), options));
+        return cursor.stream().map(a -> new AbstractMap.SimpleImmutableEntry<>(hKeyDeserialize(a.getKey()), this.<T>hDeserialize(a.getValue(), type)));
     }
 
     /* ------------------------list相关操作---------------------------- */
@@ -787,7 +1154,7 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T lIndex(String key, long index, Class<T> tClass) {
-        return BeanUtils.copyProperties(lIndex(key, index), tClass);
+        return doLIndex(key, index, tClass);
     }
 
     /**
@@ -799,7 +1166,19 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T lIndex(String key, long index, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lIndex(key, index), typeReference);
+        return doLIndex(key, index, typeReference.getType());
+    }
+
+    /**
+     * 通过索引获取列表中的元素
+     *
+     * @param key   key
+     * @param index 索引, 从0开始
+     * @param type  目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doLIndex(String key, long index, Type type) {
+        return deserialize(execute(connection -> connection.listCommands().lIndex(rawKey(key), index)), type);
     }
 
     /**
@@ -824,7 +1203,7 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> lRange(String key, long start, long end, Class<T> tClass) {
-        return BeanUtils.copyProperties(lRange(key, start, end), tClass);
+        return doLRange(key, start, end, tClass);
     }
 
     /**
@@ -837,7 +1216,20 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> lRange(String key, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lRange(key, start, end), typeReference);
+        return doLRange(key, start, end, typeReference.getType());
+    }
+
+    /**
+     * 获取列表指定范围内的元素
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doLRange(String key, long start, long end, Type type) {
+        return deserializeList(execute(connection -> connection.listCommands().lRange(rawKey(key), start, end)), type);
     }
 
     /**
@@ -981,7 +1373,7 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lLeftPop(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(lLeftPop(key), tClass);
+        return doLLeftPop(key, tClass);
     }
 
     /**
@@ -992,7 +1384,18 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lLeftPop(String key, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lLeftPop(key), typeReference);
+        return doLLeftPop(key, typeReference.getType());
+    }
+
+    /**
+     * 移出并获取列表的第一个元素
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doLLeftPop(String key, Type type) {
+        return deserialize(execute(connection -> connection.listCommands().lPop(rawKey(key))), type);
     }
 
     /**
@@ -1017,7 +1420,7 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lBLeftPop(String key, long timeout, TimeUnit unit, Class<T> tClass) {
-        return BeanUtils.copyProperties(lBLeftPop(key, timeout, unit), tClass);
+        return doLBLeftPop(key, timeout, unit, tClass);
     }
 
     /**
@@ -1030,7 +1433,22 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lBLeftPop(String key, long timeout, TimeUnit unit, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lBLeftPop(key, timeout, unit), typeReference);
+        return doLBLeftPop(key, timeout, unit, typeReference.getType());
+    }
+
+    /**
+     * 移出并获取列表的第一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
+     *
+     * @param key     key
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param type    目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doLBLeftPop(String key, long timeout, TimeUnit unit, Type type) {
+        int seconds = (int) TimeoutUtils.toSeconds(timeout, unit);
+        List<byte[]> popped = execute(connection -> connection.listCommands().bLPop(seconds, rawKey(key)));
+        return CollectionUtil.isEmpty(popped) ? null : deserialize(popped.get(1), type);
     }
 
     /**
@@ -1051,7 +1469,7 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lRightPop(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(lRightPop(key), tClass);
+        return doLRightPop(key, tClass);
     }
 
     /**
@@ -1062,7 +1480,18 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lRightPop(String key, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lRightPop(key), typeReference);
+        return doLRightPop(key, typeReference.getType());
+    }
+
+    /**
+     * 移除并获取列表最后一个元素
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doLRightPop(String key, Type type) {
+        return deserialize(execute(connection -> connection.listCommands().rPop(rawKey(key))), type);
     }
 
     /**
@@ -1087,7 +1516,7 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lBRightPop(String key, long timeout, TimeUnit unit, Class<T> tClass) {
-        return BeanUtils.copyProperties(lBRightPop(key, timeout, unit), tClass);
+        return doLBRightPop(key, timeout, unit, tClass);
     }
 
     /**
@@ -1100,14 +1529,29 @@ public class RedisUtils {
      * @return {@link T} 删除的元素
      */
     public <T> T lBRightPop(String key, long timeout, TimeUnit unit, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(lBRightPop(key, timeout, unit), typeReference);
+        return doLBRightPop(key, timeout, unit, typeReference.getType());
     }
 
     /**
-     * 移除列表的最后一个元素，并将该元素添加到另一个列表并返回
+     * 移出并获取列表的最后一个元素， 如果列表没有元素会阻塞列表直到等待超时或发现可弹出元素为止
      *
-     * @param sourceKey      源key
-     * @param destinationKey 目标key
+     * @param key     key
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @param type    目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doLBRightPop(String key, long timeout, TimeUnit unit, Type type) {
+        int seconds = (int) TimeoutUtils.toSeconds(timeout, unit);
+        List<byte[]> popped = execute(connection -> connection.listCommands().bRPop(seconds, rawKey(key)));
+        return CollectionUtil.isEmpty(popped) ? null : deserialize(popped.get(1), type);
+    }
+
+    /**
+     * 移除列表的最后一个元素，并将该元素添加到另一个列表并返回
+     *
+     * @param sourceKey      源key
+     * @param destinationKey 目标key
      * @return {@link Object}
      */
     public Object lRightPopAndLeftPush(String sourceKey, String destinationKey) {
@@ -1161,6 +1605,70 @@ public class RedisUtils {
         return redisTemplate.opsForList().size(key);
     }
 
+    /**
+     * 消费列表队列, 在独立线程(JDK 21+ 时为虚拟线程)中循环从列表头部阻塞弹出元素并交给处理器, 每个消费者独占一个连接
+     *
+     * @param queueKey 队列 key
+     * @param handler  处理器
+     * @return {@link QueueConsumer}, 关闭即停止消费
+     */
+    public QueueConsumer consume(String queueKey, Consumer<Object> handler) {
+        return doConsume(queueKey, bytes -> redisTemplate.getValueSerializer().deserialize(bytes), handler);
+    }
+
+    /**
+     * 消费列表队列, 在独立线程(JDK 21+ 时为虚拟线程)中循环从列表头部阻塞弹出元素并交给处理器, 每个消费者独占一个连接
+     *
+     * @param <T>      目标对象泛型
+     * @param queueKey 队列 key
+     * @param tClass   目标对象类型
+     * @param handler  处理器
+     * @return {@link QueueConsumer}, 关闭即停止消费
+     */
+    public <T> QueueConsumer consume(String queueKey, Class<T> tClass, Consumer<T> handler) {
+        return doConsume(queueKey, bytes -> deserialize(bytes, tClass), handler);
+    }
+
+    /**
+     * 消费列表队列, 在独立线程(JDK 21+ 时为虚拟线程)中循环从列表头部阻塞弹出元素并交给处理器, 每个消费者独占一个连接
+     *
+     * @param <T>           目标对象泛型
+     * @param queueKey      队列 key
+     * @param typeReference 目标对象类型
+     * @param handler       处理器
+     * @return {@link QueueConsumer}, 关闭即停止消费
+     */
+    public <T> QueueConsumer consume(String queueKey, TypeReference<T> typeReference, Consumer<T> handler) {
+        return doConsume(queueKey, bytes -> deserialize(bytes, typeReference.getType()), handler);
+    }
+
+    /**
+     * 消费列表队列
+     *
+     * @param queueKey     队列 key
+     * @param deserializer 反序列化
+     * @param handler      处理器
+     * @return {@link QueueConsumer}
+     */
+    private <T> QueueConsumer doConsume(String queueKey, Function<byte[], T> deserializer, Consumer<T> handler) {
+        Assert.state(!destroyed, "RedisUtils has been destroyed");
+        ThreadFactory threadFactory = VirtualThreads.threadFactory("redis-queue-consumer-" + queueKey + "-", virtualThreads);
+        QueueConsumer consumer = new QueueConsumer(redisTemplate.getConnectionFactory(), queueKey, rawKey(queueKey),
+                queuePollTimeout, deserializer, handler, threadFactory, consumers::remove);
+        consumers.add(consumer);
+        return consumer.start();
+    }
+
+    /**
+     * 关闭未关闭的队列消费者, 先通知全部停止再逐个等待退出
+     */
+    @Override
+    public void destroy() {
+        destroyed = true;
+        consumers.forEach(QueueConsumer::stop);
+        consumers.forEach(QueueConsumer::close);
+    }
+
     /* --------------------set相关操作-------------------------- */
 
     /**
@@ -1203,7 +1711,7 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T sPop(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(sPop(key), tClass);
+        return doSPop(key, tClass);
     }
 
     /**
@@ -1214,7 +1722,18 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T sPop(String key, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(sPop(key), typeReference);
+        return doSPop(key, typeReference.getType());
+    }
+
+    /**
+     * 移除并返回集合的一个随机元素
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doSPop(String key, Type type) {
+        return deserialize(execute(connection -> connection.setCommands().sPop(rawKey(key))), type);
     }
 
     /**
@@ -1469,7 +1988,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> sMembers(String key, Class<T> tClass) {
-        return BeanUtils.sCopyProperties(sMembers(key), tClass);
+        return doSMembers(key, tClass);
     }
 
     /**
@@ -1480,7 +1999,18 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> sMembers(String key, TypeReference<T> typeReference) {
-        return BeanUtils.sCopyProperties(sMembers(key), typeReference);
+        return doSMembers(key, typeReference.getType());
+    }
+
+    /**
+     * 获取集合所有元素
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doSMembers(String key, Type type) {
+        return deserializeSet(execute(connection -> connection.setCommands().sMembers(rawKey(key))), type);
     }
 
     /**
@@ -1501,7 +2031,7 @@ public class RedisUtils {
      * @return {@link T}
      */
     public <T> T sRandomMember(String key, Class<T> tClass) {
-        return BeanUtils.copyProperties(sRandomMember(key), tClass);
+        return doSRandomMember(key, tClass);
     }
 
     /**
@@ -1512,7 +2042,18 @@ public class RedisUtils {
      * @return {@link Object}
      */
     public <T> T sRandomMember(String key, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(sRandomMember(key), typeReference);
+        return doSRandomMember(key, typeReference.getType());
+    }
+
+    /**
+     * 随机获取集合中的一个元素
+     *
+     * @param key  key
+     * @param type 目标对象类型
+     * @return {@link T}
+     */
+    private <T> T doSRandomMember(String key, Type type) {
+        return deserialize(execute(connection -> connection.setCommands().sRandMember(rawKey(key))), type);
     }
 
     /**
@@ -1535,7 +2076,7 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> sRandomMembers(String key, long count, Class<T> tClass) {
-        return BeanUtils.copyProperties(sRandomMembers(key, count), tClass);
+        return doSRandomMembers(key, count, tClass);
     }
 
     /**
@@ -1547,7 +2088,19 @@ public class RedisUtils {
      * @return {@link List}<{@link T}>
      */
     public <T> List<T> sRandomMembers(String key, long count, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(sRandomMembers(key, count), typeReference);
+        return doSRandomMembers(key, count, typeReference.getType());
+    }
+
+    /**
+     * 随机获取集合中count个元素
+     *
+     * @param key   key
+     * @param count 个数
+     * @param type  目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doSRandomMembers(String key, long count, Type type) {
+        return deserializeList(execute(connection -> connection.setCommands().sRandMember(rawKey(key), -count)), type);
     }
 
     /**
@@ -1570,7 +2123,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> sDistinctRandomMembers(String key, long count, Class<T> tClass) {
-        return BeanUtils.sCopyProperties(sDistinctRandomMembers(key, count), tClass);
+        return doSDistinctRandomMembers(key, count, tClass);
     }
 
     /**
@@ -1582,7 +2135,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> sDistinctRandomMembers(String key, long count, TypeReference<T> typeReference) {
-        return BeanUtils.sCopyProperties(sDistinctRandomMembers(key, count), typeReference);
+        return doSDistinctRandomMembers(key, count, typeReference.getType());
+    }
+
+    /**
+     * 随机获取集合中count个元素并且去除重复的
+     *
+     * @param key   key
+     * @param count 个数
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doSDistinctRandomMembers(String key, long count, Type type) {
+        List<T> members = deserializeList(execute(connection -> connection.setCommands().sRandMember(rawKey(key), count)), type);
+        return new LinkedHashSet<>(members);
     }
 
     /**
@@ -1610,7 +2176,7 @@ public class RedisUtils {
      * @return {@link List}<{@link Object}>
      */
     public <T> List<T> sScan(String key, ScanOptions options, Class<T> tClass) {
-       return BeanUtils.copyProperties(sScan(key, options), tClass);
+        return doSScan(key, options, tClass);
     }
 
     /**
@@ -1622,7 +2188,103 @@ public class RedisUtils {
      * @return {@link List}<{@link Object}>
      */
     public <T> List<T> sScan(String key, ScanOptions options, TypeReference<T> typeReference) {
-        return BeanUtils.copyProperties(sScan(key, options), typeReference);
+        return doSScan(key, options, typeReference.getType());
+    }
+
+    /**
+     * 迭代集合中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param type    目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    private <T> List<T> doSScan(String key, ScanOptions options, Type type) {
+        try (Stream<T> stream = doSScanStream(key, options, type)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 流式迭代集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 选项
+     * @return {@link Stream}<{@link Object}>
+     */
+    public Stream<Object> sScanStream(String key, ScanOptions options) {
+        return redisTemplate.opsForSet().scan(key, options).stream();
+    }
+
+    /**
+     * 流式迭代集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass  对象类型
+     * @return {@link Stream}<{@link T}>
+     */
+    public <T> Stream<T> sScanStream(String key, ScanOptions options, Class<T> tClass) {
+        return doSScanStream(key, options, tClass);
+    }
+
+    /**
+     * 流式迭代集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 对象类型
+     * @return {@link Stream}<{@link T}>
+     */
+    public <T> Stream<T> sScanStream(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doSScanStream(key, options, typeReference.getType());
+    }
+
+    /**
+     * 迭代集合中的元素, 逐个交给消费者处理
+     *
+     * @param key      key
+     * @param options  选项
+     * @param tClass   对象类型
+     * @param consumer 消费者
+     */
+    public <T> void sScan(String key, ScanOptions options, Class<T> tClass, Consumer<T> consumer) {
+        try (Stream<T> stream = doSScanStream(key, options, tClass)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * 迭代集合中的元素, 逐个交给消费者处理
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 对象类型
+     * @param consumer      消费者
+     */
+    public <T> void sScan(String key, ScanOptions options, TypeReference<T> typeReference, Consumer<T> consumer) {
+        try (Stream<T> stream = doSScanStream(key, options, typeReference.getType())) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * 流式迭代集合中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param type    目标对象类型
+     * @return {@link Stream}<{@link T}>
+     */
+    private <T> Stream<T> doSScanStream(String key, ScanOptions options, Type type) {
+        Cursor<byte[]> cursor = redisTemplate.executeWithStickyConnection(connection -> connection.setCommands().sScan(rawKey(key), options));
+        return cursor.stream().map(a -> this.<T>deserialize(a, type));
     }
 
     /*------------------zSet相关操作--------------------------------*/
@@ -1717,7 +2379,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zRange(String key, long start, long end, Class<T> tClass) {
-        return BeanUtils.zCopyProperties(zRange(key, start, end), tClass);
+        return doZRange(key, start, end, tClass);
     }
 
     /**
@@ -1730,7 +2392,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zRange(String key, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.zCopyProperties(zRange(key, start, end), typeReference);
+        return doZRange(key, start, end, typeReference.getType());
+    }
+
+    /**
+     * 获取集合的元素, 从小到大排序
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doZRange(String key, long start, long end, Type type) {
+        return deserializeSet(execute(connection -> connection.zSetCommands().zRange(rawKey(key), start, end)), type);
     }
 
     /**
@@ -1755,8 +2430,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link Object}>>
      */
     public <T> Set<TypedTuple<T>> zRangeWithScores(String key, long start, long end, Class<T> tClass) {
-        Set<TypedTuple<Object>> typedTuples = zRangeWithScores(key, start, end);
-        return BeanUtils.ztCopyProperties(typedTuples, tClass);
+        return doZRangeWithScores(key, start, end, tClass);
     }
 
     /**
@@ -1769,8 +2443,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link Object}>>
      */
     public <T> Set<TypedTuple<T>> zRangeWithScores(String key, long start, long end, TypeReference<T> typeReference) {
-        Set<TypedTuple<Object>> typedTuples = zRangeWithScores(key, start, end);
-        return BeanUtils.ztCopyProperties(typedTuples, typeReference);
+        return doZRangeWithScores(key, start, end, typeReference.getType());
+    }
+
+    /**
+     * 获取集合元素, 并且把score值也获取
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> doZRangeWithScores(String key, long start, long end, Type type) {
+        return deserializeTuples(execute(connection -> connection.zSetCommands().zRangeWithScores(rawKey(key), start, end)), type);
     }
 
     /**
@@ -1795,7 +2481,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zRangeByScore(String key, double min, double max, Class<T> tClass) {
-        return BeanUtils.sCopyProperties(zRangeByScore(key, min, max), tClass);
+        return doZRangeByScore(key, min, max, tClass);
     }
 
     /**
@@ -1808,7 +2494,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zRangeByScore(String key, double min, double max, TypeReference<T> typeReference) {
-        return BeanUtils.sCopyProperties(zRangeByScore(key, min, max), typeReference);
+        return doZRangeByScore(key, min, max, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素
+     *
+     * @param key  key
+     * @param min  最小值
+     * @param max  最大值
+     * @param type 目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doZRangeByScore(String key, double min, double max, Type type) {
+        return deserializeSet(execute(connection -> connection.zSetCommands().zRangeByScore(rawKey(key), min, max)), type);
     }
 
     /**
@@ -1833,7 +2532,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zRangeByScoreWithScores(String key, double min, double max, Class<T> tClass) {
-        return BeanUtils.ztCopyProperties(zRangeByScoreWithScores(key, min, max), tClass);
+        return doZRangeByScoreWithScores(key, min, max, tClass);
     }
 
     /**
@@ -1846,7 +2545,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zRangeByScoreWithScores(String key, double min, double max, TypeReference<T> typeReference) {
-        return BeanUtils.ztCopyProperties(zRangeByScoreWithScores(key, min, max), typeReference);
+        return doZRangeByScoreWithScores(key, min, max, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key  key
+     * @param min  最小值
+     * @param max  最大值
+     * @param type 目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> doZRangeByScoreWithScores(String key, double min, double max, Type type) {
+        return deserializeTuples(execute(connection -> connection.zSetCommands().zRangeByScoreWithScores(rawKey(key), min, max)), type);
     }
 
     /**
@@ -1875,7 +2587,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zRangeByScoreWithScores(String key, double min, double max, long start, long end, Class<T> tClass) {
-        return BeanUtils.ztCopyProperties(zRangeByScoreWithScores(key, min, max, start, end), tClass);
+        return doZRangeByScoreWithScores(key, min, max, start, end, tClass);
     }
 
     /**
@@ -1890,7 +2602,22 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zRangeByScoreWithScores(String key, double min, double max, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.ztCopyProperties(zRangeByScoreWithScores(key, min, max, start, end), typeReference);
+        return doZRangeByScoreWithScores(key, min, max, start, end, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从小到大排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> doZRangeByScoreWithScores(String key, double min, double max, long start, long end, Type type) {
+        return deserializeTuples(execute(connection -> connection.zSetCommands().zRangeByScoreWithScores(rawKey(key), min, max, start, end)), type);
     }
 
     /**
@@ -1915,7 +2642,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRange(String key, long start, long end, Class<T> tClass) {
-        return BeanUtils.zCopyProperties(zReverseRange(key, start, end), tClass);
+        return doZReverseRange(key, start, end, tClass);
     }
 
     /**
@@ -1928,7 +2655,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRange(String key, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.zCopyProperties(zReverseRange(key, start, end), typeReference);
+        return doZReverseRange(key, start, end, typeReference.getType());
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doZReverseRange(String key, long start, long end, Type type) {
+        return deserializeSet(execute(connection -> connection.zSetCommands().zRevRange(rawKey(key), start, end)), type);
     }
 
     /**
@@ -1953,7 +2693,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zReverseRangeWithScores(String key, long start, long end, Class<T> tClass) {
-        return BeanUtils.ztCopyProperties(zReverseRangeWithScores(key, start, end), tClass);
+        return doZReverseRangeWithScores(key, start, end, tClass);
     }
 
     /**
@@ -1966,7 +2706,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zReverseRangeWithScores(String key, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.ztCopyProperties(zReverseRangeWithScores(key, start, end), typeReference);
+        return doZReverseRangeWithScores(key, start, end, typeReference.getType());
+    }
+
+    /**
+     * 获取集合的元素, 从大到小排序, 并返回score值
+     *
+     * @param key   key
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> doZReverseRangeWithScores(String key, long start, long end, Type type) {
+        return deserializeTuples(execute(connection -> connection.zSetCommands().zRevRangeWithScores(rawKey(key), start, end)), type);
     }
 
     /**
@@ -1991,7 +2744,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRangeByScore(String key, double min, double max, Class<T> tClass) {
-        return BeanUtils.zCopyProperties(zReverseRangeByScore(key, min, max), tClass);
+        return doZReverseRangeByScore(key, min, max, tClass);
     }
 
     /**
@@ -2004,7 +2757,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRangeByScore(String key, double min, double max, TypeReference<T> typeReference) {
-        return BeanUtils.zCopyProperties(zReverseRangeByScore(key, min, max), typeReference);
+        return doZReverseRangeByScore(key, min, max, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key  key
+     * @param min  最小值
+     * @param max  最大值
+     * @param type 目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doZReverseRangeByScore(String key, double min, double max, Type type) {
+        return deserializeSet(execute(connection -> connection.zSetCommands().zRevRangeByScore(rawKey(key), min, max)), type);
     }
 
     /**
@@ -2029,7 +2795,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zReverseRangeByScoreWithScores(String key, double min, double max, Class<T> tClass) {
-        return BeanUtils.ztCopyProperties(zReverseRangeByScoreWithScores(key, min, max), tClass);
+        return doZReverseRangeByScoreWithScores(key, min, max, tClass);
     }
 
     /**
@@ -2042,7 +2808,20 @@ public class RedisUtils {
      * @return {@link Set}<{@link TypedTuple}<{@link T}>>
      */
     public <T> Set<TypedTuple<T>> zReverseRangeByScoreWithScores(String key, double min, double max, TypeReference<T> typeReference) {
-        return BeanUtils.ztCopyProperties(zReverseRangeByScoreWithScores(key, min, max), typeReference);
+        return doZReverseRangeByScoreWithScores(key, min, max, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key  key
+     * @param min  最小值
+     * @param max  最大值
+     * @param type 目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> doZReverseRangeByScoreWithScores(String key, double min, double max, Type type) {
+        return deserializeTuples(execute(connection -> connection.zSetCommands().zRevRangeByScoreWithScores(rawKey(key), min, max)), type);
     }
 
     /**
@@ -2071,7 +2850,7 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRangeByScore(String key, double min, double max, long start, long end, Class<T> tClass) {
-        return BeanUtils.zCopyProperties(zReverseRangeByScore(key, min, max, start, end), tClass);
+        return doZReverseRangeByScore(key, min, max, start, end, tClass);
     }
 
     /**
@@ -2086,7 +2865,22 @@ public class RedisUtils {
      * @return {@link Set}<{@link T}>
      */
     public <T> Set<T> zReverseRangeByScore(String key, double min, double max, long start, long end, TypeReference<T> typeReference) {
-        return BeanUtils.zCopyProperties(zReverseRangeByScore(key, min, max, start, end), typeReference);
+        return doZReverseRangeByScore(key, min, max, start, end, typeReference.getType());
+    }
+
+    /**
+     * 根据Score值查询集合元素, 从大到小排序
+     *
+     * @param key   key
+     * @param min   最小值
+     * @param max   最大值
+     * @param start 开始
+     * @param end   结束
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    private <T> Set<T> doZReverseRangeByScore(String key, double min, double max, long start, long end, Type type) {
+        return deserializeSet(execute(connection -> connection.zSetCommands().zRevRangeByScore(rawKey(key), min, max, start, end)), type);
     }
 
     /**
@@ -2216,7 +3010,7 @@ public class RedisUtils {
         try {
             return cursor.stream().collect(Collectors.toList());
         }finally {
-            if (!cursor.isClosed()) cursor.isClosed();
+            if (!cursor.isClosed()) cursor.close();
         }
     }
 
@@ -2229,7 +3023,7 @@ public class RedisUtils {
      * @return {@link Cursor}<{@link TypedTuple}<{@link T}>>
      */
     public <T> List<TypedTuple<T>> zScan(String key, ScanOptions options, Class<T> tClass) {
-        return BeanUtils.atCopyProperties(zScan(key, options), tClass);
+        return doZScan(key, options, tClass);
     }
 
     /**
@@ -2241,13 +3035,295 @@ public class RedisUtils {
      * @return {@link Cursor}<{@link TypedTuple}<{@link T}>>
      */
     public <T> List<TypedTuple<T>> zScan(String key, ScanOptions options, TypeReference<T> typeReference) {
-        return BeanUtils.atCopyProperties(zScan(key, options), typeReference);
+        return doZScan(key, options, typeReference.getType());
+    }
+
+    /**
+     * 迭代有序集合中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param type    目标对象类型
+     * @return {@link List}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> List<TypedTuple<T>> doZScan(String key, ScanOptions options, Type type) {
+        try (Stream<TypedTuple<T>> stream = doZScanStream(key, options, type)) {
+            return stream.collect(Collectors.toList());
+        }
     }
 
+    /**
+     * 流式迭代有序集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 选项
+     * @return {@link Stream}<{@link TypedTuple}<{@link Object}>>
+     */
+    public Stream<TypedTuple<Object>> zScanStream(String key, ScanOptions options) {
+        return redisTemplate.opsForZSet().scan(key, options).stream();
+    }
 
+    /**
+     * 流式迭代有序集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key     key
+     * @param options 选项
+     * @param tClass  对象类型
+     * @return {@link Stream}<{@link TypedTuple}<{@link T}>>
+     */
+    public <T> Stream<TypedTuple<T>> zScanStream(String key, ScanOptions options, Class<T> tClass) {
+        return doZScanStream(key, options, tClass);
+    }
 
+    /**
+     * 流式迭代有序集合中的元素, 随游标推进逐批读取, 内存占用与集合大小无关
+     * <p>
+     * 返回的 {@link Stream} 持有连接, 使用完毕必须关闭
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 对象类型
+     * @return {@link Stream}<{@link TypedTuple}<{@link T}>>
+     */
+    public <T> Stream<TypedTuple<T>> zScanStream(String key, ScanOptions options, TypeReference<T> typeReference) {
+        return doZScanStream(key, options, typeReference.getType());
+    }
 
+    /**
+     * 迭代有序集合中的元素, 逐个交给消费者处理
+     *
+     * @param key      key
+     * @param options  选项
+     * @param tClass   对象类型
+     * @param consumer 消费者
+     */
+    public <T> void zScan(String key, ScanOptions options, Class<T> tClass, Consumer<TypedTuple<T>> consumer) {
+        try (Stream<TypedTuple<T>> stream = doZScanStream(key, options, tClass)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * 迭代有序集合中的元素, 逐个交给消费者处理
+     *
+     * @param key           key
+     * @param options       选项
+     * @param typeReference 对象类型
+     * @param consumer      消费者
+     */
+    public <T> void zScan(String key, ScanOptions options, TypeReference<T> typeReference, Consumer<TypedTuple<T>> consumer) {
+        try (Stream<TypedTuple<T>> stream = doZScanStream(key, options, typeReference.getType())) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * 流式迭代有序集合中的元素
+     *
+     * @param key     key
+     * @param options 选项
+     * @param type    目标对象类型
+     * @return {@link Stream}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Stream<TypedTuple<T>> doZScanStream(String key, ScanOptions options, Type type) {
+        Cursor<Tuple> cursor = redisTemplate.executeWithStickyConnection(connection -> connection.zSetCommands().zScan(rawKey(key), options));
+        return cursor.stream().map(a -> TypedTuple.of(this.<T>deserialize(a.getValue(), type), a.getScore()));
+    }
+
+    /* -------------------批量操作------------------------- */
+
+    /**
+     * 创建批量操作, 所有命令在一次管道中执行
+     *
+     * @return {@link RedisBatch}
+     */
+    public RedisBatch batch() {
+        return new RedisBatch(redisTemplate);
+    }
 
+    /* -------------------字节转换------------------------- */
 
+    /**
+     * 在连接上执行操作
+     *
+     * @param callback 回调
+     * @return {@link T}
+     */
+    private <T> T execute(RedisCallback<T> callback) {
+        return redisTemplate.execute(callback);
+    }
+
+    /**
+     * 序列化key
+     *
+     * @param key key
+     * @return {@link byte[]}
+     */
+    byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    /**
+     * 序列化key
+     *
+     * @param keys keys
+     * @return {@link byte[][]}
+     */
+    byte[][] rawKeys(Collection<String> keys) {
+        return keys.stream().map(this::rawKey).toArray(byte[][]::new);
+    }
+
+    /**
+     * 序列化哈希key
+     *
+     * @param hashKey 哈希key
+     * @return {@link byte[]}
+     */
+    byte[] rawHashKey(String hashKey) {
+        return ((RedisSerializer<String>) redisTemplate.getHashKeySerializer()).serialize(hashKey);
+    }
+
+    /**
+     * 序列化哈希key
+     *
+     * @param hashKeys 哈希key
+     * @return {@link byte[][]}
+     */
+    byte[][] rawHashKeys(Collection<String> hashKeys) {
+        return hashKeys.stream().map(this::rawHashKey).toArray(byte[][]::new);
+    }
+
+    /**
+     * 反序列化哈希key
+     *
+     * @param bytes 字节
+     * @return {@link String}
+     */
+    String hKeyDeserialize(byte[] bytes) {
+        return ((RedisSerializer<String>) redisTemplate.getHashKeySerializer()).deserialize(bytes);
+    }
+
+    /**
+     * 按目标类型反序列化值
+     *
+     * @param bytes 字节
+     * @param type  目标对象类型
+     * @return {@link T}
+     */
+    <T> T deserialize(byte[] bytes, Type type) {
+        return deserialize(redisTemplate.getValueSerializer(), bytes, type);
+    }
+
+    /**
+     * 按目标类型反序列化值
+     *
+     * @param bytes 字节
+     * @param type  目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> deserializeList(List<byte[]> bytes, Type type) {
+        if (CollectionUtil.isEmpty(bytes)) {
+            return Collections.emptyList();
+        }
+        return bytes.stream().map(a -> this.<T>deserialize(a, type)).collect(Collectors.toList());
+    }
+
+    /**
+     * 按目标类型反序列化值
+     *
+     * @param bytes 字节
+     * @param type  目标对象类型
+     * @return {@link Set}<{@link T}>
+     */
+    <T> Set<T> deserializeSet(Set<byte[]> bytes, Type type) {
+        if (CollectionUtil.isEmpty(bytes)) {
+            return Collections.emptySet();
+        }
+        return bytes.stream().map(a -> this.<T>deserialize(a, type)).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * 按目标类型反序列化有序集合元组
+     *
+     * @param tuples 元组
+     * @param type   目标对象类型
+     * @return {@link Set}<{@link TypedTuple}<{@link T}>>
+     */
+    private <T> Set<TypedTuple<T>> deserializeTuples(Set<Tuple> tuples, Type type) {
+        if (CollectionUtil.isEmpty(tuples)) {
+            return Collections.emptySet();
+        }
+        return tuples.stream()
+                .map(a -> TypedTuple.of(this.<T>deserialize(a.getValue(), type), a.getScore()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * 按目标类型反序列化哈希值
+     *
+     * @param bytes 字节
+     * @param type  目标对象类型
+     * @return {@link T}
+     */
+    <T> T hDeserialize(byte[] bytes, Type type) {
+        return deserialize(redisTemplate.getHashValueSerializer(), bytes, type);
+    }
+
+    /**
+     * 按目标类型反序列化哈希值
+     *
+     * @param bytes 字节
+     * @param type  目标对象类型
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> hDeserializeList(List<byte[]> bytes, Type type) {
+        if (CollectionUtil.isEmpty(bytes)) {
+            return Collections.emptyList();
+        }
+        return bytes.stream().map(a -> this.<T>hDeserialize(a, type)).collect(Collectors.toList());
+    }
+
+    /**
+     * 按目标类型反序列化哈希表
+     *
+     * @param entries 哈希表
+     * @param type    目标对象类型
+     * @return {@link Map}<{@link String}, {@link V}>
+     */
+    <V> Map<String, V> hDeserializeMap(Map<byte[], byte[]> entries, Type type) {
+        if (CollectionUtil.isEmpty(entries)) {
+            return Collections.emptyMap();
+        }
+        Map<String, V> map = new LinkedHashMap<>(entries.size());
+        entries.forEach((k, v) -> {
+            V value = hDeserialize(v, type);
+            if (ObjectUtil.isNotEmpty(value)) {
+                map.put(hKeyDeserialize(k), value);
+            }
+        });
+        return map;
+    }
+
+    /**
+     * 按目标类型反序列化, 序列化器为 {@link RedisValueSerializer} 时直接从字节解析, 否则复制属性
+     *
+     * @param serializer 序列化器
+     * @param bytes      字节
+     * @param type       目标对象类型
+     * @return {@link T}
+     */
+    static <T> T deserialize(RedisSerializer<?> serializer, byte[] bytes, Type type) {
+        if (bytes == null) {
+            return null;
+        }
+        if (serializer instanceof RedisValueSerializer) {
+            return ((RedisValueSerializer<?>) serializer).deserialize(bytes, type);
+        }
+        return BeanUtils.copyProperties(serializer.deserialize(bytes), type);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package cn.darkjrong.redis;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 过期时间 工具类
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class TtlUtils {
+
+    /**
+     * 为过期时间增加随机抖动, 使批量写入的数据分散过期
+     *
+     * @param millis 过期时间(毫秒)
+     * @param jitter 抖动比例, 如 0.1 表示 ±10%, 0 表示不抖动
+     * @return long 抖动后的过期时间(毫秒), 不小于1
+     */
+    public static long jitter(long millis, double jitter) {
+        Assert.isTrue(jitter >= 0 && jitter < 1, "jitter must be in [0, 1)");
+        if (jitter == 0 || millis <= 0) {
+            return millis;
+        }
+        long offset = (long) (millis * jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Math.max(1, millis + offset);
+    }
+
+    /**
+     * 为过期时间增加随机抖动, 使批量写入的数据分散过期
+     *
+     * @param ttl    过期时间
+     * @param jitter 抖动比例, 如 0.1 表示 ±10%, 0 表示不抖动
+     * @return {@link Duration} 抖动后的过期时间, 为null、0或负数时原样返回
+     */
+    public static Duration jitter(Duration ttl, double jitter) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative() || jitter == 0) {
+            return ttl;
+        }
+        return Duration.ofMillis(jitter(ttl.toMillis(), jitter));
+    }
+
+}
@@ -0,0 +1,107 @@
+package cn.darkjrong.redis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程支持
+ * <p>
+ * 运行在 JDK 21+ 时通过反射使用虚拟线程(编译目标仍为 Java 8), 否则退化为守护平台线程.
+ * 适合执行阻塞的 Redis 命令(如 BLPOP), 大量等待中的调用不再各自占用一个平台线程
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public final class VirtualThreads {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // 预览版本中虚拟线程不可用时会抛出 UnsupportedOperationException
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前 JVM 是否支持虚拟线程
+     *
+     * @return boolean
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 创建线程工厂, 支持时创建虚拟线程, 否则创建守护平台线程
+     *
+     * @param prefix  线程名前缀
+     * @param virtual 是否优先使用虚拟线程
+     * @return {@link ThreadFactory}
+     */
+    public static ThreadFactory threadFactory(String prefix, boolean virtual) {
+        if (virtual && isSupported()) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 1L);
+                return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Create virtual thread factory failed, fall back to platform threads: {}", e.getMessage());
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 创建每个任务一个线程的线程池, 支持时使用虚拟线程, 否则使用可缓存的守护平台线程池
+     *
+     * @param prefix  线程名前缀
+     * @param virtual 是否优先使用虚拟线程
+     * @return {@link ExecutorService}
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix, boolean virtual) {
+        ThreadFactory threadFactory = threadFactory(prefix, virtual);
+        if (virtual && isSupported()) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Create virtual thread executor failed, fall back to platform threads: {}", e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+}
@@ -0,0 +1,142 @@
+package cn.darkjrong.redis.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 缓存提前刷新
+ * <p>
+ * 命中时同时读取剩余过期时间, 满足以下任一条件即在有界线程池中异步重新加载, 当前请求直接返回旧值:
+ * <ul>
+ *     <li>剩余过期时间低于缓存过期时间的指定比例</li>
+ *     <li>XFetch 概率提前过期: {@code -加载耗时 * beta * ln(random) >= 剩余过期时间}, 越临近过期、加载越慢, 越早刷新</li>
+ * </ul>
+ * 同一 key 同时只有一个刷新任务, 线程池队列满时放弃刷新
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+class CacheRefresher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheRefresher.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final double ratio;
+    private final double beta;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 缓存提前刷新
+     *
+     * @param connectionFactory 连接工厂
+     * @param ratio             剩余过期时间比例, 0 表示不按比例刷新
+     * @param beta              XFetch 系数, 0 表示不按概率刷新
+     * @param threads           刷新线程数
+     * @param queueCapacity     刷新队列容量
+     */
+    CacheRefresher(RedisConnectionFactory connectionFactory, double ratio, double beta, int threads, int queueCapacity) {
+        Assert.notNull(connectionFactory, "connectionFactory must not be null");
+        Assert.isTrue(ratio >= 0 && ratio < 1, "ratio must be in [0, 1)");
+        Assert.isTrue(beta >= 0, "beta must not be negative");
+        this.connectionFactory = connectionFactory;
+        this.ratio = ratio;
+        this.beta = beta;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "redis-cache-refresher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 在一次往返中读取缓存值及剩余过期时间
+     *
+     * @param rawKey 缓存 key
+     * @return {@link List}, 依次为缓存值({@link byte[]}), 剩余过期时间(毫秒, {@link Long})
+     */
+    List<Object> getWithTtl(byte[] rawKey) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            try {
+                connection.openPipeline();
+            } catch (UnsupportedOperationException e) {
+                // Jedis 集群连接不支持管道
+                return Arrays.asList(connection.stringCommands().get(rawKey), connection.keyCommands().pTtl(rawKey));
+            }
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return connection.closePipeline();
+        }
+    }
+
+    /**
+     * 是否需要提前刷新
+     *
+     * @param remainingMillis 剩余过期时间(毫秒)
+     * @param ttl             缓存过期时间
+     * @param loadNanos       加载耗时(纳秒)
+     * @return boolean
+     */
+    boolean shouldRefresh(long remainingMillis, Duration ttl, long loadNanos) {
+        if (remainingMillis <= 0) {
+            return false;
+        }
+        if (ratio > 0 && ttl != null && !ttl.isZero() && remainingMillis <= ttl.toMillis() * ratio) {
+            return true;
+        }
+        if (beta > 0 && loadNanos > 0) {
+            double loadMillis = loadNanos / 1_000_000D;
+            return -loadMillis * beta * Math.log(ThreadLocalRandom.current().nextDouble()) >= remainingMillis;
+        }
+        return false;
+    }
+
+    /**
+     * 异步刷新
+     *
+     * @param cacheKey 缓存 key
+     * @param task     刷新任务
+     */
+    void refresh(String cacheKey, Runnable task) {
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.warn("Refresh cache [{}] failed: {}", cacheKey, e.getMessage());
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
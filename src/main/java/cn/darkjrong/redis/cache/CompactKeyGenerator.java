@@ -0,0 +1,214 @@
+package cn.darkjrong.redis.cache;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.ReflectUtil;
+import com.alibaba.fastjson.JSON;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.MethodClassKey;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 紧凑缓存 key 生成器
+ * <p>
+ * key 格式: 类名.方法名(参数1,参数2,...). 类名+方法名前缀按方法缓存; 参数按类型直接编码,
+ * 无序集合(Set、非有序 Map)排序后编码以保证稳定, 其余对象使用 JSON, 没有 getter 及公共字段的对象使用 toString()
+ * (未覆盖 toString() 时拒绝生成, 避免不同参数生成相同的 key); 参数部分超过长度上限时替换为 128 位 MurmurHash
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class CompactKeyGenerator implements KeyGenerator {
+
+    private static final char SEPARATOR = ',';
+    private static final char ESCAPE = '\\';
+    private static final String NULL = "~";
+    private static final char HASH = '#';
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 是否使用 toString() 编码: 没有可读属性的对象 JSON 恒为 {}
+     */
+    private static final ClassValue<Boolean> TO_STRING_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (hasProperties(type)) {
+                return false;
+            }
+            Assert.isTrue(ReflectUtil.getMethod(type, "toString").getDeclaringClass() != Object.class,
+                    () -> "Cannot generate cache key for parameter of type " + type.getName()
+                            + ", it has no getters or public fields and does not override toString()");
+            return true;
+        }
+    };
+
+    private final int maxLength;
+    private final Map<MethodClassKey, String> prefixes = new ConcurrentHashMap<>();
+
+    /**
+     * 紧凑缓存 key 生成器
+     *
+     * @param maxLength 参数部分的最大长度, 超过时使用哈希值
+     */
+    public CompactKeyGenerator(int maxLength) {
+        Assert.isTrue(maxLength >= 32, "maxLength must be at least 32");
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        MethodClassKey methodKey = new MethodClassKey(method, target.getClass());
+        String prefix = prefixes.get(methodKey);
+        if (prefix == null) {
+            prefix = target.getClass().getName() + '.' + method.getName() + '(';
+            prefixes.putIfAbsent(methodKey, prefix);
+        }
+        if (params.length == 0) {
+            return prefix + ')';
+        }
+
+        StringBuilder sb = new StringBuilder(prefix.length() + 32).append(prefix);
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            encode(sb, params[i]);
+        }
+        if (sb.length() - prefix.length() > maxLength) {
+            long[] hash = MurmurHash.hash128(sb.subSequence(prefix.length(), sb.length()));
+            sb.setLength(prefix.length());
+            sb.append(HASH);
+            appendHex(sb, hash[0]);
+            appendHex(sb, hash[1]);
+        }
+        return sb.append(')').toString();
+    }
+
+    private static void encode(StringBuilder sb, Object param) {
+        if (param == null) {
+            sb.append(NULL);
+        } else if (param instanceof CharSequence) {
+            escape(sb, (CharSequence) param);
+        } else if (param instanceof Number || param instanceof Boolean || param instanceof Character) {
+            sb.append(param);
+        } else if (param instanceof Enum) {
+            sb.append(((Enum<?>) param).name());
+        } else if (param instanceof Date) {
+            sb.append(((Date) param).getTime());
+        } else if (param instanceof TemporalAccessor || param instanceof UUID) {
+            sb.append(param);
+        } else if (param.getClass().isArray()) {
+            sb.append('[');
+            int length = Array.getLength(param);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    sb.append(SEPARATOR);
+                }
+                encode(sb, Array.get(param, i));
+            }
+            sb.append(']');
+        } else if (param instanceof Set && !(param instanceof SortedSet) && !(param instanceof LinkedHashSet)) {
+            encodeUnordered(sb, (Collection<?>) param, '[', ']');
+        } else if (param instanceof Collection) {
+            sb.append('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) param) {
+                if (!first) {
+                    sb.append(SEPARATOR);
+                }
+                encode(sb, element);
+                first = false;
+            }
+            sb.append(']');
+        } else if (param instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) param;
+            if (map instanceof SortedMap || map instanceof LinkedHashMap) {
+                sb.append('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!first) {
+                        sb.append(SEPARATOR);
+                    }
+                    encode(sb, entry.getKey());
+                    sb.append('=');
+                    encode(sb, entry.getValue());
+                    first = false;
+                }
+                sb.append('}');
+            } else {
+                List<String> entries = new ArrayList<>(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    StringBuilder element = new StringBuilder();
+                    encode(element, entry.getKey());
+                    element.append('=');
+                    encode(element, entry.getValue());
+                    entries.add(element.toString());
+                }
+                appendSorted(sb, entries, '{', '}');
+            }
+        } else if (TO_STRING_TYPES.get(param.getClass())) {
+            escape(sb, param.toString());
+        } else {
+            escape(sb, JSON.toJSONString(param));
+        }
+    }
+
+    private static boolean hasProperties(Class<?> type) {
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            if (method.getParameterCount() == 0 && method.getDeclaringClass() != Object.class
+                    && (name.startsWith("get") || name.startsWith("is"))) {
+                return true;
+            }
+        }
+        return BeanUtil.hasPublicField(type);
+    }
+
+    private static void encodeUnordered(StringBuilder sb, Collection<?> collection, char open, char close) {
+        List<String> elements = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            StringBuilder encoded = new StringBuilder();
+            encode(encoded, element);
+            elements.add(encoded.toString());
+        }
+        appendSorted(sb, elements, open, close);
+    }
+
+    private static void appendSorted(StringBuilder sb, List<String> elements, char open, char close) {
+        Collections.sort(elements);
+        sb.append(open);
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(elements.get(i));
+        }
+        sb.append(close);
+    }
+
+    private static void escape(StringBuilder sb, CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == ESCAPE || c == '[' || c == ']' || c == '{' || c == '}' || c == '=') {
+                sb.append(ESCAPE);
+            } else if (i == 0 && (c == NULL.charAt(0) || c == HASH)) {
+                // 与 null 及哈希后的参数区分
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+    }
+
+    private static void appendHex(StringBuilder sb, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            sb.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package cn.darkjrong.redis.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 扩展缓存统计
+ * <p>
+ * 补充 {@link org.springframework.data.redis.cache.CacheStatistics} 统计不到的部分:
+ * 未经过 {@link org.springframework.data.redis.cache.RedisCacheWriter} 的命中/未命中(近端缓存命中、提前刷新读取),
+ * 加载次数及耗时, 单飞加载等待锁的时间
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class ExtendedCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad(long nanos, boolean success) {
+        loads.increment();
+        loadNanos.add(nanos);
+        if (!success) {
+            loadFailures.increment();
+        }
+    }
+
+    void recordLockWait(long nanos) {
+        lockWaitNanos.add(nanos);
+    }
+
+    /**
+     * 未经过 RedisCacheWriter 的命中次数
+     *
+     * @return long
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 未经过 RedisCacheWriter 的未命中次数
+     *
+     * @return long
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 加载次数, 含失败
+     *
+     * @return long
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * 加载失败次数
+     *
+     * @return long
+     */
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    /**
+     * 加载总耗时
+     *
+     * @return {@link Duration}
+     */
+    public Duration getLoadTime() {
+        return Duration.ofNanos(loadNanos.sum());
+    }
+
+    /**
+     * 单飞加载等待总时间(等待进程内其他线程加载或集群锁)
+     *
+     * @return {@link Duration}
+     */
+    public Duration getLockWaitTime() {
+        return Duration.ofNanos(lockWaitNanos.sum());
+    }
+
+    /**
+     * 重置统计
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        loads.reset();
+        loadFailures.reset();
+        loadNanos.reset();
+        lockWaitNanos.reset();
+    }
+
+}
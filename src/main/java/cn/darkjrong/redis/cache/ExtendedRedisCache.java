@@ -0,0 +1,326 @@
+package cn.darkjrong.redis.cache;
+
+import cn.hutool.core.util.IdUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 扩展 Redis 缓存
+ * <p>
+ * 对外开放缓存 key 的生成, 供近端缓存等装饰器使用与 Redis 一致的 key;
+ * 开启单飞(single-flight)后, 同一 key 的并发加载只执行一次, 其余调用等待其结果, 可选通过 Redis 短锁扩展到集群
+ * (锁直接以 SET NX PX 写入连接, 不经过 {@link RedisCacheWriter}, 释放时校验持有者标识; 等锁期间的轮询同样直接读取连接,
+ * 因此一次未命中的加载在统计中只记一次未命中、一次写入);
+ * 开启提前刷新后, 临近过期的命中在后台重新加载, 参见 {@link CacheRefresher};
+ * 命中、加载、等锁等 {@link org.springframework.data.redis.cache.CacheStatistics} 之外的统计参见 {@link ExtendedCacheStatistics}
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class ExtendedRedisCache extends RedisCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtendedRedisCache.class);
+
+    private static final String LOCK_SUFFIX = "~lock";
+
+    /**
+     * 仅持有者可删除锁
+     */
+    private static final byte[] UNLOCK_SCRIPT = ("if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('DEL', KEYS[1]) end return 0").getBytes(StandardCharsets.UTF_8);
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final ExtendedCacheStatistics extendedStatistics = new ExtendedCacheStatistics();
+
+    private boolean singleFlight;
+    private RedisConnectionFactory connectionFactory;
+    private Duration lockTimeout;
+    private CacheRefresher refresher;
+    private volatile Cache decorator = this;
+    private volatile long loadNanos;
+
+    /**
+     * 扩展 Redis 缓存
+     *
+     * @param name        缓存名称
+     * @param cacheWriter {@link RedisCacheWriter}
+     * @param cacheConfig 缓存配置
+     */
+    public ExtendedRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+        super(name, cacheWriter, cacheConfig);
+    }
+
+    /**
+     * 开启单飞加载, 仅对 {@link #get(Object, Callable)} (即 {@code @Cacheable(sync = true)}) 生效
+     *
+     * @param connectionFactory 连接工厂, 用于集群锁
+     * @param lockTimeout       集群锁超时时间, 同时是等待其他节点加载的最长时间; 为null时仅在当前JVM内单飞
+     */
+    public void enableSingleFlight(RedisConnectionFactory connectionFactory, @Nullable Duration lockTimeout) {
+        Assert.notNull(connectionFactory, "connectionFactory must not be null");
+        this.singleFlight = true;
+        this.connectionFactory = connectionFactory;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * 开启提前刷新, 仅对 {@link #get(Object, Callable)} (即 {@code @Cacheable(sync = true)}) 生效
+     * <p>
+     * 刷新时在刷新线程中调用触发刷新的那次请求的 valueLoader, 加载不能依赖调用线程的上下文
+     *
+     * @param refresher 缓存提前刷新
+     */
+    void enableRefreshAhead(CacheRefresher refresher) {
+        this.refresher = refresher;
+    }
+
+    /**
+     * 设置装饰当前缓存的缓存(如近端缓存), 提前刷新的写入经过它, 以更新本地缓存并通知其他实例失效
+     *
+     * @param decorator 装饰缓存
+     */
+    void setDecorator(Cache decorator) {
+        this.decorator = decorator;
+    }
+
+    /**
+     * 生成 Redis 中的缓存 key (含前缀)
+     *
+     * @param key 缓存 key
+     * @return {@link String}
+     */
+    @Override
+    public String createCacheKey(Object key) {
+        return super.createCacheKey(key);
+    }
+
+    /**
+     * 获取扩展统计
+     *
+     * @return {@link ExtendedCacheStatistics}
+     */
+    public ExtendedCacheStatistics getExtendedStatistics() {
+        return extendedStatistics;
+    }
+
+    /**
+     * 命中次数, 含近端缓存命中及提前刷新读取
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return getStatistics().getHits() + extendedStatistics.getHits();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return long
+     */
+    public long getMissCount() {
+        return getStatistics().getMisses() + extendedStatistics.getMisses();
+    }
+
+    @Override
+    public void clearStatistics() {
+        super.clearStatistics();
+        extendedStatistics.reset();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Callable<T> loader = valueLoader;
+        valueLoader = () -> {
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                T value = loader.call();
+                success = true;
+                return value;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                extendedStatistics.recordLoad(elapsed, success);
+                if (success) {
+                    loadNanos = loadNanos == 0 ? elapsed : (loadNanos * 7 + elapsed) / 8;
+                }
+            }
+        };
+        if (refresher != null) {
+            ValueWrapper result = getAndRefresh(key, valueLoader);
+            if (result != null) {
+                return (T) result.get();
+            }
+        }
+        if (!singleFlight) {
+            return super.get(key, valueLoader);
+        }
+        if (refresher != null) {
+            // 提前刷新已读取过, 不再重复读取
+            extendedStatistics.recordMiss();
+        } else {
+            ValueWrapper result = get(key);
+            if (result != null) {
+                return (T) result.get();
+            }
+        }
+
+        String cacheKey = createCacheKey(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(cacheKey, future);
+        if (inFlight != null) {
+            long waitStart = System.nanoTime();
+            try {
+                return (T) await(inFlight);
+            } finally {
+                extendedStatistics.recordLockWait(System.nanoTime() - waitStart);
+            }
+        }
+        try {
+            Object value = load(key, cacheKey, valueLoader);
+            future.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cacheKey, future);
+        }
+    }
+
+    private ValueWrapper getAndRefresh(Object key, Callable<?> valueLoader) {
+        String cacheKey = createCacheKey(key);
+        List<Object> results = refresher.getWithTtl(serializeCacheKey(cacheKey));
+        byte[] value = (byte[]) results.get(0);
+        if (value == null) {
+            return null;
+        }
+        extendedStatistics.recordHit();
+        Long remaining = (Long) results.get(1);
+        if (remaining != null && refresher.shouldRefresh(remaining, getCacheConfiguration().getTtl(), loadNanos)) {
+            refresher.refresh(cacheKey, () -> decorator.put(key, loadValue(key, valueLoader)));
+        }
+        return toValueWrapper(deserializeCacheValue(value));
+    }
+
+    private Object load(Object key, String cacheKey, Callable<?> valueLoader) {
+        if (lockTimeout == null) {
+            return loadAndPut(key, valueLoader);
+        }
+
+        byte[] rawKey = serializeCacheKey(cacheKey);
+        byte[] lockKey = serializeCacheKey(cacheKey + LOCK_SUFFIX);
+        byte[] lockToken = IdUtil.fastSimpleUUID().getBytes(StandardCharsets.UTF_8);
+        long waitStart = System.nanoTime();
+        long deadline = waitStart + lockTimeout.toNanos();
+        long backoff = MIN_BACKOFF_NANOS;
+        ValueWrapper result;
+        boolean waited = false;
+        while (!tryLock(lockKey, lockToken)) {
+            waited = true;
+            LockSupport.parkNanos(backoff);
+            result = peek(rawKey);
+            if (result != null) {
+                extendedStatistics.recordLockWait(System.nanoTime() - waitStart);
+                return result.get();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                extendedStatistics.recordLockWait(System.nanoTime() - waitStart);
+                return loadAndPut(key, valueLoader);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+        }
+        extendedStatistics.recordLockWait(System.nanoTime() - waitStart);
+        try {
+            // 等锁期间其他节点可能已加载完成; 首次即获取到锁时调用方刚读取过, 不再重复读取
+            result = waited ? peek(rawKey) : null;
+            return result != null ? result.get() : loadAndPut(key, valueLoader);
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
+
+    /**
+     * 直接从连接读取缓存, 不经过 {@link RedisCacheWriter}, 不计入命中统计
+     */
+    @Nullable
+    private ValueWrapper peek(byte[] rawKey) {
+        byte[] value;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            value = connection.stringCommands().get(rawKey);
+        }
+        return value != null ? toValueWrapper(deserializeCacheValue(value)) : null;
+    }
+
+    private boolean tryLock(byte[] lockKey, byte[] lockToken) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return Boolean.TRUE.equals(connection.stringCommands().set(lockKey, lockToken,
+                    Expiration.from(lockTimeout), RedisStringCommands.SetOption.ifAbsent()));
+        }
+    }
+
+    /**
+     * 释放集群锁, 锁已过期并被其他节点持有时不删除
+     */
+    private void unlock(byte[] lockKey, byte[] lockToken) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().eval(UNLOCK_SCRIPT, ReturnType.INTEGER, 1, lockKey, lockToken);
+        } catch (RuntimeException e) {
+            // 释放失败时锁在超时后自动过期
+            logger.warn("Release single-flight lock of cache [{}] failed: {}", getName(), e.getMessage());
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        Object value = loadValue(key, valueLoader);
+        put(key, value);
+        return value;
+    }
+
+    private static Object loadValue(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package cn.darkjrong.redis.cache;
+
+import cn.hutool.core.collection.CollectionUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 扩展 Redis 缓存管理器
+ * <p>
+ * 创建 {@link ExtendedRedisCache}, 并按配置开启单飞加载、提前刷新, 为缓存增加近端缓存等装饰
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class ExtendedRedisCacheManager extends RedisCacheManager implements DisposableBean {
+
+    private final RedisCacheWriter cacheWriter;
+    private final RedisCacheConfiguration defaultCacheConfig;
+
+    private RedisConnectionFactory singleFlightConnectionFactory;
+    private Duration singleFlightLockTimeout;
+
+    private CacheRefresher cacheRefresher;
+    private Set<String> refreshAheadNames;
+
+    private NearCacheInvalidator nearCacheInvalidator;
+    private int nearCacheMaximumSize;
+    private Duration nearCacheTimeToLive;
+    private Set<String> nearCacheNames;
+
+    private final Map<String, ExtendedRedisCache> redisCaches = new ConcurrentHashMap<>();
+    private final List<Consumer<ExtendedRedisCache>> cacheListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 扩展 Redis 缓存管理器
+     *
+     * @param cacheWriter                {@link RedisCacheWriter}
+     * @param defaultCacheConfig         默认缓存配置
+     * @param initialCacheConfigurations 初始缓存配置
+     */
+    public ExtendedRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfig,
+                                     Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+        super(cacheWriter, defaultCacheConfig, initialCacheConfigurations, true);
+        this.cacheWriter = cacheWriter;
+        this.defaultCacheConfig = defaultCacheConfig;
+    }
+
+    /**
+     * 开启单飞加载, 同一 key 的并发加载只执行一次
+     *
+     * @param connectionFactory 连接工厂, 用于集群锁
+     * @param lockTimeout       集群锁超时时间, 为null时仅在当前JVM内单飞
+     */
+    public void enableSingleFlight(RedisConnectionFactory connectionFactory, @Nullable Duration lockTimeout) {
+        Assert.notNull(connectionFactory, "connectionFactory must not be null");
+        this.singleFlightConnectionFactory = connectionFactory;
+        this.singleFlightLockTimeout = lockTimeout;
+    }
+
+    /**
+     * 开启提前刷新, 临近过期的命中在后台重新加载
+     * <p>
+     * 后台刷新在刷新线程中再次调用本次请求的加载方法, 因此只应对加载不依赖调用线程上下文(事务、登录信息等)的缓存开启
+     *
+     * @param cacheNames        开启的缓存名称, 不能为空
+     * @param connectionFactory 连接工厂
+     * @param ratio             剩余过期时间低于该比例时刷新, 0 表示不按比例刷新
+     * @param beta              XFetch 概率提前刷新系数, 0 表示不按概率刷新
+     * @param threads           刷新线程数
+     * @param queueCapacity     刷新队列容量
+     */
+    public void enableRefreshAhead(Collection<String> cacheNames, RedisConnectionFactory connectionFactory,
+                                   double ratio, double beta, int threads, int queueCapacity) {
+        Assert.notEmpty(cacheNames, "cacheNames must not be empty");
+        this.refreshAheadNames = new HashSet<>(cacheNames);
+        this.cacheRefresher = new CacheRefresher(connectionFactory, ratio, beta, threads, queueCapacity);
+    }
+
+    /**
+     * 开启近端缓存
+     *
+     * @param invalidator 失效通知
+     * @param maximumSize 每个缓存的最大条目数
+     * @param timeToLive  近端缓存存活时间
+     * @param cacheNames  开启的缓存名称, 为空时全部开启
+     */
+    public void enableNearCache(NearCacheInvalidator invalidator, int maximumSize, Duration timeToLive,
+                                @Nullable Collection<String> cacheNames) {
+        Assert.notNull(invalidator, "invalidator must not be null");
+        this.nearCacheInvalidator = invalidator;
+        this.nearCacheMaximumSize = maximumSize;
+        this.nearCacheTimeToLive = timeToLive;
+        this.nearCacheNames = CollectionUtil.isEmpty(cacheNames) ? null : new HashSet<>(cacheNames);
+    }
+
+    /**
+     * 获取已创建的 Redis 缓存(未经近端缓存、事务等装饰), 可用于读取统计
+     *
+     * @return {@link Collection}<{@link ExtendedRedisCache}>
+     */
+    public Collection<ExtendedRedisCache> getRedisCaches() {
+        return Collections.unmodifiableCollection(redisCaches.values());
+    }
+
+    /**
+     * 注册缓存创建监听, 对已创建的缓存立即回调, 之后每创建一个缓存(含运行时动态创建)回调一次
+     *
+     * @param listener 监听
+     */
+    public void onCacheCreated(Consumer<ExtendedRedisCache> listener) {
+        Assert.notNull(listener, "listener must not be null");
+        cacheListeners.add(listener);
+        redisCaches.values().forEach(listener);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (nearCacheInvalidator != null) {
+            nearCacheInvalidator.start();
+        }
+        super.afterPropertiesSet();
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, @Nullable RedisCacheConfiguration cacheConfig) {
+        ExtendedRedisCache cache = new ExtendedRedisCache(name, cacheWriter, cacheConfig != null ? cacheConfig : defaultCacheConfig);
+        if (singleFlightConnectionFactory != null) {
+            cache.enableSingleFlight(singleFlightConnectionFactory, singleFlightLockTimeout);
+        }
+        if (cacheRefresher != null && refreshAheadNames.contains(name)) {
+            cache.enableRefreshAhead(cacheRefresher);
+        }
+        redisCaches.put(name, cache);
+        cacheListeners.forEach(listener -> listener.accept(cache));
+        return cache;
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        if (nearCacheInvalidator != null && cache instanceof ExtendedRedisCache
+                && (nearCacheNames == null || nearCacheNames.contains(cache.getName()))) {
+            NearCache nearCache = new NearCache((ExtendedRedisCache) cache,
+                    new NearCacheStore(nearCacheMaximumSize, nearCacheTimeToLive), nearCacheInvalidator);
+            nearCacheInvalidator.register(nearCache);
+            ((ExtendedRedisCache) cache).setDecorator(nearCache);
+            cache = nearCache;
+        }
+        return super.decorateCache(cache);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (cacheRefresher != null) {
+            cacheRefresher.close();
+        }
+        if (nearCacheInvalidator != null) {
+            nearCacheInvalidator.close();
+        }
+    }
+
+}
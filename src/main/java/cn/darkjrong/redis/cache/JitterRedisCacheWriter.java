@@ -0,0 +1,81 @@
+package cn.darkjrong.redis.cache;
+
+import cn.darkjrong.redis.TtlUtils;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 过期时间抖动的 {@link RedisCacheWriter}
+ * <p>
+ * 写入缓存时为过期时间增加随机抖动, 使批量预热的数据分散过期, 避免 Redis 集中淘汰及数据库瞬时压力
+ * <p>
+ * 仅用于缓存条目的写入({@code put}/{@code putIfAbsent}), 单飞集群锁等需要精确过期时间的键不应经过该写入器,
+ * 见 {@link ExtendedRedisCache}
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class JitterRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final double jitter;
+
+    /**
+     * 过期时间抖动的 {@link RedisCacheWriter}
+     *
+     * @param delegate 被装饰的 {@link RedisCacheWriter}
+     * @param jitter   抖动比例, 如 0.1 表示 ±10%
+     */
+    public JitterRedisCacheWriter(RedisCacheWriter delegate, double jitter) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.isTrue(jitter >= 0 && jitter < 1, "jitter must be in [0, 1)");
+        this.delegate = delegate;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        delegate.put(name, key, value, TtlUtils.jitter(ttl, jitter));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, TtlUtils.jitter(ttl, jitter));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new JitterRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), jitter);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+}
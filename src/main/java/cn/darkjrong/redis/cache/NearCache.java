@@ -0,0 +1,158 @@
+package cn.darkjrong.redis.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 近端缓存(二级缓存)
+ * <p>
+ * 在 Redis 缓存前增加进程内缓存, 命中时不再访问 Redis; 写入、删除时通过 Redis 发布订阅通知其他实例失效.
+ * 近端缓存直接持有值对象, 缓存值应视为不可变
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class NearCache implements Cache {
+
+    private final ExtendedRedisCache redisCache;
+    private final NearCacheStore store;
+    private final NearCacheInvalidator invalidator;
+
+    NearCache(ExtendedRedisCache redisCache, NearCacheStore store, NearCacheInvalidator invalidator) {
+        this.redisCache = redisCache;
+        this.store = store;
+        this.invalidator = invalidator;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    /**
+     * 获取被装饰的 Redis 缓存
+     *
+     * @return {@link ExtendedRedisCache}
+     */
+    public ExtendedRedisCache getRedisCache() {
+        return redisCache;
+    }
+
+    /**
+     * 近端缓存当前条目数
+     *
+     * @return int
+     */
+    public int getLocalSize() {
+        return store.size();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = redisCache.createCacheKey(key);
+        ValueWrapper valueWrapper = store.get(cacheKey);
+        if (valueWrapper != null) {
+            redisCache.getExtendedStatistics().recordHit();
+            return valueWrapper;
+        }
+        long stamp = store.stamp(cacheKey);
+        valueWrapper = redisCache.get(key);
+        if (valueWrapper != null) {
+            store.put(cacheKey, valueWrapper, stamp);
+        }
+        return valueWrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper == null ? null : valueWrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = redisCache.createCacheKey(key);
+        ValueWrapper valueWrapper = store.get(cacheKey);
+        if (valueWrapper != null) {
+            redisCache.getExtendedStatistics().recordHit();
+            return (T) valueWrapper.get();
+        }
+        long stamp = store.stamp(cacheKey);
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = redisCache.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (value != null || redisCache.isAllowNullValues()) {
+            store.put(cacheKey, new SimpleValueWrapper(value), stamp);
+        }
+        if (loaded.get()) {
+            invalidator.publish(getName(), cacheKey);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        String cacheKey = redisCache.createCacheKey(key);
+        redisCache.put(key, value);
+        store.remove(cacheKey);
+        store.put(cacheKey, new SimpleValueWrapper(value));
+        invalidator.publish(getName(), cacheKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        String cacheKey = redisCache.createCacheKey(key);
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        store.remove(cacheKey);
+        if (existing == null) {
+            invalidator.publish(getName(), cacheKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = redisCache.createCacheKey(key);
+        redisCache.evict(key);
+        store.remove(cacheKey);
+        invalidator.publish(getName(), cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        store.clear();
+        invalidator.publish(getName(), null);
+    }
+
+    /**
+     * 使本地缓存失效, 由失效通知调用
+     *
+     * @param cacheKey 缓存 key, 为null时清空
+     */
+    void invalidateLocal(@Nullable String cacheKey) {
+        if (cacheKey == null) {
+            store.clear();
+        } else {
+            store.remove(cacheKey);
+        }
+    }
+
+}
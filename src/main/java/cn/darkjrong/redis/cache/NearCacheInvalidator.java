@@ -0,0 +1,113 @@
+package cn.darkjrong.redis.cache;
+
+import cn.hutool.core.util.IdUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 近端缓存失效通知
+ * <p>
+ * 通过 Redis 发布订阅在实例间传播缓存失效, 消息格式: 实例ID + 换行 + 缓存名称 + 换行 + 缓存 key(清空时无),
+ * 忽略本实例发出的消息. 订阅断开期间的消息会丢失, 此时依赖近端缓存的存活时间兜底
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class NearCacheInvalidator implements MessageListener, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheInvalidator.class);
+
+    private static final char SEPARATOR = '\n';
+
+    private final String instanceId = IdUtil.fastSimpleUUID();
+    private final RedisConnectionFactory connectionFactory;
+    private final byte[] channel;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 近端缓存失效通知
+     *
+     * @param connectionFactory 连接工厂
+     * @param channel           失效通知频道
+     */
+    public NearCacheInvalidator(RedisConnectionFactory connectionFactory, String channel) {
+        Assert.notNull(connectionFactory, "connectionFactory must not be null");
+        Assert.hasText(channel, "channel must not be empty");
+        this.connectionFactory = connectionFactory;
+        this.channel = channel.getBytes(StandardCharsets.UTF_8);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * 开始订阅
+     */
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * 注册近端缓存
+     *
+     * @param cache 近端缓存
+     */
+    void register(NearCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    /**
+     * 发布失效通知
+     *
+     * @param cacheName 缓存名称
+     * @param cacheKey  缓存 key, 为null时表示清空
+     */
+    void publish(String cacheName, @Nullable String cacheKey) {
+        StringBuilder message = new StringBuilder(instanceId.length() + cacheName.length() + 64)
+                .append(instanceId).append(SEPARATOR).append(cacheName).append(SEPARATOR);
+        if (cacheKey != null) {
+            message.append(cacheKey);
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.publish(channel, message.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            logger.warn("Publish near cache invalidation of [{}] failed: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(SEPARATOR, first + 1);
+        if (second < 0 || (first == instanceId.length() && body.startsWith(instanceId))) {
+            return;
+        }
+        NearCache cache = caches.get(body.substring(first + 1, second));
+        if (cache != null) {
+            String cacheKey = body.substring(second + 1);
+            cache.invalidateLocal(cacheKey.isEmpty() ? null : cacheKey);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        listenerContainer.stop();
+        listenerContainer.destroy();
+    }
+
+}
@@ -0,0 +1,179 @@
+package cn.darkjrong.redis.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 近端缓存存储
+ * <p>
+ * 分段的 LRU 存储, 按容量及写入时间淘汰. 每个分段维护失效版本号, 远端读取前记录版本号,
+ * 写回时版本号已变化(期间发生过失效)则放弃写回, 避免将旧值写回近端缓存
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+class NearCacheStore {
+
+    private final Segment[] segments;
+    private final long timeToLiveNanos;
+
+    /**
+     * 近端缓存存储
+     *
+     * @param maximumSize 最大条目数
+     * @param timeToLive  存活时间
+     */
+    NearCacheStore(int maximumSize, Duration timeToLive) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+        Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        int count = maximumSize >= 256 ? 16 : 1;
+        int capacity = (maximumSize + count - 1) / count;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    /**
+     * 获取缓存值
+     *
+     * @param key key
+     * @return {@link Cache.ValueWrapper}, 不存在或已过期时为null
+     */
+    Cache.ValueWrapper get(String key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            CacheEntry entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt - System.nanoTime() <= 0) {
+                segment.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * 获取 key 所在分段的失效版本号
+     *
+     * @param key key
+     * @return long
+     */
+    long stamp(String key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            return segment.version;
+        }
+    }
+
+    /**
+     * 写入缓存值
+     *
+     * @param key   key
+     * @param value 缓存值
+     */
+    void put(String key, Cache.ValueWrapper value) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, new CacheEntry(value, System.nanoTime() + timeToLiveNanos));
+        }
+    }
+
+    /**
+     * 写入缓存值, 读取后发生过失效则放弃
+     *
+     * @param key   key
+     * @param value 缓存值
+     * @param stamp 读取前的失效版本号
+     */
+    void put(String key, Cache.ValueWrapper value, long stamp) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            if (segment.version == stamp) {
+                segment.put(key, new CacheEntry(value, System.nanoTime() + timeToLiveNanos));
+            }
+        }
+    }
+
+    /**
+     * 删除缓存值
+     *
+     * @param key key
+     */
+    void remove(String key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.version++;
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * 清空
+     */
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.version++;
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * 当前条目数
+     *
+     * @return int
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segment(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static class CacheEntry {
+
+        private final Cache.ValueWrapper value;
+        private final long expireAt;
+
+        CacheEntry(Cache.ValueWrapper value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+
+    private static class Segment extends LinkedHashMap<String, CacheEntry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private long version;
+
+        Segment(int capacity) {
+            super(16, 0.75F, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > capacity;
+        }
+    }
+
+}
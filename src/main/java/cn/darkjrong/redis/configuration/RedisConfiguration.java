@@ -1,23 +1,41 @@
 package cn.darkjrong.redis.configuration;
 
+import cn.darkjrong.redis.AsyncRedisUtils;
+import cn.darkjrong.redis.KeyspaceScanner;
+import cn.darkjrong.redis.RedisCommandCoalescer;
+import cn.darkjrong.redis.RedisScriptRegistry;
 import cn.darkjrong.redis.RedisUtils;
+import cn.darkjrong.redis.cache.CompactKeyGenerator;
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import cn.darkjrong.redis.cache.JitterRedisCacheWriter;
+import cn.darkjrong.redis.cache.NearCacheInvalidator;
+import cn.darkjrong.redis.configuration.serializer.CompressionRedisValueSerializer;
 import cn.darkjrong.redis.configuration.serializer.RedisKeySerializer;
 import cn.darkjrong.redis.configuration.serializer.RedisValueSerializer;
+import cn.darkjrong.redis.limit.RedisRateLimiter;
+import cn.darkjrong.redis.lock.RedisLockRegistry;
+import cn.darkjrong.spring.boot.autoconfigure.RedisExtendProperties;
+import cn.darkjrong.spring.boot.autoconfigure.RedisSerializeAutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.lang.Nullable;
 
-import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Redis 配置
@@ -33,15 +51,18 @@ public class RedisConfiguration extends CachingConfigurerSupport {
     private final CacheProperties cacheProperties;
     private final RedisKeySerializer redisKeySerializer;
     private final RedisValueSerializer<?> redisValueSerializer;
+    private final RedisExtendProperties redisExtendProperties;
 
     public RedisConfiguration(RedisConnectionFactory redisConnectionFactory,
                               CacheProperties cacheProperties,
                               RedisKeySerializer redisKeySerializer,
-                              RedisValueSerializer<?> redisValueSerializer) {
+                              RedisValueSerializer<?> redisValueSerializer,
+                              RedisExtendProperties redisExtendProperties) {
         this.redisConnectionFactory = redisConnectionFactory;
         this.cacheProperties = cacheProperties;
         this.redisKeySerializer = redisKeySerializer;
         this.redisValueSerializer = redisValueSerializer;
+        this.redisExtendProperties = redisExtendProperties;
     }
 
     /**
@@ -52,18 +73,7 @@ public class RedisConfiguration extends CachingConfigurerSupport {
     @Bean
     @Override
     public KeyGenerator keyGenerator() {
-        return new KeyGenerator() {
-            @Override
-            public Object generate(Object target, Method method, Object... params) {
-                StringBuffer sb = new StringBuffer();
-                sb.append(target.getClass().getName());
-                sb.append(method.getName());
-                for (Object obj : params) {
-                    sb.append(obj.toString());
-                }
-                return sb.toString();
-            }
-        };
+        return new CompactKeyGenerator(redisExtendProperties.getCache().getKeyMaxLength());
     }
 
     /**
@@ -76,6 +86,75 @@ public class RedisConfiguration extends CachingConfigurerSupport {
     @Override
     public CacheManager cacheManager() {
 
+        //缓存过期时间
+        Duration ttl = (cacheProperties.getRedis() == null
+                || cacheProperties.getRedis().getTimeToLive() == null
+                || cacheProperties.getRedis().getTimeToLive().isZero())
+                ? timeToLive : cacheProperties.getRedis().getTimeToLive();
+
+        RedisCacheConfiguration config = cacheConfiguration(ttl, false, redisValueSerializer, null);
+
+        //按缓存名称的配置
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new LinkedHashMap<>();
+        redisExtendProperties.getCache().getConfigs().forEach((name, spec) -> cacheConfigurations.put(name,
+                cacheConfiguration(spec.getTtl() != null ? spec.getTtl() : ttl,
+                        Boolean.TRUE.equals(spec.getCacheNullValues()), cacheValueSerializer(spec), spec.getKeyPrefix())));
+
+        //安全模式下清空缓存使用 SCAN
+        RedisExtendProperties.Scan scan = redisExtendProperties.getScan();
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory,
+                scan.isSafeMode() ? BatchStrategies.scan(scan.getCount()) : BatchStrategies.keys());
+
+        //缓存统计
+        if (redisExtendProperties.getCache().isStatistics()
+                || (cacheProperties.getRedis() != null && cacheProperties.getRedis().isEnableStatistics())) {
+            cacheWriter = cacheWriter.withStatisticsCollector(CacheStatisticsCollector.create());
+        }
+
+        //过期时间抖动
+        double ttlJitter = redisExtendProperties.getCache().getTtlJitter();
+        if (ttlJitter > 0) {
+            cacheWriter = new JitterRedisCacheWriter(cacheWriter, ttlJitter);
+        }
+
+        ExtendedRedisCacheManager cacheManager = new ExtendedRedisCacheManager(cacheWriter, config, cacheConfigurations);
+        cacheManager.setTransactionAware(true);
+
+        //单飞加载
+        RedisExtendProperties.SingleFlight singleFlight = redisExtendProperties.getCache().getSingleFlight();
+        if (singleFlight.isEnabled()) {
+            cacheManager.enableSingleFlight(redisConnectionFactory, singleFlight.isDistributed() ? singleFlight.getLockTimeout() : null);
+        }
+
+        //提前刷新
+        RedisExtendProperties.RefreshAhead refreshAhead = redisExtendProperties.getCache().getRefreshAhead();
+        if (refreshAhead.isEnabled()) {
+            cacheManager.enableRefreshAhead(refreshAhead.getCacheNames(), redisConnectionFactory, refreshAhead.getRatio(),
+                    refreshAhead.getBeta(), refreshAhead.getThreads(), refreshAhead.getQueueCapacity());
+        }
+
+        //近端缓存
+        RedisExtendProperties.NearCache nearCache = redisExtendProperties.getCache().getNear();
+        if (nearCache.isEnabled()) {
+            cacheManager.enableNearCache(new NearCacheInvalidator(redisConnectionFactory, nearCache.getChannel()),
+                    nearCache.getMaximumSize(), nearCache.getTimeToLive(), nearCache.getCacheNames());
+        }
+
+        return cacheManager;
+    }
+
+    /**
+     * 创建缓存配置
+     *
+     * @param ttl             缓存过期时间
+     * @param cacheNullValues 是否缓存null值
+     * @param valueSerializer value序列化方式
+     * @param keyPrefix       key前缀, 为null时使用默认前缀(缓存名称::)
+     * @return {@link RedisCacheConfiguration}
+     */
+    private RedisCacheConfiguration cacheConfiguration(Duration ttl, boolean cacheNullValues,
+                                                       RedisValueSerializer<?> valueSerializer, @Nullable String keyPrefix) {
+
         //关键点，spring cache的注解使用的序列化都从这来，没有这个配置的话使用的jdk自己的序列化，实际上不影响使用，只是打印出来不适合人眼识别
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
 
@@ -83,22 +162,48 @@ public class RedisConfiguration extends CachingConfigurerSupport {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(redisKeySerializer))
 
                 //value序列化方式
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer))
-
-                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
 
                 //缓存过期时间
-                .entryTtl((cacheProperties.getRedis() == null
-                        || cacheProperties.getRedis().getTimeToLive() == null
-                        || cacheProperties.getRedis().getTimeToLive().isZero())
-                        ? timeToLive : cacheProperties.getRedis().getTimeToLive());
+                .entryTtl(ttl);
 
-        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.RedisCacheManagerBuilder
-                .fromConnectionFactory(redisConnectionFactory)
-                .cacheDefaults(config)
-                .transactionAware();
+        if (!cacheNullValues) {
+            config = config.disableCachingNullValues();
+        }
+        if (keyPrefix != null) {
+            config = config.computePrefixWith(cacheName -> keyPrefix);
+        }
+        return config;
+    }
 
-        return builder.build();
+    /**
+     * 获取指定缓存的value序列化方式, 未单独配置时使用全局序列化方式
+     *
+     * @param spec 缓存配置
+     * @return {@link RedisValueSerializer}
+     */
+    @SuppressWarnings("unchecked")
+    private RedisValueSerializer<?> cacheValueSerializer(RedisExtendProperties.CacheSpec spec) {
+        if (spec.getSerializer() == null && spec.getCompression() == null) {
+            return redisValueSerializer;
+        }
+        RedisValueSerializer<Object> valueSerializer;
+        if (spec.getSerializer() != null) {
+            RedisExtendProperties.Serializer serializer = new RedisExtendProperties.Serializer();
+            serializer.setType(spec.getSerializer());
+            serializer.setTypes(redisExtendProperties.getSerializer().getTypes());
+            serializer.setAllowedPackages(redisExtendProperties.getSerializer().getAllowedPackages());
+            valueSerializer = RedisSerializeAutoConfiguration.createValueSerializer(serializer);
+        } else if (redisValueSerializer instanceof CompressionRedisValueSerializer) {
+            valueSerializer = ((CompressionRedisValueSerializer) redisValueSerializer).getDelegate();
+        } else {
+            valueSerializer = (RedisValueSerializer<Object>) redisValueSerializer;
+        }
+        boolean compression = spec.getCompression() != null
+                ? spec.getCompression() : redisExtendProperties.getCompression().isEnabled();
+        return compression
+                ? RedisSerializeAutoConfiguration.compress(valueSerializer, redisExtendProperties.getCompression())
+                : valueSerializer;
     }
 
     /**
@@ -128,16 +233,102 @@ public class RedisConfiguration extends CachingConfigurerSupport {
     }
 
     /**
-     * 注入封装RedisTemplate
+     * 读命令合并器
      *
      * @param redisTemplate {@link RedisTemplate}
+     * @return {@link RedisCommandCoalescer}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.redis.extend.coalescing", name = "enabled", havingValue = "true")
+    public RedisCommandCoalescer redisCommandCoalescer(RedisTemplate<String, Object> redisTemplate) {
+        RedisExtendProperties.Coalescing coalescing = redisExtendProperties.getCoalescing();
+        return new RedisCommandCoalescer(redisTemplate, coalescing.getWindow(), coalescing.getMaxBatchSize());
+    }
+
+    /**
+     * 全库 key 扫描器
+     *
+     * @param redisTemplate {@link RedisTemplate}
+     * @return {@link KeyspaceScanner}
+     */
+    @Bean
+    public KeyspaceScanner keyspaceScanner(RedisTemplate<String, Object> redisTemplate) {
+        return new KeyspaceScanner(redisTemplate, redisExtendProperties.getScan().getParallelism());
+    }
+
+    /**
+     * Lua 脚本注册表
+     *
+     * @param redisTemplate {@link RedisTemplate}
+     * @return {@link RedisScriptRegistry}
+     */
+    @Bean
+    public RedisScriptRegistry redisScriptRegistry(RedisTemplate<String, Object> redisTemplate) {
+        RedisScriptRegistry redisScriptRegistry = new RedisScriptRegistry(redisTemplate);
+        redisScriptRegistry.load(redisExtendProperties.getScript().getLocations());
+        return redisScriptRegistry;
+    }
+
+    /**
+     * 分布式锁注册表
+     *
+     * @param redisTemplate       {@link RedisTemplate}
+     * @param redisScriptRegistry Lua 脚本注册表
+     * @return {@link RedisLockRegistry}
+     */
+    @Bean
+    public RedisLockRegistry redisLockRegistry(RedisTemplate<String, Object> redisTemplate, RedisScriptRegistry redisScriptRegistry) {
+        RedisExtendProperties.Lock lock = redisExtendProperties.getLock();
+        return new RedisLockRegistry(redisTemplate, redisScriptRegistry, lock.getKeyPrefix(), lock.getLeaseTime(),
+                lock.isFair(), lock.getChannel());
+    }
+
+    /**
+     * 分布式限流
+     *
+     * @param redisTemplate       {@link RedisTemplate}
+     * @param redisScriptRegistry Lua 脚本注册表
+     * @return {@link RedisRateLimiter}
+     */
+    @Bean
+    public RedisRateLimiter redisRateLimiter(RedisTemplate<String, Object> redisTemplate, RedisScriptRegistry redisScriptRegistry) {
+        RedisExtendProperties.RateLimiter rateLimiter = redisExtendProperties.getRateLimiter();
+        return new RedisRateLimiter(redisTemplate, redisScriptRegistry, rateLimiter.getKeyPrefix(), rateLimiter.isLocalPreCheck(),
+                rateLimiter.getLocalMaxEntries());
+    }
+
+    /**
+     * 注入封装RedisTemplate
+     *
+     * @param redisTemplate         {@link RedisTemplate}
+     * @param redisCommandCoalescer 读命令合并器, 未开启时为null
+     * @param keyspaceScanner       全库 key 扫描器
      * @return {@link RedisUtils}
      */
     @Bean(name = "redisUtils")
-    public RedisUtils redisUtils(RedisTemplate<String, Object> redisTemplate) {
+    public RedisUtils redisUtils(RedisTemplate<String, Object> redisTemplate,
+                                 @Nullable RedisCommandCoalescer redisCommandCoalescer,
+                                 @Nullable KeyspaceScanner keyspaceScanner) {
         RedisUtils redisUtils = new RedisUtils();
         redisUtils.setRedisTemplate(redisTemplate);
+        redisUtils.setCommandCoalescer(redisCommandCoalescer);
+        redisUtils.setKeyspaceScanner(keyspaceScanner);
+        redisUtils.setSafeMode(redisExtendProperties.getScan().isSafeMode());
+        redisUtils.setScanCount(redisExtendProperties.getScan().getCount());
+        redisUtils.setVirtualThreads(redisExtendProperties.getQueue().isVirtualThreads());
+        redisUtils.setQueuePollTimeout(redisExtendProperties.getQueue().getPollTimeout());
         return redisUtils;
     }
 
+    /**
+     * 注入 Redis 异步工具类
+     *
+     * @param redisUtils {@link RedisUtils}
+     * @return {@link AsyncRedisUtils}
+     */
+    @Bean
+    public AsyncRedisUtils asyncRedisUtils(RedisUtils redisUtils) {
+        return new AsyncRedisUtils(redisUtils, redisExtendProperties.getAsync().getThreads());
+    }
+
 }
@@ -0,0 +1,662 @@
+package cn.darkjrong.redis.configuration.serializer;
+
+import cn.darkjrong.redis.BeanUtils;
+import cn.hutool.core.util.ArrayUtil;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Value 紧凑二进制序列化器
+ * <p>
+ * 数值使用变长编码, 字符串只写长度与 UTF-8 内容, 已注册类型只写短整型ID而非全类名,
+ * 对象字段按声明顺序写入(不写字段名). 字段增删或调整顺序后旧数据需清理, 未注册类型写入全类名.
+ * <p>
+ * 安全: 读取时只实例化已注册类型及 {@link #setAllowedPackages(Collection)} 允许的包下的类型, 写入时同样校验以尽早发现遗漏;
+ * 无专用编码的 JDK 类型(如 Duration)使用 Java 原生序列化, 反序列化时只允许 java.lang/java.util/java.time/java.math 下的类,
+ * 避免写入 Redis 的数据成为反序列化攻击入口.
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class CompactRedisValueSerializer implements RedisValueSerializer<Object> {
+
+    /**
+     * 格式标识, 不与 JSON 首字节冲突
+     */
+    static final byte MAGIC = (byte) 0xCB;
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte STRING = 7;
+    private static final byte BYTES = 8;
+    private static final byte SHORT = 9;
+    private static final byte BYTE = 10;
+    private static final byte CHAR = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte BIG_INTEGER = 13;
+    private static final byte DATE = 14;
+    private static final byte LIST = 15;
+    private static final byte SET = 16;
+    private static final byte MAP = 17;
+    private static final byte ENUM = 18;
+    private static final byte OBJECT = 19;
+    private static final byte ARRAY = 20;
+    private static final byte LOCAL_DATE = 21;
+    private static final byte LOCAL_TIME = 22;
+    private static final byte LOCAL_DATE_TIME = 23;
+    private static final byte INSTANT = 24;
+    private static final byte UUID_VALUE = 25;
+    private static final byte SERIALIZABLE = 26;
+
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    /**
+     * 允许原生反序列化的 JDK 包(不含子包)
+     */
+    private static final String[] JDK_VALUE_PACKAGES = {"java.lang.", "java.util.", "java.time.", "java.math."};
+
+    private final Map<Class<?>, Integer> typeIds = new ConcurrentHashMap<>();
+    private final Map<Integer, Class<?>> idTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Field[]> fieldCache = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+    private volatile String[] allowedPackages = new String[0];
+
+    /**
+     * 注册类型, 注册后只写入类型ID
+     *
+     * @param id   类型ID, 须大于0
+     * @param type 类型
+     */
+    public void registerType(int id, Class<?> type) {
+        Assert.isTrue(id > 0, "type id must be greater than 0");
+        Class<?> registered = idTypes.putIfAbsent(id, type);
+        Assert.isTrue(registered == null || registered == type, "type id " + id + " already registered to " + registered);
+        typeIds.put(type, id);
+    }
+
+    /**
+     * 设置允许按全类名读写的包, 如 com.example.model, 已注册类型不受限制
+     *
+     * @param packages 包名
+     */
+    public void setAllowedPackages(Collection<String> packages) {
+        this.allowedPackages = packages.stream()
+                .map(name -> name.endsWith(".") ? name : name + ".")
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 批量注册类型
+     *
+     * @param types 类型ID与类型
+     */
+    public void registerTypes(Map<Integer, Class<?>> types) {
+        types.forEach(this::registerType);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Output output = new Output();
+        output.writeByte(MAGIC);
+        try {
+            write(output, value);
+        } catch (IOException | IllegalAccessException e) {
+            throw new SerializationException("Could not write compact value: " + e.getMessage(), e);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (ArrayUtil.isEmpty(bytes)) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            throw new SerializationException("Could not read compact value: unknown format 0x" + Integer.toHexString(bytes[0] & 0xFF));
+        }
+        Input input = new Input(bytes, 1);
+        try {
+            return read(input);
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            throw new SerializationException("Could not read compact value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R deserialize(byte[] bytes, Type type) throws SerializationException {
+        Object value = deserialize(bytes);
+        Class<?> rawClass = rawClass(type);
+        if (value == null || (rawClass != null && rawClass.isInstance(value))) {
+            return (R) value;
+        }
+        return BeanUtils.copyProperties(value, type);
+    }
+
+    private void write(Output output, Object value) throws IOException, IllegalAccessException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            output.writeString((String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeVarLong(zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeVarLong(Float.floatToRawIntBits((Float) value) & 0xFFFFFFFFL);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeVarLong(zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            output.writeByte(CHAR);
+            output.writeVarLong((Character) value);
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            output.writeBytes((byte[]) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeString(value.toString());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            output.writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeVarLong(zigZag(((Date) value).getTime()));
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeString(value.toString());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeVarLong(zigZag(((LocalDate) value).toEpochDay()));
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeVarLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof Instant) {
+            output.writeByte(INSTANT);
+            output.writeVarLong(zigZag(((Instant) value).getEpochSecond()));
+            output.writeVarLong(((Instant) value).getNano());
+        } else if (value instanceof UUID) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Enum) {
+            output.writeByte(ENUM);
+            writeClass(output, ((Enum<?>) value).getDeclaringClass());
+            output.writeString(((Enum<?>) value).name());
+        } else if (value instanceof Set) {
+            output.writeByte(SET);
+            writeElements(output, (Collection<?>) value);
+        } else if (value instanceof Collection) {
+            output.writeByte(LIST);
+            writeElements(output, (Collection<?>) value);
+        } else if (value instanceof Map) {
+            output.writeByte(MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            output.writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(output, entry.getKey());
+                write(output, entry.getValue());
+            }
+        } else if (value.getClass().isArray()) {
+            output.writeByte(ARRAY);
+            writeClass(output, value.getClass().getComponentType());
+            int length = Array.getLength(value);
+            output.writeVarLong(length);
+            for (int i = 0; i < length; i++) {
+                write(output, Array.get(value, i));
+            }
+        } else if (isJdkType(value.getClass())) {
+            if (!(value instanceof Serializable) || !isSerializableJdkType(value.getClass().getName())) {
+                throw new SerializationException("Unsupported type " + value.getClass().getName());
+            }
+            output.writeByte(SERIALIZABLE);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            output.writeBytes(bytes.toByteArray());
+        } else {
+            output.writeByte(OBJECT);
+            writeClass(output, value.getClass());
+            Field[] fields = fields(value.getClass());
+            output.writeVarLong(fields.length);
+            for (Field field : fields) {
+                write(output, field.get(value));
+            }
+        }
+    }
+
+    private void writeElements(Output output, Collection<?> collection) throws IOException, IllegalAccessException {
+        output.writeVarLong(collection.size());
+        for (Object element : collection) {
+            write(output, element);
+        }
+    }
+
+    private void writeClass(Output output, Class<?> type) {
+        Integer id = typeIds.get(type);
+        if (id != null) {
+            output.writeVarLong(id);
+        } else {
+            if (!isAllowed(type.getName())) {
+                throw new SerializationException("Type " + type.getName() + " is neither registered nor in allowed packages");
+            }
+            output.writeVarLong(0);
+            output.writeString(type.getName());
+        }
+    }
+
+    private Object read(Input input) throws IOException, ReflectiveOperationException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case INT:
+                return (int) unZigZag(input.readVarLong());
+            case LONG:
+                return unZigZag(input.readVarLong());
+            case DOUBLE:
+                return Double.longBitsToDouble(input.readLong());
+            case FLOAT:
+                return Float.intBitsToFloat((int) input.readVarLong());
+            case STRING:
+                return input.readString();
+            case BYTES:
+                return input.readBytes();
+            case SHORT:
+                return (short) unZigZag(input.readVarLong());
+            case BYTE:
+                return input.readByte();
+            case CHAR:
+                return (char) input.readVarLong();
+            case BIG_DECIMAL:
+                return new BigDecimal(input.readString());
+            case BIG_INTEGER:
+                return new BigInteger(input.readBytes());
+            case DATE:
+                return new Date(unZigZag(input.readVarLong()));
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse(input.readString());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(unZigZag(input.readVarLong()));
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readVarLong());
+            case INSTANT:
+                return Instant.ofEpochSecond(unZigZag(input.readVarLong()), input.readVarLong());
+            case UUID_VALUE:
+                return new UUID(input.readLong(), input.readLong());
+            case ENUM:
+                Class<?> enumType = readClass(input);
+                if (!enumType.isEnum()) {
+                    throw new IOException("type " + enumType.getName() + " is not an enum");
+                }
+                return readEnum(enumType, input.readString());
+            case LIST:
+                return readElements(input, new ArrayList<>());
+            case SET:
+                return readElements(input, new LinkedHashSet<>());
+            case MAP:
+                int size = input.readSize();
+                Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, size * 4 / 3 + 1));
+                for (int i = 0; i < size; i++) {
+                    map.put(read(input), read(input));
+                }
+                return map;
+            case ARRAY:
+                Class<?> componentType = readClass(input);
+                int length = input.readSize();
+                Object array = Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(array, i, read(input));
+                }
+                return array;
+            case SERIALIZABLE:
+                try (ObjectInputStream objectInput = new JdkObjectInputStream(new ByteArrayInputStream(input.readBytes()))) {
+                    return objectInput.readObject();
+                }
+            case OBJECT:
+                Class<?> type = readClass(input);
+                if (isJdkType(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                    throw new IOException("type " + type.getName() + " can not be read as object");
+                }
+                return readObject(input, type);
+            default:
+                throw new IOException("unknown tag " + tag);
+        }
+    }
+
+    private Collection<Object> readElements(Input input, Collection<Object> collection) throws IOException, ReflectiveOperationException {
+        int size = input.readSize();
+        for (int i = 0; i < size; i++) {
+            collection.add(read(input));
+        }
+        return collection;
+    }
+
+    private Object readObject(Input input, Class<?> type) throws IOException, ReflectiveOperationException {
+        Object object = OBJENESIS.newInstance(type);
+        Field[] fields = fields(type);
+        int count = input.readSize();
+        for (int i = 0; i < count; i++) {
+            Object value = read(input);
+            if (i < fields.length) {
+                fields[i].set(object, adapt(value, fields[i].getType()));
+            }
+        }
+        return object;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    private Class<?> readClass(Input input) throws IOException, ClassNotFoundException {
+        int id = (int) input.readVarLong();
+        if (id > 0) {
+            Class<?> type = idTypes.get(id);
+            if (type == null) {
+                throw new IOException("unregistered type id " + id);
+            }
+            return type;
+        }
+        String name = input.readString();
+        Class<?> type = classCache.get(name);
+        if (type == null) {
+            if (!isAllowed(name)) {
+                throw new IOException("type " + name + " is neither registered nor in allowed packages");
+            }
+            // 不执行静态初始化
+            type = ClassUtils.forName(name, ClassUtils.getDefaultClassLoader());
+            classCache.put(name, type);
+        }
+        return type;
+    }
+
+    /**
+     * 按全类名读写的类型是否允许: 基本类型、JDK 类型、允许的包下的类型(数组按元素类型判断)
+     *
+     * @param name 全类名
+     * @return boolean
+     */
+    private boolean isAllowed(String name) {
+        String elementName = elementName(name);
+        // JDK 类型只用于枚举与数组元素, 不会按对象实例化
+        if (isPrimitive(name, elementName) || elementName.startsWith("java.")) {
+            return true;
+        }
+        for (String allowedPackage : allowedPackages) {
+            if (elementName.startsWith(allowedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将集合/Map 适配为字段声明的具体类型
+     */
+    @SuppressWarnings("unchecked")
+    private static Object adapt(Object value, Class<?> fieldType) throws ReflectiveOperationException {
+        if (value == null || fieldType.isPrimitive() || fieldType.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof Collection && Collection.class.isAssignableFrom(fieldType) && !Modifier.isAbstract(fieldType.getModifiers())) {
+            Collection<Object> collection = (Collection<Object>) fieldType.getDeclaredConstructor().newInstance();
+            collection.addAll((Collection<?>) value);
+            return collection;
+        }
+        if (value instanceof Map && Map.class.isAssignableFrom(fieldType) && !Modifier.isAbstract(fieldType.getModifiers())) {
+            Map<Object, Object> map = (Map<Object, Object>) fieldType.getDeclaredConstructor().newInstance();
+            map.putAll((Map<?, ?>) value);
+            return map;
+        }
+        return value;
+    }
+
+    private Field[] fields(Class<?> type) {
+        Field[] fields = fieldCache.get(type);
+        if (fields == null) {
+            List<Field> list = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                list.add(field);
+            }, field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()));
+            fields = list.toArray(new Field[0]);
+            fieldCache.put(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * 数组类名([[Ljava.lang.String; 等)转为元素类名, 基本类型数组返回类型描述符(如 I)
+     */
+    private static String elementName(String name) {
+        int dimensions = 0;
+        while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        if (dimensions == 0) {
+            return name;
+        }
+        String element = name.substring(dimensions);
+        return element.startsWith("L") && element.endsWith(";") ? element.substring(1, element.length() - 1) : element;
+    }
+
+    private static boolean isPrimitive(String name, String elementName) {
+        return ClassUtils.resolvePrimitiveClassName(elementName) != null || (name.startsWith("[") && elementName.length() == 1);
+    }
+
+    /**
+     * 允许 Java 原生反序列化的 JDK 类型
+     */
+    private static boolean isSerializableJdkType(String name) {
+        for (String jdkPackage : JDK_VALUE_PACKAGES) {
+            if (name.startsWith(jdkPackage) && name.indexOf('.', jdkPackage.length()) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return ClassUtils.resolvePrimitiveIfNecessary((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        }
+        return null;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 可扩容字节输出
+     */
+    private static class Output {
+
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int i = 7; i >= 0; i--) {
+                buffer[position++] = (byte) (value >>> (i * 8));
+            }
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+            }
+        }
+    }
+
+    /**
+     * 字节输入
+     */
+    private static class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() throws EOFException {
+            if (position >= buffer.length) {
+                throw new EOFException();
+            }
+            return buffer[position++];
+        }
+
+        long readVarLong() throws EOFException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new EOFException("malformed varint");
+        }
+
+        long readLong() throws EOFException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        /**
+         * 读取长度或元素数量, 每个字节/元素至少占用一个字节, 超过剩余字节数的长度来自损坏或伪造的输入, 在分配内存前拒绝
+         */
+        int readSize() throws EOFException {
+            long size = readVarLong();
+            if (size < 0 || size > buffer.length - position) {
+                throw new EOFException("size " + size + " exceeds remaining " + (buffer.length - position) + " bytes");
+            }
+            return (int) size;
+        }
+
+        byte[] readBytes() throws EOFException {
+            int length = readSize();
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() throws EOFException {
+            int length = readSize();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+    /**
+     * 只允许 JDK 值类型的对象输入流, 拒绝动态代理
+     */
+    private static class JdkObjectInputStream extends ObjectInputStream {
+
+        JdkObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = elementName(desc.getName());
+            if (!isPrimitive(desc.getName(), name) && !isSerializableJdkType(name)) {
+                throw new InvalidClassException(desc.getName(), "class is not allowed to be deserialized");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy classes are not allowed to be deserialized");
+        }
+    }
+
+}
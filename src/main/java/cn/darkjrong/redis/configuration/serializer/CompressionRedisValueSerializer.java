@@ -0,0 +1,303 @@
+package cn.darkjrong.redis.configuration.serializer;
+
+import cn.hutool.core.util.ArrayUtil;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis Value 压缩序列化器
+ * <p>
+ * 装饰其他 {@link RedisValueSerializer}, 序列化结果超过阈值时压缩并写入头部标识, 未压缩的数据原样透传,
+ * 因此开启压缩前写入的数据仍可正常读取. 头部格式: 标识(1字节) + 压缩算法(1字节) + 原始长度(4字节)
+ * <p>
+ * {@link Deflater}/{@link Inflater} 持有 zlib 堆外内存, 使用有界池复用, 池满时归还的实例立即 end() 释放, 不随线程数增长
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class CompressionRedisValueSerializer implements RedisValueSerializer<Object> {
+
+    /**
+     * 压缩标识, 不与 JSON 及紧凑二进制格式首字节冲突
+     */
+    static final byte MARKER = 0x1F;
+
+    /**
+     * 压缩算法: Deflate
+     */
+    static final byte DEFLATE = 1;
+
+    private static final int HEADER_LENGTH = 6;
+
+    /**
+     * 解压后长度上限, 与 Redis 单个字符串的上限(512MB)一致
+     */
+    private static final int MAX_LENGTH = 512 * 1024 * 1024;
+
+    /**
+     * Deflate 的最大压缩比约为 1032:1, 声明的原始长度超过该比例视为数据损坏
+     */
+    private static final int MAX_RATIO = 1032;
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final RedisValueSerializer<Object> delegate;
+    private final int threshold;
+    private final Pool<Deflater> deflaters;
+    private final Pool<Inflater> inflaters = new Pool<>(Inflater::new, Inflater::reset, Inflater::end);
+    private final Statistics statistics = new Statistics();
+
+    /**
+     * 压缩序列化器
+     *
+     * @param delegate  被装饰的序列化器
+     * @param threshold 压缩阈值(字节), 超过该值才压缩
+     * @param level     压缩级别, 参见 {@link Deflater}
+     */
+    public CompressionRedisValueSerializer(RedisValueSerializer<Object> delegate, int threshold, int level) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.isTrue(threshold >= 0, "threshold must not be negative");
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.deflaters = new Pool<>(() -> new Deflater(level), Deflater::reset, Deflater::end);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (ArrayUtil.isEmpty(bytes) || bytes.length <= threshold) {
+            statistics.skipped.increment();
+            return bytes;
+        }
+        long start = System.nanoTime();
+        byte[] compressed = compress(bytes);
+        statistics.compressNanos.add(System.nanoTime() - start);
+        if (compressed.length >= bytes.length) {
+            statistics.skipped.increment();
+            return bytes;
+        }
+        statistics.compressed.increment();
+        statistics.bytesIn.add(bytes.length);
+        statistics.bytesOut.add(compressed.length);
+        return compressed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(decompress(bytes));
+    }
+
+    @Override
+    public <R> R deserialize(byte[] bytes, Type type) throws SerializationException {
+        return delegate.deserialize(decompress(bytes), type);
+    }
+
+    /**
+     * 获取压缩统计
+     *
+     * @return {@link Statistics}
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * 获取被装饰的序列化器
+     *
+     * @return {@link RedisValueSerializer}
+     */
+    public RedisValueSerializer<Object> getDelegate() {
+        return delegate;
+    }
+
+    private byte[] compress(byte[] bytes) {
+        Deflater deflater = deflaters.borrow();
+        try {
+            return compress(deflater, bytes);
+        } finally {
+            deflaters.release(deflater);
+        }
+    }
+
+    private static byte[] compress(Deflater deflater, byte[] bytes) {
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 2 + HEADER_LENGTH);
+        output.write(MARKER);
+        output.write(DEFLATE);
+        output.write(bytes.length >>> 24);
+        output.write(bytes.length >>> 16);
+        output.write(bytes.length >>> 8);
+        output.write(bytes.length);
+
+        byte[] buffer = new byte[Math.min(bytes.length, 8192)];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            output.write(buffer, 0, count);
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (!isCompressed(bytes)) {
+            return bytes;
+        }
+        if (bytes[1] != DEFLATE) {
+            throw new SerializationException("Could not decompress value: unknown codec " + bytes[1]);
+        }
+        long start = System.nanoTime();
+        int length = ((bytes[2] & 0xFF) << 24) | ((bytes[3] & 0xFF) << 16) | ((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF);
+        int compressedLength = bytes.length - HEADER_LENGTH;
+        if (length <= 0 || length > MAX_LENGTH || length > (long) compressedLength * MAX_RATIO) {
+            throw new SerializationException("Could not decompress value: invalid length " + (length & 0xFFFFFFFFL)
+                    + " for " + compressedLength + " compressed bytes");
+        }
+        byte[] result = new byte[length];
+        Inflater inflater = inflaters.borrow();
+        try {
+            inflater.setInput(bytes, HEADER_LENGTH, compressedLength);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int count = inflater.inflate(result, offset, length - offset);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += count;
+            }
+            if (offset != length || !inflater.finished()) {
+                throw new SerializationException("Could not decompress value: expected " + length
+                        + " bytes but " + (offset != length ? "got " + offset : "found more data"));
+            }
+        } catch (DataFormatException e) {
+            throw new SerializationException("Could not decompress value: " + e.getMessage(), e);
+        } finally {
+            inflaters.release(inflater);
+        }
+        statistics.decompressed.increment();
+        statistics.decompressNanos.add(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 是否为压缩数据
+     *
+     * @param bytes 字节
+     * @return boolean
+     */
+    static boolean isCompressed(byte[] bytes) {
+        return bytes != null && bytes.length > HEADER_LENGTH && bytes[0] == MARKER;
+    }
+
+    /**
+     * 压缩统计
+     */
+    public static class Statistics {
+
+        private final LongAdder compressed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder decompressed = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder compressNanos = new LongAdder();
+        private final LongAdder decompressNanos = new LongAdder();
+
+        /**
+         * 压缩次数
+         */
+        public long getCompressedCount() {
+            return compressed.sum();
+        }
+
+        /**
+         * 未压缩次数(低于阈值或压缩无收益)
+         */
+        public long getSkippedCount() {
+            return skipped.sum();
+        }
+
+        /**
+         * 解压次数
+         */
+        public long getDecompressedCount() {
+            return decompressed.sum();
+        }
+
+        /**
+         * 压缩前字节数
+         */
+        public long getBytesIn() {
+            return bytesIn.sum();
+        }
+
+        /**
+         * 压缩后字节数
+         */
+        public long getBytesOut() {
+            return bytesOut.sum();
+        }
+
+        /**
+         * 压缩比(压缩后/压缩前), 未压缩过时为1
+         */
+        public double getRatio() {
+            long in = bytesIn.sum();
+            return in == 0 ? 1D : (double) bytesOut.sum() / in;
+        }
+
+        /**
+         * 压缩耗时(纳秒)
+         */
+        public long getCompressNanos() {
+            return compressNanos.sum();
+        }
+
+        /**
+         * 解压耗时(纳秒)
+         */
+        public long getDecompressNanos() {
+            return decompressNanos.sum();
+        }
+    }
+
+    /**
+     * 有界对象池, 池空时新建, 池满时销毁归还的对象
+     */
+    private static class Pool<T> {
+
+        private final BlockingQueue<T> queue = new ArrayBlockingQueue<>(POOL_SIZE);
+        private final Supplier<T> creator;
+        private final Consumer<T> resetter;
+        private final Consumer<T> destroyer;
+
+        Pool(Supplier<T> creator, Consumer<T> resetter, Consumer<T> destroyer) {
+            this.creator = creator;
+            this.resetter = resetter;
+            this.destroyer = destroyer;
+        }
+
+        T borrow() {
+            T value = queue.poll();
+            return value == null ? creator.get() : value;
+        }
+
+        void release(T value) {
+            resetter.accept(value);
+            if (!queue.offer(value)) {
+                destroyer.accept(value);
+            }
+        }
+    }
+
+}
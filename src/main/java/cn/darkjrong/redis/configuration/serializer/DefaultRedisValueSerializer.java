@@ -1,10 +1,15 @@
 package cn.darkjrong.redis.configuration.serializer;
 
+import cn.hutool.core.util.ArrayUtil;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
 
 /**
  * Redis Key 默认序列化器
@@ -14,6 +19,8 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
  */
 public class DefaultRedisValueSerializer extends Jackson2JsonRedisSerializer<Object> implements RedisValueSerializer<Object> {
 
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     public DefaultRedisValueSerializer() {
         super(Object.class);
     }
@@ -28,5 +35,23 @@ public class DefaultRedisValueSerializer extends Jackson2JsonRedisSerializer<Obj
         this.setObjectMapper(om);
     }
 
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        super.setObjectMapper(objectMapper);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public <R> R deserialize(byte[] bytes, Type type) throws SerializationException {
+        if (ArrayUtil.isEmpty(bytes)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, objectMapper.getTypeFactory().constructType(type));
+        } catch (IOException e) {
+            // 存储类型与目标类型不兼容(如 Person 读取为 HashMap), 回退为属性复制
+            return RedisValueSerializer.super.deserialize(bytes, type);
+        }
+    }
 
 }
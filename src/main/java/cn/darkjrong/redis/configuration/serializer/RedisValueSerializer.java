@@ -1,6 +1,10 @@
 package cn.darkjrong.redis.configuration.serializer;
 
+import cn.darkjrong.redis.BeanUtils;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.lang.reflect.Type;
 
 /**
  * Redis Value 序列化器
@@ -10,8 +14,19 @@ import org.springframework.data.redis.serializer.RedisSerializer;
  */
 public interface RedisValueSerializer<T> extends RedisSerializer<T> {
 
-
-
-
+    /**
+     * 按目标类型反序列化
+     * <p>
+     * 默认先反序列化为对象再复制属性, 实现类可直接从字节解析为目标类型, 省去中间对象
+     *
+     * @param bytes 字节
+     * @param type  目标类型
+     * @param <R>   目标对象泛型
+     * @return {@link R} 目标对象
+     * @throws SerializationException 序列化异常
+     */
+    default <R> R deserialize(byte[] bytes, Type type) throws SerializationException {
+        return BeanUtils.copyProperties(deserialize(bytes), type);
+    }
 
 }
@@ -0,0 +1,141 @@
+package cn.darkjrong.redis.limit;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 限流规则
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public final class RateLimit {
+
+    private final Algorithm algorithm;
+    private final long limit;
+    private final long refillTokens;
+    private final long periodMillis;
+
+    private RateLimit(Algorithm algorithm, long limit, long refillTokens, Duration period) {
+        Assert.isTrue(limit > 0, "limit must be greater than 0");
+        Assert.isTrue(refillTokens > 0, "refillTokens must be greater than 0");
+        Assert.isTrue(period != null && period.toMillis() > 0, "period must be at least 1 ms");
+        this.algorithm = algorithm;
+        this.limit = limit;
+        this.refillTokens = refillTokens;
+        this.periodMillis = period.toMillis();
+    }
+
+    /**
+     * 令牌桶, 允许不超过容量的突发, 令牌按速率匀速补充
+     *
+     * @param capacity     容量
+     * @param refillTokens 每个周期补充的令牌数
+     * @param period       周期
+     * @return {@link RateLimit}
+     */
+    public static RateLimit tokenBucket(long capacity, long refillTokens, Duration period) {
+        return new RateLimit(Algorithm.TOKEN_BUCKET, capacity, refillTokens, period);
+    }
+
+    /**
+     * 滑动窗口日志, 精确统计任意窗口内的次数, 内存占用与窗口内次数成正比
+     *
+     * @param limit  窗口内允许的次数
+     * @param window 窗口
+     * @return {@link RateLimit}
+     */
+    public static RateLimit slidingWindowLog(long limit, Duration window) {
+        return new RateLimit(Algorithm.SLIDING_WINDOW_LOG, limit, limit, window);
+    }
+
+    /**
+     * 滑动窗口计数, 以相邻两个固定窗口的计数加权估算, 内存占用固定
+     *
+     * @param limit  窗口内允许的次数
+     * @param window 窗口
+     * @return {@link RateLimit}
+     */
+    public static RateLimit slidingWindowCounter(long limit, Duration window) {
+        return new RateLimit(Algorithm.SLIDING_WINDOW_COUNTER, limit, limit, window);
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 令牌桶容量或窗口内允许的次数
+     *
+     * @return long
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * 令牌桶每个周期补充的令牌数
+     *
+     * @return long
+     */
+    public long getRefillTokens() {
+        return refillTokens;
+    }
+
+    /**
+     * 令牌桶补充周期或窗口大小(毫秒)
+     *
+     * @return long
+     */
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RateLimit)) {
+            return false;
+        }
+        RateLimit that = (RateLimit) o;
+        return algorithm == that.algorithm && limit == that.limit
+                && refillTokens == that.refillTokens && periodMillis == that.periodMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, limit, refillTokens, periodMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit[" + algorithm + ", limit=" + limit + ", refillTokens=" + refillTokens + ", period=" + periodMillis + "ms]";
+    }
+
+    /**
+     * 限流算法
+     */
+    public enum Algorithm {
+
+        /**
+         * 令牌桶
+         */
+        TOKEN_BUCKET,
+
+        /**
+         * 滑动窗口日志
+         */
+        SLIDING_WINDOW_LOG,
+
+        /**
+         * 滑动窗口计数
+         */
+        SLIDING_WINDOW_COUNTER,
+
+    }
+
+}
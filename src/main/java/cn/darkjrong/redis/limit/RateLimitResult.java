@@ -0,0 +1,53 @@
+package cn.darkjrong.redis.limit;
+
+/**
+ * 限流结果
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public final class RateLimitResult {
+
+    private final boolean allowed;
+    private final long remaining;
+    private final long retryAfterMillis;
+
+    RateLimitResult(boolean allowed, long remaining, long retryAfterMillis) {
+        this.allowed = allowed;
+        this.remaining = remaining;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * 是否通过
+     *
+     * @return boolean
+     */
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    /**
+     * 剩余令牌数或窗口内剩余次数, 本地预检拒绝时为0
+     *
+     * @return long
+     */
+    public long getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * 被拒绝时至少需等待的毫秒数, 通过时为0, 申请数超过上限(永远无法满足)时为-1
+     *
+     * @return long
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitResult[allowed=" + allowed + ", remaining=" + remaining + ", retryAfter=" + retryAfterMillis + "ms]";
+    }
+
+}
@@ -0,0 +1,193 @@
+package cn.darkjrong.redis.limit;
+
+import cn.darkjrong.redis.RedisScriptRegistry;
+import cn.hutool.core.util.IdUtil;
+import com.alibaba.fastjson.TypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 分布式限流
+ * <p>
+ * 令牌桶、滑动窗口日志、滑动窗口计数均由一个 Lua 脚本原子完成(一次网络往返), 时间取 Redis 服务端时间, 多个节点之间无需时钟同步.
+ * <p>
+ * 本地预检: 被拒绝的 key 记录服务端给出的最短等待时间, 在此之前同一规则、不少于上次申请数的请求直接在本地拒绝, 不访问 Redis.
+ * 令牌与窗口额度只会随时间恢复, 其他节点的请求只会让等待更久, 因此本地拒绝不会误拒可以通过的请求
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class RedisRateLimiter {
+
+    static final String TOKEN_BUCKET_SCRIPT = "rate-limit:token-bucket";
+    static final String SLIDING_WINDOW_LOG_SCRIPT = "rate-limit:sliding-window-log";
+    static final String SLIDING_WINDOW_COUNTER_SCRIPT = "rate-limit:sliding-window-counter";
+
+    private static final TypeReference<List<Long>> RESULT_TYPE = new TypeReference<List<Long>>() {};
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
+    private final String keyPrefix;
+    private final boolean localPreCheck;
+    private final int localMaxEntries;
+    private final Map<String, Denial> denials = new ConcurrentHashMap<>();
+
+    /**
+     * Redis 分布式限流
+     *
+     * @param redisTemplate   {@link RedisTemplate}
+     * @param scriptRegistry  Lua 脚本注册表
+     * @param keyPrefix       限流 key 前缀
+     * @param localPreCheck   是否开启本地预检
+     * @param localMaxEntries 本地预检最多记录的 key 数量
+     */
+    public RedisRateLimiter(RedisTemplate<String, Object> redisTemplate, RedisScriptRegistry scriptRegistry,
+                            String keyPrefix, boolean localPreCheck, int localMaxEntries) {
+        Assert.notNull(redisTemplate, "redisTemplate must not be null");
+        Assert.notNull(scriptRegistry, "scriptRegistry must not be null");
+        Assert.notNull(keyPrefix, "keyPrefix must not be null");
+        this.redisTemplate = redisTemplate;
+        this.scriptRegistry = scriptRegistry;
+        this.keyPrefix = keyPrefix;
+        this.localPreCheck = localPreCheck;
+        this.localMaxEntries = localMaxEntries;
+        scriptRegistry.register(TOKEN_BUCKET_SCRIPT, new ClassPathResource("token-bucket.lua", RedisRateLimiter.class));
+        scriptRegistry.register(SLIDING_WINDOW_LOG_SCRIPT, new ClassPathResource("sliding-window-log.lua", RedisRateLimiter.class));
+        scriptRegistry.register(SLIDING_WINDOW_COUNTER_SCRIPT, new ClassPathResource("sliding-window-counter.lua", RedisRateLimiter.class));
+    }
+
+    /**
+     * 尝试获取一次许可
+     *
+     * @param key   限流 key, 实际 key 为前缀 + key
+     * @param limit 限流规则
+     * @return 是否通过
+     */
+    public boolean tryAcquire(String key, RateLimit limit) {
+        return acquire(key, limit, 1).isAllowed();
+    }
+
+    /**
+     * 尝试获取许可
+     *
+     * @param key     限流 key, 实际 key 为前缀 + key
+     * @param limit   限流规则
+     * @param permits 许可数
+     * @return 是否通过
+     */
+    public boolean tryAcquire(String key, RateLimit limit, int permits) {
+        return acquire(key, limit, permits).isAllowed();
+    }
+
+    /**
+     * 尝试获取许可, 返回剩余额度及被拒绝时的等待时间
+     *
+     * @param key     限流 key, 实际 key 为前缀 + key
+     * @param limit   限流规则
+     * @param permits 许可数
+     * @return {@link RateLimitResult}
+     */
+    public RateLimitResult acquire(String key, RateLimit limit, int permits) {
+        Assert.hasText(key, "key must not be empty");
+        Assert.notNull(limit, "limit must not be null");
+        Assert.isTrue(permits > 0, "permits must be greater than 0");
+        if (permits > limit.getLimit()) {
+            return new RateLimitResult(false, 0, -1);
+        }
+        String redisKey = keyPrefix + key;
+        if (localPreCheck) {
+            RateLimitResult denied = checkLocal(redisKey, limit, permits);
+            if (denied != null) {
+                return denied;
+            }
+        }
+        RateLimitResult result = execute(redisKey, limit, permits);
+        if (localPreCheck && !result.isAllowed() && result.getRetryAfterMillis() > 0) {
+            recordLocal(redisKey, limit, permits, result.getRetryAfterMillis());
+        }
+        return result;
+    }
+
+    /**
+     * 重置限流状态, 同时清除本 JVM 的本地预检记录(其他节点的本地记录在等待时间到期后失效)
+     *
+     * @param key 限流 key, 实际 key 为前缀 + key
+     */
+    public void reset(String key) {
+        Assert.hasText(key, "key must not be empty");
+        String redisKey = keyPrefix + key;
+        denials.remove(redisKey);
+        redisTemplate.delete(redisKey);
+    }
+
+    private RateLimitResult execute(String redisKey, RateLimit limit, int permits) {
+        List<String> keys = Collections.singletonList(redisKey);
+        List<Long> result;
+        switch (limit.getAlgorithm()) {
+            case TOKEN_BUCKET:
+                result = scriptRegistry.execute(TOKEN_BUCKET_SCRIPT, RESULT_TYPE, keys,
+                        limit.getLimit(), limit.getRefillTokens(), limit.getPeriodMillis(), permits);
+                break;
+            case SLIDING_WINDOW_LOG:
+                result = scriptRegistry.execute(SLIDING_WINDOW_LOG_SCRIPT, RESULT_TYPE, keys,
+                        limit.getLimit(), limit.getPeriodMillis(), permits, IdUtil.fastSimpleUUID());
+                break;
+            default:
+                result = scriptRegistry.execute(SLIDING_WINDOW_COUNTER_SCRIPT, RESULT_TYPE, keys,
+                        limit.getLimit(), limit.getPeriodMillis(), permits);
+                break;
+        }
+        return new RateLimitResult(result.get(0) == 1L, result.get(1), result.get(2));
+    }
+
+    private RateLimitResult checkLocal(String redisKey, RateLimit limit, int permits) {
+        Denial denial = denials.get(redisKey);
+        if (denial == null) {
+            return null;
+        }
+        long remainingNanos = denial.until - System.nanoTime();
+        if (remainingNanos <= 0) {
+            denials.remove(redisKey, denial);
+            return null;
+        }
+        if (!denial.limit.equals(limit) || permits < denial.permits) {
+            return null;
+        }
+        return new RateLimitResult(false, 0, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+    }
+
+    private void recordLocal(String redisKey, RateLimit limit, int permits, long retryAfterMillis) {
+        if (denials.size() >= localMaxEntries) {
+            long now = System.nanoTime();
+            denials.values().removeIf(denial -> denial.until - now <= 0);
+            if (denials.size() >= localMaxEntries) {
+                return;
+            }
+        }
+        denials.put(redisKey, new Denial(limit, permits, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis)));
+    }
+
+    /**
+     * 本地记录的拒绝
+     */
+    private static final class Denial {
+
+        private final RateLimit limit;
+        private final int permits;
+        private final long until;
+
+        Denial(RateLimit limit, int permits, long until) {
+            this.limit = limit;
+            this.permits = permits;
+            this.until = until;
+        }
+    }
+
+}
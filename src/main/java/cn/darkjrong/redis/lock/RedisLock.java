@@ -0,0 +1,302 @@
+package cn.darkjrong.redis.lock;
+
+import cn.hutool.core.util.IdUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis 分布式锁
+ * <p>
+ * 可重入: 同一线程重复获取时只增加本地计数, 不访问 Redis. 本 JVM 内的线程先竞争本地锁(公平锁时按到达顺序),
+ * 每个 JVM 同一时刻只有一个线程在 Redis 上等待, 等待期间阻塞于释放通知, 不轮询 Redis.
+ * 未指定租期时由看门狗续期; 指定租期时到期自动释放, 释放时若锁已过期只记录警告
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class RedisLock implements Lock {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisLock.class);
+
+    /**
+     * 锁没有过期时间等异常情况下的重试间隔
+     */
+    private static final long RETRY_MILLIS = 100;
+
+    private final RedisLockRegistry registry;
+    private final String name;
+    private final String key;
+    private final ReentrantLock localLock;
+    private final Semaphore released = new Semaphore(0);
+    private String token;
+    private ScheduledFuture<?> renewal;
+    private int users;
+
+    RedisLock(RedisLockRegistry registry, String name, String key, boolean fair) {
+        this.registry = registry;
+        this.name = name;
+        this.key = key;
+        this.localLock = new ReentrantLock(fair);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 获取锁, 一直等待, 由看门狗续期
+     */
+    @Override
+    public void lock() {
+        try {
+            acquire(-1, -1, false);
+        } catch (InterruptedException e) {
+            // 不响应中断时等待过程中的中断只会恢复中断标记, 不会抛出
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 获取锁, 一直等待直至被中断, 由看门狗续期
+     *
+     * @throws InterruptedException 等待时被中断
+     */
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        acquire(-1, -1, true);
+    }
+
+    /**
+     * 尝试获取锁, 不等待, 由看门狗续期
+     *
+     * @return 是否获取成功
+     */
+    @Override
+    public boolean tryLock() {
+        try {
+            return acquire(0, -1, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 尝试获取锁, 由看门狗续期
+     *
+     * @param waitTime 最长等待时间, 小于等于0时不等待
+     * @param unit     时间单位
+     * @return 是否获取成功
+     * @throws InterruptedException 等待时被中断
+     */
+    @Override
+    public boolean tryLock(long waitTime, TimeUnit unit) throws InterruptedException {
+        return acquire(Math.max(0, unit.toMillis(waitTime)), -1, true);
+    }
+
+    /**
+     * 尝试获取锁, 租期到期后自动释放, 不续期
+     *
+     * @param waitTime  最长等待时间, 小于等于0时不等待
+     * @param leaseTime 租期
+     * @param unit      时间单位
+     * @return 是否获取成功
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        return acquire(Math.max(0, unit.toMillis(waitTime)), Math.max(1, unit.toMillis(leaseTime)), true);
+    }
+
+    /**
+     * 释放锁, 重入时只减少计数
+     *
+     * @throws IllegalMonitorStateException 当前线程未持有锁
+     */
+    @Override
+    public void unlock() {
+        if (!localLock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("Lock [" + name + "] is not held by current thread");
+        }
+        try {
+            if (localLock.getHoldCount() == 1) {
+                String currentToken = token;
+                token = null;
+                if (renewal != null) {
+                    renewal.cancel(false);
+                    renewal = null;
+                }
+                if (!registry.release(key, currentToken)) {
+                    logger.warn("Lock [{}] has expired before unlock and may have been acquired by others", name);
+                }
+            }
+        } finally {
+            unlockLocal();
+        }
+    }
+
+    /**
+     * 当前线程是否持有锁
+     *
+     * @return boolean
+     */
+    public boolean isHeldByCurrentThread() {
+        return localLock.isHeldByCurrentThread();
+    }
+
+    /**
+     * 当前线程的重入次数
+     *
+     * @return int
+     */
+    public int getHoldCount() {
+        return localLock.getHoldCount();
+    }
+
+    /**
+     * 锁是否被任意客户端持有
+     *
+     * @return boolean
+     */
+    public boolean isLocked() {
+        return registry.exists(key);
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException("Conditions are not supported by RedisLock");
+    }
+
+    /**
+     * 收到释放通知
+     */
+    void signal() {
+        released.release();
+    }
+
+    /**
+     * 获取锁
+     *
+     * @param waitMillis    最长等待时间(毫秒), 小于0表示一直等待
+     * @param leaseMillis   租期(毫秒), 小于0表示由看门狗续期
+     * @param interruptible 是否响应中断
+     * @return 是否获取成功
+     * @throws InterruptedException 等待时被中断
+     */
+    private boolean acquire(long waitMillis, long leaseMillis, boolean interruptible) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, waitMillis));
+        retain();
+        boolean locked = false;
+        try {
+            if (waitMillis < 0) {
+                if (interruptible) {
+                    localLock.lockInterruptibly();
+                } else {
+                    localLock.lock();
+                }
+                locked = true;
+            } else {
+                locked = localLock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            if (!locked) {
+                release();
+            }
+        }
+        if (!locked) {
+            return false;
+        }
+        if (localLock.getHoldCount() > 1) {
+            return true;
+        }
+        boolean acquired = false;
+        try {
+            acquired = acquireRemote(waitMillis >= 0, deadline, leaseMillis, interruptible);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                unlockLocal();
+            }
+        }
+    }
+
+    private boolean acquireRemote(boolean timed, long deadline, long leaseMillis, boolean interruptible) throws InterruptedException {
+        String newToken = IdUtil.fastSimpleUUID();
+        long lease = leaseMillis > 0 ? leaseMillis : registry.getLeaseMillis();
+        boolean waiting = false;
+        boolean interrupted = false;
+        try {
+            while (true) {
+                released.drainPermits();
+                Long ttl = registry.tryAcquire(key, newToken, lease);
+                if (ttl == null) {
+                    token = newToken;
+                    renewal = registry.held(this, newToken, leaseMillis <= 0);
+                    return true;
+                }
+                long remaining = !timed ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (!waiting) {
+                    // 登记后重试一次, 避免错过登记前发出的释放通知
+                    registry.addWaiter(this);
+                    waiting = true;
+                    continue;
+                }
+                long wait = Math.min(remaining, ttl > 0 ? ttl : RETRY_MILLIS);
+                try {
+                    released.tryAcquire(wait, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    if (interruptible) {
+                        throw e;
+                    }
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (waiting) {
+                registry.removeWaiter(this);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void unlockLocal() {
+        localLock.unlock();
+        release();
+    }
+
+    /**
+     * 登记一次持有或等待, 期间注册表保持对锁对象的强引用, 保证同一线程重入时取得的是同一个锁对象
+     */
+    private synchronized void retain() {
+        if (users++ == 0) {
+            registry.pin(this);
+        }
+    }
+
+    private synchronized void release() {
+        if (--users == 0) {
+            registry.unpin(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RedisLock[" + name + "]";
+    }
+
+}
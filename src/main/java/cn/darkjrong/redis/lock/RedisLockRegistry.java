@@ -0,0 +1,265 @@
+package cn.darkjrong.redis.lock;
+
+import cn.darkjrong.redis.RedisScriptRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 分布式锁注册表
+ * <p>
+ * 按名称获取 {@link RedisLock}, 同一名称在本 JVM 内返回同一个锁对象: 锁对象被持有或等待期间由注册表强引用,
+ * 空闲后只保留弱引用, 调用方仍引用时继续返回该对象, 不再被引用时由 GC 回收以免无限增长. 锁以 SET NX PX 原子获取, 以 Lua 脚本校验持有者后释放,
+ * 释放时发布通知唤醒等待者(首次需要等待时才建立订阅), 未收到通知时按锁的剩余租期兜底重试;
+ * 未指定租期的锁由看门狗每隔租期的 1/3 续期, 直至释放
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class RedisLockRegistry implements MessageListener, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisLockRegistry.class);
+
+    static final String ACQUIRE_SCRIPT = "redis-lock:acquire";
+    static final String RELEASE_SCRIPT = "redis-lock:release";
+    static final String RENEW_SCRIPT = "redis-lock:renew";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
+    private final String keyPrefix;
+    private final long leaseMillis;
+    private final boolean fair;
+    private final String channel;
+    private final Map<String, LockReference> locks = new ConcurrentHashMap<>();
+    private final ReferenceQueue<RedisLock> collected = new ReferenceQueue<>();
+    private final Set<RedisLock> inUse = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<RedisLock>> waiters = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor watchdog;
+    private volatile RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * Redis 分布式锁注册表
+     *
+     * @param redisTemplate  {@link RedisTemplate}
+     * @param scriptRegistry Lua 脚本注册表
+     * @param keyPrefix      锁 key 前缀
+     * @param leaseTime      看门狗续期的租期
+     * @param fair           本 JVM 内的等待线程是否按到达顺序获取锁
+     * @param channel        释放通知频道
+     */
+    public RedisLockRegistry(RedisTemplate<String, Object> redisTemplate, RedisScriptRegistry scriptRegistry,
+                             String keyPrefix, Duration leaseTime, boolean fair, String channel) {
+        Assert.notNull(redisTemplate, "redisTemplate must not be null");
+        Assert.notNull(scriptRegistry, "scriptRegistry must not be null");
+        Assert.notNull(keyPrefix, "keyPrefix must not be null");
+        Assert.isTrue(leaseTime != null && leaseTime.toMillis() >= 3, "leaseTime must be at least 3 ms");
+        Assert.hasText(channel, "channel must not be empty");
+        this.redisTemplate = redisTemplate;
+        this.scriptRegistry = scriptRegistry;
+        this.keyPrefix = keyPrefix;
+        this.leaseMillis = leaseTime.toMillis();
+        this.fair = fair;
+        this.channel = channel;
+        scriptRegistry.register(ACQUIRE_SCRIPT, new ClassPathResource("acquire.lua", RedisLockRegistry.class));
+        scriptRegistry.register(RELEASE_SCRIPT, new ClassPathResource("release.lua", RedisLockRegistry.class));
+        scriptRegistry.register(RENEW_SCRIPT, new ClassPathResource("renew.lua", RedisLockRegistry.class));
+        AtomicInteger counter = new AtomicInteger();
+        this.watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "redis-lock-watchdog-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 获取锁
+     *
+     * @param name 锁名称, 实际 key 为前缀 + 名称
+     * @return {@link RedisLock}
+     */
+    public RedisLock getLock(String name) {
+        Assert.hasText(name, "name must not be empty");
+        purge();
+        RedisLock[] lock = new RedisLock[1];
+        locks.compute(name, (n, reference) -> {
+            lock[0] = reference != null ? reference.get() : null;
+            if (lock[0] != null) {
+                return reference;
+            }
+            lock[0] = new RedisLock(this, n, keyPrefix + n, fair);
+            return new LockReference(lock[0], collected);
+        });
+        return lock[0];
+    }
+
+    long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    /**
+     * 尝试获取锁
+     *
+     * @return 获取成功返回null, 否则返回锁的剩余租期(毫秒)
+     */
+    @Nullable
+    Long tryAcquire(String key, String token, long leaseMillis) {
+        return scriptRegistry.execute(ACQUIRE_SCRIPT, Long.class, Collections.singletonList(key), token, leaseMillis);
+    }
+
+    boolean release(String key, String token) {
+        return Boolean.TRUE.equals(scriptRegistry.execute(RELEASE_SCRIPT, Boolean.class, Collections.singletonList(key), token, channel));
+    }
+
+    boolean renew(String key, String token, long leaseMillis) {
+        return Boolean.TRUE.equals(scriptRegistry.execute(RENEW_SCRIPT, Boolean.class, Collections.singletonList(key), token, leaseMillis));
+    }
+
+    boolean exists(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    /**
+     * 获取成功后启动看门狗续期
+     *
+     * @param lock  锁
+     * @param token 持有者标识
+     * @param watch 是否由看门狗续期
+     * @return 续期任务, 不续期时返回null
+     */
+    @Nullable
+    ScheduledFuture<?> held(RedisLock lock, String token, boolean watch) {
+        if (!watch) {
+            return null;
+        }
+        long period = leaseMillis / 3;
+        return watchdog.scheduleAtFixedRate(() -> renewLease(lock, token), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 锁对象开始被持有或等待, 期间保持强引用
+     *
+     * @param lock 锁
+     */
+    void pin(RedisLock lock) {
+        inUse.add(lock);
+    }
+
+    /**
+     * 锁对象空闲, 只保留弱引用
+     *
+     * @param lock 锁
+     */
+    void unpin(RedisLock lock) {
+        inUse.remove(lock);
+    }
+
+    private void purge() {
+        Reference<? extends RedisLock> reference;
+        while ((reference = collected.poll()) != null) {
+            locks.remove(((LockReference) reference).name, reference);
+        }
+    }
+
+    private void renewLease(RedisLock lock, String token) {
+        try {
+            if (!renew(lock.getKey(), token, leaseMillis)) {
+                logger.warn("Renew lease of lock [{}] failed, the lock has expired", lock.getName());
+                throw new IllegalStateException("Lock [" + lock.getName() + "] expired");
+            }
+        } catch (IllegalStateException e) {
+            // 抛出异常以终止续期任务
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Renew lease of lock [{}] failed, retry later: {}", lock.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 登记等待者, 首次等待时建立释放通知订阅
+     *
+     * @param lock 锁
+     */
+    void addWaiter(RedisLock lock) {
+        subscribe();
+        waiters.computeIfAbsent(lock.getKey(), k -> ConcurrentHashMap.newKeySet()).add(lock);
+    }
+
+    void removeWaiter(RedisLock lock) {
+        waiters.computeIfPresent(lock.getKey(), (k, locks) -> {
+            locks.remove(lock);
+            return locks.isEmpty() ? null : locks;
+        });
+    }
+
+    private void subscribe() {
+        if (listenerContainer != null) {
+            return;
+        }
+        synchronized (this) {
+            if (listenerContainer == null) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+                container.addMessageListener(this, new ChannelTopic(channel));
+                container.afterPropertiesSet();
+                container.start();
+                listenerContainer = container;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        String key = ((RedisSerializer<String>) redisTemplate.getKeySerializer()).deserialize(message.getBody());
+        Set<RedisLock> locks = key == null ? null : waiters.get(key);
+        if (locks != null) {
+            locks.forEach(RedisLock::signal);
+        }
+    }
+
+    /**
+     * 锁对象的弱引用
+     */
+    private static class LockReference extends WeakReference<RedisLock> {
+
+        private final String name;
+
+        LockReference(RedisLock lock, ReferenceQueue<RedisLock> queue) {
+            super(lock, queue);
+            this.name = lock.getName();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        watchdog.shutdownNow();
+        RedisMessageListenerContainer container = listenerContainer;
+        if (container != null) {
+            container.stop();
+            container.destroy();
+        }
+    }
+
+}
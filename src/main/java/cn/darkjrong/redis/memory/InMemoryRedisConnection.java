@@ -0,0 +1,1624 @@
+package cn.darkjrong.redis.memory;
+
+import cn.darkjrong.redis.memory.InMemoryRedisDatabase.Entry;
+import cn.darkjrong.redis.memory.InMemoryRedisDatabase.Key;
+import cn.darkjrong.redis.memory.InMemoryRedisDatabase.Member;
+import cn.darkjrong.redis.memory.InMemoryRedisDatabase.ZSet;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.projection.DefaultMethodInvokingMethodInterceptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.KeyScanOptions;
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 内存 Redis 连接
+ * <p>
+ * 通过 {@link ProxyFactory} 代理 {@link RedisConnection}: 调用按方法名及参数类型分派到本类的同名公开方法,
+ * 本类未实现的默认方法(如 {@code zAdd(key, score, value)})执行接口默认实现, 最终落到本类实现的方法上,
+ * 其余方法抛出 {@link InvalidDataAccessApiUsageException}. MULTI 之后的命令排队, EXEC 时在同一把锁内依次执行
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+final class InMemoryRedisConnection implements MethodInterceptor {
+
+    private static final Set<String> CONTROL_METHODS = new HashSet<>(Arrays.asList(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline", "closePipeline",
+            "multi", "exec", "discard", "select"));
+
+    private static final Map<Method, Optional<Method>> IMPLEMENTATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * 默认方法调用, 共享以复用其缓存的 MethodHandle
+     */
+    private static final DefaultMethodInvokingMethodInterceptor DEFAULT_METHOD_INTERCEPTOR = new DefaultMethodInvokingMethodInterceptor();
+
+    private final InMemoryRedisConnectionFactory factory;
+    private RedisConnection proxy;
+    private int dbIndex;
+    private List<Object> pipelineResults;
+    private List<AbstractMap.SimpleImmutableEntry<Method, Object[]>> transactionCommands;
+    private boolean closed;
+
+    InMemoryRedisConnection(InMemoryRedisConnectionFactory factory) {
+        this.factory = factory;
+    }
+
+    RedisConnection proxy() {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.addInterface(RedisConnection.class);
+        proxyFactory.addAdvice(this);
+        proxyFactory.addAdvice(DEFAULT_METHOD_INTERCEPTOR);
+        proxy = (RedisConnection) proxyFactory.getProxy(InMemoryRedisConnection.class.getClassLoader());
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return invocation.getArguments()[0] == proxy;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "InMemoryRedisConnection[db=" + dbIndex + "]";
+            }
+        }
+        if (method.getParameterCount() == 0 && method.getReturnType().isInstance(proxy)) {
+            // keyCommands()、stringCommands() 等返回连接自身
+            return proxy;
+        }
+        Method implementation = IMPLEMENTATIONS.computeIfAbsent(method, InMemoryRedisConnection::implementation).orElse(null);
+        if (implementation == null) {
+            if (method.isDefault()) {
+                return invocation.proceed();
+            }
+            throw new InvalidDataAccessApiUsageException("Command [" + method.getName() + "] is not supported by in-memory Redis");
+        }
+        if (CONTROL_METHODS.contains(method.getName())) {
+            return call(implementation, invocation.getArguments());
+        }
+        if (closed) {
+            throw new RedisConnectionFailureException("Connection is closed");
+        }
+        if (transactionCommands != null) {
+            transactionCommands.add(new AbstractMap.SimpleImmutableEntry<>(implementation, invocation.getArguments()));
+            return null;
+        }
+        Object result;
+        Object lock = factory.lock();
+        synchronized (lock) {
+            result = call(implementation, invocation.getArguments());
+            // 唤醒等待中的阻塞弹出
+            lock.notifyAll();
+        }
+        if (pipelineResults != null) {
+            pipelineResults.add(result);
+            return null;
+        }
+        return result;
+    }
+
+    private static Optional<Method> implementation(Method method) {
+        try {
+            return Optional.of(InMemoryRedisConnection.class.getMethod(method.getName(), method.getParameterTypes()));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Object call(Method implementation, Object[] args) throws Throwable {
+        try {
+            return implementation.invoke(this, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private InMemoryRedisDatabase db() {
+        return factory.database(dbIndex);
+    }
+
+    // ------------------------------------------------ connection ------------------------------------------------
+
+    public void close() {
+        closed = true;
+        pipelineResults = null;
+        transactionCommands = null;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public Object getNativeConnection() {
+        return factory;
+    }
+
+    public boolean isQueueing() {
+        return transactionCommands != null;
+    }
+
+    public boolean isPipelined() {
+        return pipelineResults != null;
+    }
+
+    public void openPipeline() {
+        if (pipelineResults == null) {
+            pipelineResults = new ArrayList<>();
+        }
+    }
+
+    public List<Object> closePipeline() {
+        List<Object> results = pipelineResults;
+        pipelineResults = null;
+        return results == null ? Collections.emptyList() : results;
+    }
+
+    public void multi() {
+        if (transactionCommands == null) {
+            transactionCommands = new ArrayList<>();
+        }
+    }
+
+    public List<Object> exec() throws Throwable {
+        if (transactionCommands == null) {
+            throw new InvalidDataAccessApiUsageException("ERR EXEC without MULTI");
+        }
+        List<AbstractMap.SimpleImmutableEntry<Method, Object[]>> commands = transactionCommands;
+        transactionCommands = null;
+        if (closed) {
+            throw new RedisConnectionFailureException("Connection is closed");
+        }
+        List<Object> results = new ArrayList<>(commands.size());
+        Throwable error = null;
+        Object lock = factory.lock();
+        synchronized (lock) {
+            // 与 Redis 相同, 某条命令失败不影响其余命令执行
+            for (AbstractMap.SimpleImmutableEntry<Method, Object[]> command : commands) {
+                try {
+                    results.add(call(command.getKey(), command.getValue()));
+                } catch (RuntimeException e) {
+                    results.add(e);
+                    error = error == null ? e : error;
+                }
+            }
+            lock.notifyAll();
+        }
+        if (error != null) {
+            throw error;
+        }
+        if (pipelineResults != null) {
+            pipelineResults.add(results);
+            return null;
+        }
+        return results;
+    }
+
+    public void discard() {
+        if (transactionCommands == null) {
+            throw new InvalidDataAccessApiUsageException("ERR DISCARD without MULTI");
+        }
+        transactionCommands = null;
+    }
+
+    public void select(int dbIndex) {
+        factory.database(dbIndex);
+        this.dbIndex = dbIndex;
+    }
+
+    public String ping() {
+        return "PONG";
+    }
+
+    public byte[] echo(byte[] message) {
+        return message;
+    }
+
+    // ------------------------------------------------ server ------------------------------------------------
+
+    public Long dbSize() {
+        return (long) db().size();
+    }
+
+    public void flushDb() {
+        db().clear();
+    }
+
+    public void flushDb(RedisServerCommands.FlushOption option) {
+        flushDb();
+    }
+
+    public void flushAll() {
+        for (int i = 0; i < factory.databases(); i++) {
+            factory.database(i).clear();
+        }
+    }
+
+    public void flushAll(RedisServerCommands.FlushOption option) {
+        flushAll();
+    }
+
+    public Long time(TimeUnit timeUnit) {
+        return timeUnit.convert(db().now(), TimeUnit.MILLISECONDS);
+    }
+
+    public Properties info() {
+        Properties properties = new Properties();
+        properties.setProperty("redis_version", "in-memory");
+        properties.setProperty("redis_mode", "standalone");
+        properties.setProperty("connected_clients", "1");
+        return properties;
+    }
+
+    public Properties info(String section) {
+        return info();
+    }
+
+    // ------------------------------------------------ keys ------------------------------------------------
+
+    public Boolean exists(byte[] key) {
+        return db().entry(key) != null;
+    }
+
+    public Long exists(byte[]... keys) {
+        long count = 0;
+        for (byte[] key : keys) {
+            if (db().entry(key) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Long del(byte[]... keys) {
+        long count = 0;
+        for (byte[] key : keys) {
+            if (db().remove(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Long unlink(byte[]... keys) {
+        return del(keys);
+    }
+
+    public Long touch(byte[]... keys) {
+        return exists(keys);
+    }
+
+    public DataType type(byte[] key) {
+        Entry entry = db().entry(key);
+        return entry == null ? DataType.NONE : InMemoryRedisDatabase.type(entry.value);
+    }
+
+    public Boolean copy(byte[] sourceKey, byte[] targetKey, boolean replace) {
+        Entry source = db().entry(sourceKey);
+        if (source == null || (!replace && db().entry(targetKey) != null)) {
+            return false;
+        }
+        Entry target = new Entry(copyValue(source.value));
+        target.expireAt = source.expireAt;
+        db().putEntry(new Key(targetKey), target);
+        return true;
+    }
+
+    public Set<byte[]> keys(byte[] pattern) {
+        Set<byte[]> keys = new LinkedHashSet<>();
+        db().keys(pattern).forEach(key -> keys.add(key.bytes));
+        return keys;
+    }
+
+    public Cursor<byte[]> scan(ScanOptions options) {
+        DataType type = options instanceof KeyScanOptions && ((KeyScanOptions) options).getType() != null
+                ? DataType.fromCode(((KeyScanOptions) options).getType()) : null;
+        List<byte[]> keys = new ArrayList<>();
+        for (Key key : db().keys(options.getBytePattern())) {
+            if (type == null || InMemoryRedisDatabase.type(db().entry(key).value) == type) {
+                keys.add(key.bytes);
+            }
+        }
+        return cursor(options, keys);
+    }
+
+    public byte[] randomKey() {
+        List<Key> keys = db().keys(null);
+        return keys.isEmpty() ? null : keys.get(ThreadLocalRandom.current().nextInt(keys.size())).bytes;
+    }
+
+    public void rename(byte[] oldKey, byte[] newKey) {
+        Entry entry = db().removeEntry(new Key(oldKey));
+        if (entry == null) {
+            throw new InvalidDataAccessApiUsageException("ERR no such key");
+        }
+        db().putEntry(new Key(newKey), entry);
+    }
+
+    public Boolean renameNX(byte[] oldKey, byte[] newKey) {
+        if (db().entry(oldKey) == null) {
+            throw new InvalidDataAccessApiUsageException("ERR no such key");
+        }
+        if (db().entry(newKey) != null) {
+            return false;
+        }
+        rename(oldKey, newKey);
+        return true;
+    }
+
+    public Boolean expire(byte[] key, long seconds) {
+        return db().expireAt(key, db().now() + TimeUnit.SECONDS.toMillis(seconds));
+    }
+
+    public Boolean pExpire(byte[] key, long millis) {
+        return db().expireAt(key, db().now() + millis);
+    }
+
+    public Boolean expireAt(byte[] key, long unixTime) {
+        return db().expireAt(key, TimeUnit.SECONDS.toMillis(unixTime));
+    }
+
+    public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+        return db().expireAt(key, unixTimeInMillis);
+    }
+
+    public Boolean persist(byte[] key) {
+        return db().pTtl(key) >= 0 && db().expireAt(key, -1);
+    }
+
+    public Boolean move(byte[] key, int dbIndex) {
+        InMemoryRedisDatabase target = factory.database(dbIndex);
+        if (dbIndex == this.dbIndex || db().entry(key) == null || target.entry(key) != null) {
+            return false;
+        }
+        target.putEntry(new Key(key), db().removeEntry(new Key(key)));
+        return true;
+    }
+
+    public Long ttl(byte[] key) {
+        long millis = db().pTtl(key);
+        return millis < 0 ? millis : (millis + 500) / 1000;
+    }
+
+    public Long ttl(byte[] key, TimeUnit timeUnit) {
+        long millis = db().pTtl(key);
+        return millis < 0 ? millis : timeUnit.convert(millis, TimeUnit.MILLISECONDS);
+    }
+
+    public Long pTtl(byte[] key) {
+        return db().pTtl(key);
+    }
+
+    public Long pTtl(byte[] key, TimeUnit timeUnit) {
+        return ttl(key, timeUnit);
+    }
+
+    // ------------------------------------------------ strings ------------------------------------------------
+
+    public byte[] get(byte[] key) {
+        return db().get(key, byte[].class);
+    }
+
+    public byte[] getDel(byte[] key) {
+        byte[] value = get(key);
+        db().remove(key);
+        return value;
+    }
+
+    public byte[] getEx(byte[] key, Expiration expiration) {
+        byte[] value = get(key);
+        if (value != null) {
+            expire(key, expiration);
+        }
+        return value;
+    }
+
+    public byte[] getSet(byte[] key, byte[] value) {
+        byte[] previous = get(key);
+        db().put(key, value);
+        return previous;
+    }
+
+    public List<byte[]> mGet(byte[]... keys) {
+        List<byte[]> values = new ArrayList<>(keys.length);
+        for (byte[] key : keys) {
+            Entry entry = db().entry(key);
+            values.add(entry != null && entry.value instanceof byte[] ? (byte[]) entry.value : null);
+        }
+        return values;
+    }
+
+    public Boolean set(byte[] key, byte[] value) {
+        db().put(key, value);
+        return true;
+    }
+
+    public Boolean set(byte[] key, byte[] value, Expiration expiration, RedisStringCommands.SetOption option) {
+        boolean exists = db().entry(key) != null;
+        if ((option == RedisStringCommands.SetOption.SET_IF_ABSENT && exists)
+                || (option == RedisStringCommands.SetOption.SET_IF_PRESENT && !exists)) {
+            return false;
+        }
+        if (expiration != null && expiration.isKeepTtl()) {
+            db().replace(key, value);
+        } else {
+            db().put(key, value);
+            expire(key, expiration);
+        }
+        return true;
+    }
+
+    public Boolean setNX(byte[] key, byte[] value) {
+        return set(key, value, Expiration.persistent(), RedisStringCommands.SetOption.SET_IF_ABSENT);
+    }
+
+    public Boolean setEx(byte[] key, long seconds, byte[] value) {
+        return set(key, value, Expiration.seconds(seconds), RedisStringCommands.SetOption.UPSERT);
+    }
+
+    public Boolean pSetEx(byte[] key, long milliseconds, byte[] value) {
+        return set(key, value, Expiration.milliseconds(milliseconds), RedisStringCommands.SetOption.UPSERT);
+    }
+
+    public Boolean mSet(Map<byte[], byte[]> tuple) {
+        tuple.forEach(this::set);
+        return true;
+    }
+
+    public Boolean mSetNX(Map<byte[], byte[]> tuple) {
+        for (byte[] key : tuple.keySet()) {
+            if (db().entry(key) != null) {
+                return false;
+            }
+        }
+        return mSet(tuple);
+    }
+
+    public Long incr(byte[] key) {
+        return incrBy(key, 1L);
+    }
+
+    public Long incrBy(byte[] key, long value) {
+        byte[] current = get(key);
+        long result = (current == null ? 0L : parseLong(current)) + value;
+        db().replace(key, String.valueOf(result).getBytes(StandardCharsets.UTF_8));
+        return result;
+    }
+
+    public Double incrBy(byte[] key, double value) {
+        byte[] current = get(key);
+        double result = (current == null ? 0D : parseDouble(current)) + value;
+        db().replace(key, formatDouble(result));
+        return result;
+    }
+
+    public Long decr(byte[] key) {
+        return incrBy(key, -1L);
+    }
+
+    public Long decrBy(byte[] key, long value) {
+        return incrBy(key, -value);
+    }
+
+    public Long append(byte[] key, byte[] value) {
+        byte[] current = get(key);
+        byte[] result = current == null ? value : concat(current, value);
+        db().replace(key, result);
+        return (long) result.length;
+    }
+
+    public byte[] getRange(byte[] key, long start, long end) {
+        byte[] value = get(key);
+        if (value == null) {
+            return new byte[0];
+        }
+        long[] range = range(start, end, value.length);
+        return range == null ? new byte[0] : Arrays.copyOfRange(value, (int) range[0], (int) range[1] + 1);
+    }
+
+    public void setRange(byte[] key, byte[] value, long offset) {
+        byte[] current = get(key);
+        byte[] result = current == null ? new byte[0] : current;
+        if (offset + value.length > result.length) {
+            result = Arrays.copyOf(result, (int) offset + value.length);
+        }
+        System.arraycopy(value, 0, result, (int) offset, value.length);
+        db().replace(key, result);
+    }
+
+    public Boolean getBit(byte[] key, long offset) {
+        byte[] value = get(key);
+        int index = (int) (offset >> 3);
+        return value != null && index < value.length && (value[index] & (0x80 >> (offset & 7))) != 0;
+    }
+
+    public Boolean setBit(byte[] key, long offset, boolean bit) {
+        byte[] current = get(key);
+        int index = (int) (offset >> 3);
+        byte[] value = current == null ? new byte[index + 1] : current.length > index ? current : Arrays.copyOf(current, index + 1);
+        int mask = 0x80 >> (offset & 7);
+        boolean previous = (value[index] & mask) != 0;
+        value[index] = (byte) (bit ? value[index] | mask : value[index] & ~mask);
+        db().replace(key, value);
+        return previous;
+    }
+
+    public Long bitCount(byte[] key) {
+        return bitCount(key, 0, -1);
+    }
+
+    public Long bitCount(byte[] key, long start, long end) {
+        long count = 0;
+        for (byte b : getRange(key, start, end)) {
+            count += Integer.bitCount(b & 0xFF);
+        }
+        return count;
+    }
+
+    public Long strLen(byte[] key) {
+        byte[] value = get(key);
+        return value == null ? 0L : value.length;
+    }
+
+    // ------------------------------------------------ hashes ------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, byte[]> hash(byte[] key) {
+        return db().get(key, Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, byte[]> hashOrCreate(byte[] key) {
+        return db().getOrCreate(key, Map.class, LinkedHashMap::new);
+    }
+
+    public Boolean hSet(byte[] key, byte[] field, byte[] value) {
+        return hashOrCreate(key).put(new Key(field), value) == null;
+    }
+
+    public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
+        return hashOrCreate(key).putIfAbsent(new Key(field), value) == null;
+    }
+
+    public byte[] hGet(byte[] key, byte[] field) {
+        Map<Key, byte[]> hash = hash(key);
+        return hash == null ? null : hash.get(new Key(field));
+    }
+
+    public List<byte[]> hMGet(byte[] key, byte[]... fields) {
+        List<byte[]> values = new ArrayList<>(fields.length);
+        for (byte[] field : fields) {
+            values.add(hGet(key, field));
+        }
+        return values;
+    }
+
+    public void hMSet(byte[] key, Map<byte[], byte[]> hashes) {
+        Map<Key, byte[]> hash = hashOrCreate(key);
+        hashes.forEach((field, value) -> hash.put(new Key(field), value));
+    }
+
+    public Long hIncrBy(byte[] key, byte[] field, long delta) {
+        byte[] current = hGet(key, field);
+        long result = (current == null ? 0L : parseLong(current)) + delta;
+        hashOrCreate(key).put(new Key(field), String.valueOf(result).getBytes(StandardCharsets.UTF_8));
+        return result;
+    }
+
+    public Double hIncrBy(byte[] key, byte[] field, double delta) {
+        byte[] current = hGet(key, field);
+        double result = (current == null ? 0D : parseDouble(current)) + delta;
+        hashOrCreate(key).put(new Key(field), formatDouble(result));
+        return result;
+    }
+
+    public Boolean hExists(byte[] key, byte[] field) {
+        Map<Key, byte[]> hash = hash(key);
+        return hash != null && hash.containsKey(new Key(field));
+    }
+
+    public Long hDel(byte[] key, byte[]... fields) {
+        Map<Key, byte[]> hash = hash(key);
+        long count = 0;
+        if (hash != null) {
+            for (byte[] field : fields) {
+                if (hash.remove(new Key(field)) != null) {
+                    count++;
+                }
+            }
+            db().removeIfEmpty(key);
+        }
+        return count;
+    }
+
+    public Long hLen(byte[] key) {
+        Map<Key, byte[]> hash = hash(key);
+        return hash == null ? 0L : hash.size();
+    }
+
+    public Set<byte[]> hKeys(byte[] key) {
+        Set<byte[]> fields = new LinkedHashSet<>();
+        Map<Key, byte[]> hash = hash(key);
+        if (hash != null) {
+            hash.keySet().forEach(field -> fields.add(field.bytes));
+        }
+        return fields;
+    }
+
+    public List<byte[]> hVals(byte[] key) {
+        Map<Key, byte[]> hash = hash(key);
+        return hash == null ? new ArrayList<>() : new ArrayList<>(hash.values());
+    }
+
+    public Map<byte[], byte[]> hGetAll(byte[] key) {
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        Map<Key, byte[]> hash = hash(key);
+        if (hash != null) {
+            hash.forEach((field, value) -> entries.put(field.bytes, value));
+        }
+        return entries;
+    }
+
+    public byte[] hRandField(byte[] key) {
+        List<byte[]> fields = hRandField(key, 1);
+        return fields.isEmpty() ? null : fields.get(0);
+    }
+
+    public List<byte[]> hRandField(byte[] key, long count) {
+        List<byte[]> fields = new ArrayList<>();
+        random(new ArrayList<>(hKeys(key)), count).forEach(fields::add);
+        return fields;
+    }
+
+    public Map.Entry<byte[], byte[]> hRandFieldWithValues(byte[] key) {
+        List<Map.Entry<byte[], byte[]>> entries = hRandFieldWithValues(key, 1);
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    public List<Map.Entry<byte[], byte[]>> hRandFieldWithValues(byte[] key, long count) {
+        List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>();
+        for (byte[] field : hRandField(key, count)) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(field, hGet(key, field)));
+        }
+        return entries;
+    }
+
+    public Cursor<Map.Entry<byte[], byte[]>> hScan(byte[] key, ScanOptions options) {
+        Pattern pattern = options.getBytePattern() == null ? null : InMemoryRedisDatabase.glob(options.getBytePattern());
+        List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>();
+        hGetAll(key).forEach((field, value) -> {
+            if (pattern == null || InMemoryRedisDatabase.matches(pattern, field)) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(field, value));
+            }
+        });
+        return cursor(options, entries);
+    }
+
+    public Long hStrLen(byte[] key, byte[] field) {
+        byte[] value = hGet(key, field);
+        return value == null ? 0L : value.length;
+    }
+
+    // ------------------------------------------------ lists ------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private LinkedList<byte[]> list(byte[] key) {
+        return db().get(key, LinkedList.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LinkedList<byte[]> listOrCreate(byte[] key) {
+        return db().getOrCreate(key, LinkedList.class, LinkedList::new);
+    }
+
+    public Long rPush(byte[] key, byte[]... values) {
+        LinkedList<byte[]> list = listOrCreate(key);
+        list.addAll(Arrays.asList(values));
+        return (long) list.size();
+    }
+
+    public Long lPush(byte[] key, byte[]... values) {
+        LinkedList<byte[]> list = listOrCreate(key);
+        for (byte[] value : values) {
+            list.addFirst(value);
+        }
+        return (long) list.size();
+    }
+
+    public Long rPushX(byte[] key, byte[] value) {
+        return list(key) == null ? 0L : rPush(key, value);
+    }
+
+    public Long lPushX(byte[] key, byte[] value) {
+        return list(key) == null ? 0L : lPush(key, value);
+    }
+
+    public Long lLen(byte[] key) {
+        LinkedList<byte[]> list = list(key);
+        return list == null ? 0L : list.size();
+    }
+
+    public List<byte[]> lRange(byte[] key, long start, long end) {
+        LinkedList<byte[]> list = list(key);
+        long[] range = list == null ? null : range(start, end, list.size());
+        return range == null ? new ArrayList<>() : new ArrayList<>(list.subList((int) range[0], (int) range[1] + 1));
+    }
+
+    public void lTrim(byte[] key, long start, long end) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return;
+        }
+        long[] range = range(start, end, list.size());
+        List<byte[]> retained = range == null ? Collections.emptyList() : new ArrayList<>(list.subList((int) range[0], (int) range[1] + 1));
+        list.clear();
+        list.addAll(retained);
+        db().removeIfEmpty(key);
+    }
+
+    public byte[] lIndex(byte[] key, long index) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return null;
+        }
+        long position = index < 0 ? list.size() + index : index;
+        return position < 0 || position >= list.size() ? null : list.get((int) position);
+    }
+
+    public Long lInsert(byte[] key, RedisListCommands.Position where, byte[] pivot, byte[] value) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return 0L;
+        }
+        for (ListIterator<byte[]> iterator = list.listIterator(); iterator.hasNext(); ) {
+            if (Arrays.equals(iterator.next(), pivot)) {
+                if (where == RedisListCommands.Position.BEFORE) {
+                    iterator.previous();
+                }
+                iterator.add(value);
+                return (long) list.size();
+            }
+        }
+        return -1L;
+    }
+
+    public byte[] lMove(byte[] sourceKey, byte[] destinationKey, RedisListCommands.Direction from, RedisListCommands.Direction to) {
+        byte[] value = from == RedisListCommands.Direction.LEFT ? lPop(sourceKey) : rPop(sourceKey);
+        if (value != null) {
+            if (to == RedisListCommands.Direction.LEFT) {
+                lPush(destinationKey, value);
+            } else {
+                rPush(destinationKey, value);
+            }
+        }
+        return value;
+    }
+
+    public byte[] bLMove(byte[] sourceKey, byte[] destinationKey, RedisListCommands.Direction from,
+                         RedisListCommands.Direction to, double timeout) {
+        return block((long) (timeout * 1000), () -> lMove(sourceKey, destinationKey, from, to));
+    }
+
+    public void lSet(byte[] key, long index, byte[] value) {
+        LinkedList<byte[]> list = list(key);
+        long position = list == null ? -1 : index < 0 ? list.size() + index : index;
+        if (list == null || position < 0 || position >= list.size()) {
+            throw new InvalidDataAccessApiUsageException("ERR index out of range");
+        }
+        list.set((int) position, value);
+    }
+
+    public Long lRem(byte[] key, long count, byte[] value) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return 0L;
+        }
+        long removed = 0;
+        Iterator<byte[]> iterator = count < 0 ? list.descendingIterator() : list.iterator();
+        while (iterator.hasNext() && (count == 0 || removed < Math.abs(count))) {
+            if (Arrays.equals(iterator.next(), value)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        db().removeIfEmpty(key);
+        return removed;
+    }
+
+    public byte[] lPop(byte[] key) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return null;
+        }
+        byte[] value = list.pollFirst();
+        db().removeIfEmpty(key);
+        return value;
+    }
+
+    public List<byte[]> lPop(byte[] key, long count) {
+        List<byte[]> values = new ArrayList<>();
+        byte[] value;
+        while (values.size() < count && (value = lPop(key)) != null) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    public byte[] rPop(byte[] key) {
+        LinkedList<byte[]> list = list(key);
+        if (list == null) {
+            return null;
+        }
+        byte[] value = list.pollLast();
+        db().removeIfEmpty(key);
+        return value;
+    }
+
+    public List<byte[]> rPop(byte[] key, long count) {
+        List<byte[]> values = new ArrayList<>();
+        byte[] value;
+        while (values.size() < count && (value = rPop(key)) != null) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    public List<byte[]> bLPop(int timeout, byte[]... keys) {
+        return block(TimeUnit.SECONDS.toMillis(timeout), () -> popFirst(keys, true));
+    }
+
+    public List<byte[]> bRPop(int timeout, byte[]... keys) {
+        return block(TimeUnit.SECONDS.toMillis(timeout), () -> popFirst(keys, false));
+    }
+
+    private List<byte[]> popFirst(byte[][] keys, boolean left) {
+        for (byte[] key : keys) {
+            byte[] value = left ? lPop(key) : rPop(key);
+            if (value != null) {
+                return Arrays.asList(key, value);
+            }
+        }
+        return null;
+    }
+
+    public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
+        return lMove(srcKey, dstKey, RedisListCommands.Direction.RIGHT, RedisListCommands.Direction.LEFT);
+    }
+
+    public byte[] bRPopLPush(int timeout, byte[] srcKey, byte[] dstKey) {
+        return block(TimeUnit.SECONDS.toMillis(timeout), () -> rPopLPush(srcKey, dstKey));
+    }
+
+    public List<Long> lPos(byte[] key, byte[] element, Integer rank, Integer count) {
+        List<Long> positions = new ArrayList<>();
+        List<byte[]> list = lRange(key, 0, -1);
+        int skip = rank == null ? 0 : Math.abs(rank) - 1;
+        int max = count == null ? 1 : count == 0 ? Integer.MAX_VALUE : count;
+        boolean reverse = rank != null && rank < 0;
+        for (int i = 0; i < list.size() && positions.size() < max; i++) {
+            int index = reverse ? list.size() - 1 - i : i;
+            if (Arrays.equals(list.get(index), element) && skip-- <= 0) {
+                positions.add((long) index);
+            }
+        }
+        return positions;
+    }
+
+    // ------------------------------------------------ sets ------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private Set<Key> set(byte[] key) {
+        return db().get(key, LinkedHashSet.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Key> setOrCreate(byte[] key) {
+        return db().getOrCreate(key, LinkedHashSet.class, LinkedHashSet::new);
+    }
+
+    public Long sAdd(byte[] key, byte[]... values) {
+        Set<Key> set = setOrCreate(key);
+        long count = 0;
+        for (byte[] value : values) {
+            if (set.add(new Key(value))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Long sRem(byte[] key, byte[]... values) {
+        Set<Key> set = set(key);
+        long count = 0;
+        if (set != null) {
+            for (byte[] value : values) {
+                if (set.remove(new Key(value))) {
+                    count++;
+                }
+            }
+            db().removeIfEmpty(key);
+        }
+        return count;
+    }
+
+    public byte[] sPop(byte[] key) {
+        List<byte[]> values = sPop(key, 1);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<byte[]> sPop(byte[] key, long count) {
+        List<byte[]> values = sRandMember(key, count);
+        for (byte[] value : values) {
+            sRem(key, value);
+        }
+        return values;
+    }
+
+    public Boolean sMove(byte[] srcKey, byte[] destKey, byte[] value) {
+        Set<Key> destination = set(destKey);
+        if (sRem(srcKey, value) == 0) {
+            return false;
+        }
+        if (destination == null) {
+            setOrCreate(destKey).add(new Key(value));
+        } else {
+            destination.add(new Key(value));
+        }
+        return true;
+    }
+
+    public Long sCard(byte[] key) {
+        Set<Key> set = set(key);
+        return set == null ? 0L : set.size();
+    }
+
+    public Boolean sIsMember(byte[] key, byte[] value) {
+        Set<Key> set = set(key);
+        return set != null && set.contains(new Key(value));
+    }
+
+    public List<Boolean> sMIsMember(byte[] key, byte[]... values) {
+        List<Boolean> results = new ArrayList<>(values.length);
+        for (byte[] value : values) {
+            results.add(sIsMember(key, value));
+        }
+        return results;
+    }
+
+    public Set<byte[]> sDiff(byte[]... keys) {
+        Set<Key> result = new LinkedHashSet<>(members(keys[0]));
+        for (int i = 1; i < keys.length; i++) {
+            result.removeAll(members(keys[i]));
+        }
+        return toBytes(result);
+    }
+
+    public Long sDiffStore(byte[] destKey, byte[]... keys) {
+        return store(destKey, sDiff(keys));
+    }
+
+    public Set<byte[]> sInter(byte[]... keys) {
+        Set<Key> result = new LinkedHashSet<>(members(keys[0]));
+        for (int i = 1; i < keys.length; i++) {
+            result.retainAll(members(keys[i]));
+        }
+        return toBytes(result);
+    }
+
+    public Long sInterStore(byte[] destKey, byte[]... keys) {
+        return store(destKey, sInter(keys));
+    }
+
+    public Set<byte[]> sUnion(byte[]... keys) {
+        Set<Key> result = new LinkedHashSet<>();
+        for (byte[] key : keys) {
+            result.addAll(members(key));
+        }
+        return toBytes(result);
+    }
+
+    public Long sUnionStore(byte[] destKey, byte[]... keys) {
+        return store(destKey, sUnion(keys));
+    }
+
+    public Set<byte[]> sMembers(byte[] key) {
+        return toBytes(members(key));
+    }
+
+    public byte[] sRandMember(byte[] key) {
+        List<byte[]> values = sRandMember(key, 1);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<byte[]> sRandMember(byte[] key, long count) {
+        List<byte[]> values = new ArrayList<>();
+        random(new ArrayList<>(members(key)), count).forEach(member -> values.add(member.bytes));
+        return values;
+    }
+
+    public Cursor<byte[]> sScan(byte[] key, ScanOptions options) {
+        Pattern pattern = options.getBytePattern() == null ? null : InMemoryRedisDatabase.glob(options.getBytePattern());
+        List<byte[]> values = new ArrayList<>();
+        for (Key member : members(key)) {
+            if (pattern == null || InMemoryRedisDatabase.matches(pattern, member.bytes)) {
+                values.add(member.bytes);
+            }
+        }
+        return cursor(options, values);
+    }
+
+    private Set<Key> members(byte[] key) {
+        Set<Key> set = set(key);
+        return set == null ? Collections.emptySet() : set;
+    }
+
+    private Long store(byte[] destKey, Set<byte[]> values) {
+        db().remove(destKey);
+        if (!values.isEmpty()) {
+            sAdd(destKey, values.toArray(new byte[0][]));
+        }
+        return (long) values.size();
+    }
+
+    // ------------------------------------------------ sorted sets ------------------------------------------------
+
+    private ZSet zSet(byte[] key) {
+        return db().get(key, ZSet.class);
+    }
+
+    private List<Member> zMembers(byte[] key) {
+        ZSet zSet = zSet(key);
+        return zSet == null ? new ArrayList<>() : zSet.members();
+    }
+
+    public Boolean zAdd(byte[] key, double score, byte[] value, RedisZSetCommands.ZAddArgs args) {
+        return zAdd(key, Collections.singleton(new DefaultTuple(value, score)), args) > 0;
+    }
+
+    public Long zAdd(byte[] key, Set<RedisZSetCommands.Tuple> tuples, RedisZSetCommands.ZAddArgs args) {
+        ZSet zSet = db().getOrCreate(key, ZSet.class, ZSet::new);
+        long count = 0;
+        for (RedisZSetCommands.Tuple tuple : tuples) {
+            Key member = new Key(tuple.getValue());
+            Double current = zSet.score(member);
+            double score = tuple.getScore();
+            if ((current != null && args.contains(RedisZSetCommands.ZAddArgs.Flag.NX))
+                    || (current == null && args.contains(RedisZSetCommands.ZAddArgs.Flag.XX))
+                    || (current != null && args.contains(RedisZSetCommands.ZAddArgs.Flag.GT) && score <= current)
+                    || (current != null && args.contains(RedisZSetCommands.ZAddArgs.Flag.LT) && score >= current)) {
+                continue;
+            }
+            zSet.add(member, score);
+            if (current == null || (args.contains(RedisZSetCommands.ZAddArgs.Flag.CH) && current != score)) {
+                count++;
+            }
+        }
+        db().removeIfEmpty(key);
+        return count;
+    }
+
+    public Long zRem(byte[] key, byte[]... values) {
+        ZSet zSet = zSet(key);
+        long count = 0;
+        if (zSet != null) {
+            for (byte[] value : values) {
+                if (zSet.remove(new Key(value))) {
+                    count++;
+                }
+            }
+            db().removeIfEmpty(key);
+        }
+        return count;
+    }
+
+    public Double zIncrBy(byte[] key, double increment, byte[] value) {
+        ZSet zSet = db().getOrCreate(key, ZSet.class, ZSet::new);
+        Key member = new Key(value);
+        Double current = zSet.score(member);
+        double score = (current == null ? 0D : current) + increment;
+        zSet.add(member, score);
+        return score;
+    }
+
+    public byte[] zRandMember(byte[] key) {
+        List<byte[]> values = zRandMember(key, 1);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<byte[]> zRandMember(byte[] key, long count) {
+        List<byte[]> values = new ArrayList<>();
+        random(zMembers(key), count).forEach(member -> values.add(member.key.bytes));
+        return values;
+    }
+
+    public RedisZSetCommands.Tuple zRandMemberWithScore(byte[] key) {
+        List<RedisZSetCommands.Tuple> tuples = zRandMemberWithScore(key, 1);
+        return tuples.isEmpty() ? null : tuples.get(0);
+    }
+
+    public List<RedisZSetCommands.Tuple> zRandMemberWithScore(byte[] key, long count) {
+        List<RedisZSetCommands.Tuple> tuples = new ArrayList<>();
+        random(zMembers(key), count).forEach(member -> tuples.add(tuple(member)));
+        return tuples;
+    }
+
+    public Long zRank(byte[] key, byte[] value) {
+        ZSet zSet = zSet(key);
+        int rank = zSet == null ? -1 : zSet.rank(new Key(value));
+        return rank < 0 ? null : (long) rank;
+    }
+
+    public Long zRevRank(byte[] key, byte[] value) {
+        ZSet zSet = zSet(key);
+        int rank = zSet == null ? -1 : zSet.rank(new Key(value));
+        return rank < 0 ? null : (long) (zSet.size() - 1 - rank);
+    }
+
+    public Set<byte[]> zRange(byte[] key, long start, long end) {
+        return values(byRank(key, start, end, false));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zRangeWithScores(byte[] key, long start, long end) {
+        return tuples(byRank(key, start, end, false));
+    }
+
+    public Set<byte[]> zRevRange(byte[] key, long start, long end) {
+        return values(byRank(key, start, end, true));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zRevRangeWithScores(byte[] key, long start, long end) {
+        return tuples(byRank(key, start, end, true));
+    }
+
+    public Set<byte[]> zRangeByScore(byte[] key, RedisZSetCommands.Range range, RedisZSetCommands.Limit limit) {
+        return values(byScore(key, range, limit, false));
+    }
+
+    public Set<byte[]> zRangeByScore(byte[] key, String min, String max, long offset, long count) {
+        return values(byScore(key, range(min, max), RedisZSetCommands.Limit.limit().offset((int) offset).count((int) count), false));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zRangeByScoreWithScores(byte[] key, RedisZSetCommands.Range range, RedisZSetCommands.Limit limit) {
+        return tuples(byScore(key, range, limit, false));
+    }
+
+    public Set<byte[]> zRevRangeByScore(byte[] key, RedisZSetCommands.Range range, RedisZSetCommands.Limit limit) {
+        return values(byScore(key, range, limit, true));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zRevRangeByScoreWithScores(byte[] key, RedisZSetCommands.Range range, RedisZSetCommands.Limit limit) {
+        return tuples(byScore(key, range, limit, true));
+    }
+
+    public Long zCount(byte[] key, RedisZSetCommands.Range range) {
+        return (long) byScore(key, range, RedisZSetCommands.Limit.unlimited(), false).size();
+    }
+
+    public RedisZSetCommands.Tuple zPopMin(byte[] key) {
+        Set<RedisZSetCommands.Tuple> tuples = zPopMin(key, 1);
+        return tuples.isEmpty() ? null : tuples.iterator().next();
+    }
+
+    public Set<RedisZSetCommands.Tuple> zPopMin(byte[] key, long count) {
+        return pop(key, byRank(key, 0, count - 1, false));
+    }
+
+    public RedisZSetCommands.Tuple bZPopMin(byte[] key, long timeout, TimeUnit unit) {
+        return block(unit.toMillis(timeout), () -> zPopMin(key));
+    }
+
+    public RedisZSetCommands.Tuple zPopMax(byte[] key) {
+        Set<RedisZSetCommands.Tuple> tuples = zPopMax(key, 1);
+        return tuples.isEmpty() ? null : tuples.iterator().next();
+    }
+
+    public Set<RedisZSetCommands.Tuple> zPopMax(byte[] key, long count) {
+        return pop(key, byRank(key, 0, count - 1, true));
+    }
+
+    public RedisZSetCommands.Tuple bZPopMax(byte[] key, long timeout, TimeUnit unit) {
+        return block(unit.toMillis(timeout), () -> zPopMax(key));
+    }
+
+    public Long zCard(byte[] key) {
+        ZSet zSet = zSet(key);
+        return zSet == null ? 0L : zSet.size();
+    }
+
+    public Double zScore(byte[] key, byte[] value) {
+        ZSet zSet = zSet(key);
+        return zSet == null ? null : zSet.score(new Key(value));
+    }
+
+    public List<Double> zMScore(byte[] key, byte[]... values) {
+        List<Double> scores = new ArrayList<>(values.length);
+        for (byte[] value : values) {
+            scores.add(zScore(key, value));
+        }
+        return scores;
+    }
+
+    public Long zRemRange(byte[] key, long start, long end) {
+        return (long) pop(key, byRank(key, start, end, false)).size();
+    }
+
+    public Long zRemRangeByScore(byte[] key, RedisZSetCommands.Range range) {
+        return (long) pop(key, byScore(key, range, RedisZSetCommands.Limit.unlimited(), false)).size();
+    }
+
+    public Set<byte[]> zDiff(byte[]... sets) {
+        return values(diff(sets));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zDiffWithScores(byte[]... sets) {
+        return tuples(diff(sets));
+    }
+
+    public Long zDiffStore(byte[] destKey, byte[]... sets) {
+        return zStore(destKey, diff(sets));
+    }
+
+    public Set<byte[]> zInter(byte[]... sets) {
+        return values(aggregate(false, RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zInterWithScores(byte[]... sets) {
+        return zInterWithScores(RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets);
+    }
+
+    public Set<RedisZSetCommands.Tuple> zInterWithScores(RedisZSetCommands.Aggregate aggregate, RedisZSetCommands.Weights weights, byte[]... sets) {
+        return tuples(aggregate(false, aggregate, weights, sets));
+    }
+
+    public Long zInterStore(byte[] destKey, byte[]... sets) {
+        return zInterStore(destKey, RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets);
+    }
+
+    public Long zInterStore(byte[] destKey, RedisZSetCommands.Aggregate aggregate, RedisZSetCommands.Weights weights, byte[]... sets) {
+        return zStore(destKey, aggregate(false, aggregate, weights, sets));
+    }
+
+    public Set<byte[]> zUnion(byte[]... sets) {
+        return values(aggregate(true, RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets));
+    }
+
+    public Set<RedisZSetCommands.Tuple> zUnionWithScores(byte[]... sets) {
+        return zUnionWithScores(RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets);
+    }
+
+    public Set<RedisZSetCommands.Tuple> zUnionWithScores(RedisZSetCommands.Aggregate aggregate, RedisZSetCommands.Weights weights, byte[]... sets) {
+        return tuples(aggregate(true, aggregate, weights, sets));
+    }
+
+    public Long zUnionStore(byte[] destKey, byte[]... sets) {
+        return zUnionStore(destKey, RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.fromSetCount(sets.length), sets);
+    }
+
+    public Long zUnionStore(byte[] destKey, RedisZSetCommands.Aggregate aggregate, RedisZSetCommands.Weights weights, byte[]... sets) {
+        return zStore(destKey, aggregate(true, aggregate, weights, sets));
+    }
+
+    public Cursor<RedisZSetCommands.Tuple> zScan(byte[] key, ScanOptions options) {
+        Pattern pattern = options.getBytePattern() == null ? null : InMemoryRedisDatabase.glob(options.getBytePattern());
+        List<RedisZSetCommands.Tuple> tuples = new ArrayList<>();
+        for (Member member : zMembers(key)) {
+            if (pattern == null || InMemoryRedisDatabase.matches(pattern, member.key.bytes)) {
+                tuples.add(tuple(member));
+            }
+        }
+        return cursor(options, tuples);
+    }
+
+    private List<Member> byRank(byte[] key, long start, long end, boolean reverse) {
+        List<Member> members = zMembers(key);
+        if (reverse) {
+            Collections.reverse(members);
+        }
+        long[] range = range(start, end, members.size());
+        return range == null ? new ArrayList<>() : new ArrayList<>(members.subList((int) range[0], (int) range[1] + 1));
+    }
+
+    private List<Member> byScore(byte[] key, RedisZSetCommands.Range range, RedisZSetCommands.Limit limit, boolean reverse) {
+        List<Member> members = zMembers(key);
+        if (reverse) {
+            Collections.reverse(members);
+        }
+        List<Member> result = new ArrayList<>();
+        int skip = limit == null || limit.isUnlimited() ? 0 : limit.getOffset();
+        int count = limit == null || limit.isUnlimited() || limit.getCount() < 0 ? Integer.MAX_VALUE : limit.getCount();
+        for (Member member : members) {
+            if (result.size() >= count) {
+                break;
+            }
+            if (inRange(member.score, range.getMin(), true) && inRange(member.score, range.getMax(), false) && skip-- <= 0) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+
+    private static boolean inRange(double score, RedisZSetCommands.Range.Boundary boundary, boolean min) {
+        if (boundary == null || boundary.getValue() == null) {
+            return true;
+        }
+        Object value = boundary.getValue();
+        boolean including = boundary.isIncluding();
+        double limit;
+        if (value instanceof Number) {
+            limit = ((Number) value).doubleValue();
+        } else {
+            String text = value.toString();
+            if (text.startsWith("(")) {
+                including = false;
+                text = text.substring(1);
+            }
+            limit = parseScore(text);
+        }
+        int compare = Double.compare(score, limit);
+        return min ? (including ? compare >= 0 : compare > 0) : (including ? compare <= 0 : compare < 0);
+    }
+
+    private static RedisZSetCommands.Range range(String min, String max) {
+        RedisZSetCommands.Range range = RedisZSetCommands.Range.range();
+        range = min.startsWith("(") ? range.gt(min.substring(1)) : range.gte(min);
+        return max.startsWith("(") ? range.lt(max.substring(1)) : range.lte(max);
+    }
+
+    private static double parseScore(String text) {
+        switch (text) {
+            case "-inf":
+                return Double.NEGATIVE_INFINITY;
+            case "+inf":
+            case "inf":
+                return Double.POSITIVE_INFINITY;
+            default:
+                return Double.parseDouble(text);
+        }
+    }
+
+    private List<Member> diff(byte[]... sets) {
+        List<Member> result = zMembers(sets[0]);
+        for (int i = 1; i < sets.length; i++) {
+            ZSet other = zSet(sets[i]);
+            if (other != null) {
+                result.removeIf(member -> other.score(member.key) != null);
+            }
+        }
+        return result;
+    }
+
+    private List<Member> aggregate(boolean union, RedisZSetCommands.Aggregate aggregate, RedisZSetCommands.Weights weights, byte[]... sets) {
+        Map<Key, Double> scores = new LinkedHashMap<>();
+        for (int i = 0; i < sets.length; i++) {
+            double weight = weights.getWeight(i);
+            Map<Key, Double> current = new LinkedHashMap<>();
+            for (Member member : zMembers(sets[i])) {
+                current.put(member.key, member.score * weight);
+            }
+            if (!union && i > 0) {
+                scores.keySet().retainAll(current.keySet());
+            }
+            for (Map.Entry<Key, Double> entry : current.entrySet()) {
+                Double previous = scores.get(entry.getKey());
+                if (previous == null) {
+                    if (union || i == 0) {
+                        scores.put(entry.getKey(), entry.getValue());
+                    }
+                } else {
+                    scores.put(entry.getKey(), aggregate == RedisZSetCommands.Aggregate.MIN ? Math.min(previous, entry.getValue())
+                            : aggregate == RedisZSetCommands.Aggregate.MAX ? Math.max(previous, entry.getValue())
+                            : previous + entry.getValue());
+                }
+            }
+        }
+        ZSet result = new ZSet();
+        scores.forEach(result::add);
+        return result.members();
+    }
+
+    private Long zStore(byte[] destKey, List<Member> members) {
+        db().remove(destKey);
+        if (!members.isEmpty()) {
+            ZSet zSet = db().getOrCreate(destKey, ZSet.class, ZSet::new);
+            members.forEach(member -> zSet.add(member.key, member.score));
+        }
+        return (long) members.size();
+    }
+
+    private Set<RedisZSetCommands.Tuple> pop(byte[] key, List<Member> members) {
+        ZSet zSet = zSet(key);
+        Set<RedisZSetCommands.Tuple> tuples = new LinkedHashSet<>();
+        for (Member member : members) {
+            zSet.remove(member.key);
+            tuples.add(tuple(member));
+        }
+        db().removeIfEmpty(key);
+        return tuples;
+    }
+
+    private static RedisZSetCommands.Tuple tuple(Member member) {
+        return new DefaultTuple(member.key.bytes, member.score);
+    }
+
+    private static Set<byte[]> values(List<Member> members) {
+        Set<byte[]> values = new LinkedHashSet<>();
+        members.forEach(member -> values.add(member.key.bytes));
+        return values;
+    }
+
+    private static Set<RedisZSetCommands.Tuple> tuples(List<Member> members) {
+        Set<RedisZSetCommands.Tuple> tuples = new LinkedHashSet<>();
+        members.forEach(member -> tuples.add(tuple(member)));
+        return tuples;
+    }
+
+    // ------------------------------------------------ support ------------------------------------------------
+
+    /**
+     * 阻塞直到有结果或超时, 等待期间释放全局锁
+     *
+     * @param timeoutMillis 超时时间(毫秒), 0 表示一直等待
+     * @param attempt       尝试获取结果
+     * @return 结果, 超时返回null
+     */
+    private <T> T block(long timeoutMillis, Supplier<T> attempt) {
+        Object lock = factory.lock();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        T result;
+        while ((result = attempt.get()) == null) {
+            long remaining = timeoutMillis <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (timeoutMillis > 0 && remaining <= 0) {
+                return null;
+            }
+            try {
+                lock.wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedisSystemException("Interrupted while blocking", e);
+            }
+        }
+        return result;
+    }
+
+    private void expire(byte[] key, Expiration expiration) {
+        if (expiration == null || expiration.isPersistent()) {
+            db().expireAt(key, -1);
+        } else if (!expiration.isKeepTtl()) {
+            long millis = expiration.getExpirationTimeInMilliseconds();
+            db().expireAt(key, expiration.isUnixTimestamp() ? millis : db().now() + millis);
+        }
+    }
+
+    /**
+     * 将 Redis 风格的下标(支持负数)转为 [start, end] 闭区间
+     *
+     * @return 区间, 为空时返回null
+     */
+    private static long[] range(long start, long end, int size) {
+        long from = start < 0 ? Math.max(0, size + start) : start;
+        long to = end < 0 ? size + end : Math.min(end, size - 1L);
+        return from > to || from >= size ? null : new long[]{from, to};
+    }
+
+    private static <T> List<T> random(List<T> values, long count) {
+        List<T> result = new ArrayList<>();
+        if (values.isEmpty()) {
+            return result;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (count < 0) {
+            // 负数允许重复
+            for (long i = 0; i < -count; i++) {
+                result.add(values.get(random.nextInt(values.size())));
+            }
+            return result;
+        }
+        Collections.shuffle(values, random);
+        return new ArrayList<>(values.subList(0, (int) Math.min(count, values.size())));
+    }
+
+    private static <T> Cursor<T> cursor(ScanOptions options, List<T> items) {
+        return new ScanCursor<T>(options) {
+
+            @Override
+            protected ScanIteration<T> doScan(long cursorId, ScanOptions scanOptions) {
+                return new ScanIteration<>(0, items);
+            }
+        }.open();
+    }
+
+    private static Set<byte[]> toBytes(Set<Key> keys) {
+        Set<byte[]> values = new LinkedHashSet<>();
+        keys.forEach(key -> values.add(key.bytes));
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<Key, byte[]>) value);
+        }
+        if (value instanceof LinkedList) {
+            return new LinkedList<>((LinkedList<byte[]>) value);
+        }
+        if (value instanceof ZSet) {
+            ZSet copy = new ZSet();
+            ((ZSet) value).members().forEach(member -> copy.add(member.key, member.score));
+            return copy;
+        }
+        return new LinkedHashSet<>((Set<Key>) value);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static long parseLong(byte[] value) {
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            throw new InvalidDataAccessApiUsageException("ERR value is not an integer or out of range");
+        }
+    }
+
+    private static double parseDouble(byte[] value) {
+        try {
+            return Double.parseDouble(new String(value, StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            throw new InvalidDataAccessApiUsageException("ERR value is not a valid float");
+        }
+    }
+
+    private static byte[] formatDouble(double value) {
+        String text = value == Math.rint(value) && !Double.isInfinite(value) ? String.valueOf((long) value) : String.valueOf(value);
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
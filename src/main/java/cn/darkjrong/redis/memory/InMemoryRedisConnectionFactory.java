@@ -0,0 +1,104 @@
+package cn.darkjrong.redis.memory;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+
+/**
+ * 内存 Redis 连接工厂
+ * <p>
+ * 在 JVM 内模拟单机 Redis, 支持字符串、哈希、列表(含阻塞弹出)、集合、有序集合、过期时间、SCAN、管道及事务,
+ * 可直接替换 RedisTemplate/RedisUtils 底层的连接工厂, 用于无网络的测试、基准测试以及单节点开发环境.
+ * 不支持集群、哨兵、发布订阅、Lua 脚本及 Stream 等命令, 调用时抛出 {@link InvalidDataAccessApiUsageException}.
+ * 所有命令在同一把锁内执行, 事务命令在 EXEC 时于一次持锁中依次执行, DISCARD 时丢弃; 不支持 WATCH
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class InMemoryRedisConnectionFactory implements RedisConnectionFactory {
+
+    /**
+     * 默认数据库个数
+     */
+    public static final int DEFAULT_DATABASES = 16;
+
+    private final Object lock = new Object();
+    private final InMemoryRedisDatabase[] databases;
+
+    public InMemoryRedisConnectionFactory() {
+        this(DEFAULT_DATABASES, Clock.systemUTC());
+    }
+
+    /**
+     * 内存 Redis 连接工厂
+     *
+     * @param databases 数据库个数
+     * @param clock     时钟, 用于计算过期时间; 测试中可传入可调整的时钟使过期可预期
+     */
+    public InMemoryRedisConnectionFactory(int databases, Clock clock) {
+        Assert.isTrue(databases > 0, "databases must be greater than 0");
+        Assert.notNull(clock, "clock must not be null");
+        this.databases = new InMemoryRedisDatabase[databases];
+        for (int i = 0; i < databases; i++) {
+            this.databases[i] = new InMemoryRedisDatabase(clock);
+        }
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        return new InMemoryRedisConnection(this).proxy();
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        throw new InvalidDataAccessApiUsageException("Cluster is not supported by in-memory Redis");
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return true;
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        throw new InvalidDataAccessApiUsageException("Sentinel is not supported by in-memory Redis");
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return ex instanceof DataAccessException ? (DataAccessException) ex : null;
+    }
+
+    /**
+     * 清空所有数据库
+     */
+    public void flushAll() {
+        synchronized (lock) {
+            for (InMemoryRedisDatabase database : databases) {
+                database.clear();
+            }
+        }
+    }
+
+    Object lock() {
+        return lock;
+    }
+
+    int databases() {
+        return databases.length;
+    }
+
+    InMemoryRedisDatabase database(int index) {
+        if (index < 0 || index >= databases.length) {
+            throw new InvalidDataAccessApiUsageException("ERR DB index is out of range");
+        }
+        return databases[index];
+    }
+
+}
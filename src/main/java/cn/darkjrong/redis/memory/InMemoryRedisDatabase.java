@@ -0,0 +1,443 @@
+package cn.darkjrong.redis.memory;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 内存 Redis 的单个数据库
+ * <p>
+ * 值类型: 字符串 byte[], 哈希 {@link LinkedHashMap}, 列表 {@link LinkedList}, 集合 {@link LinkedHashSet}, 有序集合 {@link ZSet}.
+ * 过期的 key 在访问时惰性删除. 非线程安全, 由 {@link InMemoryRedisConnectionFactory} 的全局锁保护
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+final class InMemoryRedisDatabase {
+
+    private static final long NO_EXPIRE = -1L;
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Clock clock;
+
+    InMemoryRedisDatabase(Clock clock) {
+        this.clock = clock;
+    }
+
+    long now() {
+        return clock.millis();
+    }
+
+    /**
+     * 获取未过期的条目
+     *
+     * @param key key
+     * @return {@link Entry}, 不存在时返回null
+     */
+    Entry entry(byte[] key) {
+        return entry(new Key(key));
+    }
+
+    Entry entry(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isExpired(now())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 获取指定类型的值
+     *
+     * @param key  key
+     * @param type 值类型
+     * @param <T>  值泛型
+     * @return 值, 不存在时返回null
+     * @throws InvalidDataAccessApiUsageException 类型不符
+     */
+    <T> T get(byte[] key, Class<T> type) {
+        Entry entry = entry(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!type.isInstance(entry.value)) {
+            throw wrongType();
+        }
+        return type.cast(entry.value);
+    }
+
+    /**
+     * 获取指定类型的值, 不存在时创建
+     *
+     * @param key     key
+     * @param type    值类型
+     * @param creator 创建
+     * @param <T>     值泛型
+     * @return 值
+     */
+    <T> T getOrCreate(byte[] key, Class<T> type, Supplier<T> creator) {
+        T value = get(key, type);
+        if (value == null) {
+            value = creator.get();
+            entries.put(new Key(key), new Entry(value));
+        }
+        return value;
+    }
+
+    /**
+     * 写入值, 清除过期时间
+     *
+     * @param key   key
+     * @param value 值
+     */
+    void put(byte[] key, Object value) {
+        entries.put(new Key(key), new Entry(value));
+    }
+
+    /**
+     * 写入值, 保留原过期时间
+     *
+     * @param key   key
+     * @param value 值
+     */
+    void replace(byte[] key, Object value) {
+        Entry entry = entry(key);
+        if (entry == null) {
+            put(key, value);
+        } else {
+            entry.value = value;
+        }
+    }
+
+    boolean remove(byte[] key) {
+        return entry(key) != null && entries.remove(new Key(key)) != null;
+    }
+
+    /**
+     * 集合类型的值为空时删除 key, 与 Redis 一致
+     *
+     * @param key key
+     */
+    void removeIfEmpty(byte[] key) {
+        Entry entry = entry(key);
+        if (entry != null && entry.isEmpty()) {
+            entries.remove(new Key(key));
+        }
+    }
+
+    void putEntry(Key key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    Entry removeEntry(Key key) {
+        Entry entry = entry(key);
+        return entry == null ? null : entries.remove(key);
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key      key
+     * @param expireAt 过期时间戳(毫秒), 小于0表示永不过期
+     * @return key 是否存在
+     */
+    boolean expireAt(byte[] key, long expireAt) {
+        Entry entry = entry(key);
+        if (entry == null) {
+            return false;
+        }
+        if (expireAt >= 0 && expireAt <= now()) {
+            entries.remove(new Key(key));
+        } else {
+            entry.expireAt = expireAt < 0 ? NO_EXPIRE : expireAt;
+        }
+        return true;
+    }
+
+    /**
+     * 剩余过期时间(毫秒)
+     *
+     * @param key key
+     * @return -2 key 不存在, -1 永不过期
+     */
+    long pTtl(byte[] key) {
+        Entry entry = entry(key);
+        if (entry == null) {
+            return -2;
+        }
+        return entry.expireAt == NO_EXPIRE ? -1 : Math.max(0, entry.expireAt - now());
+    }
+
+    /**
+     * 匹配模式的未过期 key
+     *
+     * @param pattern 模式, 为null时匹配全部
+     * @return {@link List}
+     */
+    List<Key> keys(byte[] pattern) {
+        Pattern regex = pattern == null ? null : glob(pattern);
+        long now = now();
+        List<Key> keys = new ArrayList<>();
+        for (Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getValue().isExpired(now)) {
+                iterator.remove();
+            } else if (regex == null || matches(regex, entry.getKey().bytes)) {
+                keys.add(entry.getKey());
+            }
+        }
+        return keys;
+    }
+
+    int size() {
+        return keys(null).size();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    static DataType type(Object value) {
+        if (value instanceof byte[]) {
+            return DataType.STRING;
+        }
+        if (value instanceof Map) {
+            return DataType.HASH;
+        }
+        if (value instanceof List) {
+            return DataType.LIST;
+        }
+        if (value instanceof ZSet) {
+            return DataType.ZSET;
+        }
+        return DataType.SET;
+    }
+
+    static InvalidDataAccessApiUsageException wrongType() {
+        return new InvalidDataAccessApiUsageException("WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+
+    /**
+     * 将 Redis glob 模式(*, ?, [abc], [^a], \x)转为正则
+     *
+     * @param pattern 模式
+     * @return {@link Pattern}
+     */
+    static Pattern glob(byte[] pattern) {
+        String glob = new String(pattern, StandardCharsets.ISO_8859_1);
+        StringBuilder regex = new StringBuilder(glob.length() + 8);
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '*':
+                    regex.append(".*");
+                    break;
+                case '?':
+                    regex.append('.');
+                    break;
+                case '[':
+                    int end = glob.indexOf(']', i + 1);
+                    if (end < 0) {
+                        regex.append("\\[");
+                        break;
+                    }
+                    String group = glob.substring(i + 1, end);
+                    regex.append('[');
+                    if (group.startsWith("^")) {
+                        regex.append('^');
+                        group = group.substring(1);
+                    }
+                    regex.append(group.replace("\\", "\\\\").replace("[", "\\[")).append(']');
+                    i = end;
+                    break;
+                case '\\':
+                    if (i + 1 < glob.length()) {
+                        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                    } else {
+                        regex.append("\\\\");
+                    }
+                    break;
+                default:
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                    break;
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    static boolean matches(Pattern pattern, byte[] value) {
+        return pattern.matcher(new String(value, StandardCharsets.ISO_8859_1)).matches();
+    }
+
+    /**
+     * 以内容比较的字节数组
+     */
+    static final class Key implements Comparable<Key> {
+
+        final byte[] bytes;
+        private final int hash;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int length = Math.min(bytes.length, other.bytes.length);
+            for (int i = 0; i < length; i++) {
+                int diff = (bytes[i] & 0xFF) - (other.bytes[i] & 0xFF);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return bytes.length - other.bytes.length;
+        }
+    }
+
+    /**
+     * 值及过期时间
+     */
+    static final class Entry {
+
+        Object value;
+        long expireAt = NO_EXPIRE;
+
+        Entry(Object value) {
+            this.value = value;
+        }
+
+        boolean isExpired(long now) {
+            return expireAt != NO_EXPIRE && expireAt <= now;
+        }
+
+        boolean isEmpty() {
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).isEmpty();
+            }
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).isEmpty();
+            }
+            return value instanceof ZSet && ((ZSet) value).size() == 0;
+        }
+    }
+
+    /**
+     * 有序集合, 按分数、成员字典序排序
+     */
+    static final class ZSet {
+
+        private final Map<Key, Double> scores = new HashMap<>();
+        private final TreeSet<Member> ordered = new TreeSet<>();
+
+        /**
+         * 添加或更新成员
+         *
+         * @param member 成员
+         * @param score  分数
+         * @return 是否新增
+         */
+        boolean add(Key member, double score) {
+            Double previous = scores.put(member, score);
+            if (previous != null) {
+                ordered.remove(new Member(member, previous));
+            }
+            ordered.add(new Member(member, score));
+            return previous == null;
+        }
+
+        boolean remove(Key member) {
+            Double score = scores.remove(member);
+            if (score == null) {
+                return false;
+            }
+            ordered.remove(new Member(member, score));
+            return true;
+        }
+
+        Double score(Key member) {
+            return scores.get(member);
+        }
+
+        int size() {
+            return scores.size();
+        }
+
+        /**
+         * 成员排名(升序, 从0开始)
+         *
+         * @param member 成员
+         * @return 排名, 不存在时返回-1
+         */
+        int rank(Key member) {
+            Double score = scores.get(member);
+            return score == null ? -1 : ordered.headSet(new Member(member, score)).size();
+        }
+
+        /**
+         * 升序成员
+         *
+         * @return {@link List}
+         */
+        List<Member> members() {
+            return new ArrayList<>(ordered);
+        }
+    }
+
+    /**
+     * 有序集合成员
+     */
+    static final class Member implements Comparable<Member> {
+
+        final Key key;
+        final double score;
+
+        Member(Key key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Member other) {
+            int result = Double.compare(score, other.score);
+            return result != 0 ? result : key.compareTo(other.key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Member && compareTo((Member) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+}
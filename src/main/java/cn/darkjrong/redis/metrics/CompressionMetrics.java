@@ -0,0 +1,76 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.configuration.serializer.CompressionRedisValueSerializer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CompressionRedisValueSerializer} 指标
+ * <p>
+ * 将 {@link CompressionRedisValueSerializer.Statistics} 导出为 {@value #COMPRESSION_METRIC}(压缩/解压次数及耗时, 标签 operation)、
+ * 未压缩次数、压缩前后字节数(标签 direction 为 in/out)及压缩比
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class CompressionMetrics implements MeterBinder {
+
+    /**
+     * 压缩指标名
+     */
+    public static final String COMPRESSION_METRIC = "redis.utils.compression";
+
+    private final CompressionRedisValueSerializer.Statistics statistics;
+
+    public CompressionMetrics(CompressionRedisValueSerializer serializer) {
+        Assert.notNull(serializer, "serializer must not be null");
+        this.statistics = serializer.getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder(COMPRESSION_METRIC, statistics,
+                        CompressionRedisValueSerializer.Statistics::getCompressedCount,
+                        CompressionRedisValueSerializer.Statistics::getCompressNanos, TimeUnit.NANOSECONDS)
+                .tag("operation", "compress")
+                .description("The number of compressed values and the time spent compressing them")
+                .register(registry);
+
+        FunctionTimer.builder(COMPRESSION_METRIC, statistics,
+                        CompressionRedisValueSerializer.Statistics::getDecompressedCount,
+                        CompressionRedisValueSerializer.Statistics::getDecompressNanos, TimeUnit.NANOSECONDS)
+                .tag("operation", "decompress")
+                .description("The number of decompressed values and the time spent decompressing them")
+                .register(registry);
+
+        FunctionCounter.builder(COMPRESSION_METRIC + ".skipped", statistics,
+                        CompressionRedisValueSerializer.Statistics::getSkippedCount)
+                .description("The number of values written uncompressed, below the threshold or without gain")
+                .register(registry);
+
+        FunctionCounter.builder(COMPRESSION_METRIC + ".bytes", statistics,
+                        CompressionRedisValueSerializer.Statistics::getBytesIn)
+                .tag("direction", "in")
+                .baseUnit("bytes")
+                .description("The size of values before compression")
+                .register(registry);
+
+        FunctionCounter.builder(COMPRESSION_METRIC + ".bytes", statistics,
+                        CompressionRedisValueSerializer.Statistics::getBytesOut)
+                .tag("direction", "out")
+                .baseUnit("bytes")
+                .description("The size of values after compression")
+                .register(registry);
+
+        Gauge.builder(COMPRESSION_METRIC + ".ratio", statistics, CompressionRedisValueSerializer.Statistics::getRatio)
+                .description("Compressed size divided by original size")
+                .register(registry);
+    }
+
+}
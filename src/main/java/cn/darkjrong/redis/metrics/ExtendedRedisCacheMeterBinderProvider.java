@@ -0,0 +1,35 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.cache.ExtendedRedisCache;
+import cn.darkjrong.redis.cache.NearCache;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+
+/**
+ * {@link ExtendedRedisCache} 指标绑定提供者
+ * <p>
+ * 优先于 Spring Boot 的 {@code RedisCacheMeterBinderProvider}, 由 Spring Boot 的缓存指标注册器为启动时已存在的缓存
+ * 绑定一次 {@link ExtendedRedisCacheMetrics}; 近端缓存按其装饰的 Redis 缓存绑定, 命中数包含近端缓存命中
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class ExtendedRedisCacheMeterBinderProvider implements CacheMeterBinderProvider<Cache>, Ordered {
+
+    @Override
+    public MeterBinder getMeterBinder(Cache cache, Iterable<Tag> tags) {
+        if (cache instanceof NearCache) {
+            cache = ((NearCache) cache).getRedisCache();
+        }
+        return cache instanceof ExtendedRedisCache ? new ExtendedRedisCacheMetrics((ExtendedRedisCache) cache, tags) : null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,80 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.cache.ExtendedRedisCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExtendedRedisCache} 指标
+ * <p>
+ * 除通用的 cache.gets/cache.puts/cache.evictions 外, 记录 cache.loads(加载次数及耗时)、cache.load.failures、
+ * cache.lock.duration(RedisCacheWriter 锁等待与单飞加载等待之和). 命中数包含近端缓存命中
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class ExtendedRedisCacheMetrics extends CacheMeterBinder<ExtendedRedisCache> {
+
+    public ExtendedRedisCacheMetrics(ExtendedRedisCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        return null;
+    }
+
+    @Override
+    protected long hitCount() {
+        ExtendedRedisCache cache = getCache();
+        return cache == null ? 0L : cache.getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        ExtendedRedisCache cache = getCache();
+        return cache == null ? null : cache.getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        ExtendedRedisCache cache = getCache();
+        return cache == null ? null : cache.getStatistics().getDeletes();
+    }
+
+    @Override
+    protected long putCount() {
+        ExtendedRedisCache cache = getCache();
+        return cache == null ? 0L : cache.getStatistics().getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        ExtendedRedisCache cache = getCache();
+        FunctionTimer.builder("cache.loads", cache,
+                        c -> c.getExtendedStatistics().getLoads(),
+                        c -> c.getExtendedStatistics().getLoadTime().toNanos(), TimeUnit.NANOSECONDS)
+                .tags(getTagsWithCacheName())
+                .description("The number of times cache values were loaded and the time spent loading them")
+                .register(registry);
+
+        FunctionCounter.builder("cache.load.failures", cache, c -> c.getExtendedStatistics().getLoadFailures())
+                .tags(getTagsWithCacheName())
+                .description("The number of failed cache value loads")
+                .register(registry);
+
+        TimeGauge.builder("cache.lock.duration", cache, TimeUnit.NANOSECONDS,
+                        c -> c.getStatistics().getLockWaitDuration(TimeUnit.NANOSECONDS)
+                                + c.getExtendedStatistics().getLockWaitTime().toNanos())
+                .tags(getTagsWithCacheName())
+                .description("The time the cache has spent waiting on a lock")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,99 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.BeanUtils;
+import cn.darkjrong.redis.configuration.serializer.RedisValueSerializer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Type;
+
+/**
+ * 记录负载大小的序列化器
+ * <p>
+ * 装饰其他 {@link RedisSerializer}, 以 {@value #PAYLOAD_METRIC} 分布统计序列化后的字节数,
+ * 标签为 kind(key/value)、direction(write/read). 被装饰的序列化器为 {@link RedisValueSerializer} 时按目标类型反序列化仍直接委托
+ *
+ * @param <T> 对象泛型
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class MeteredRedisSerializer<T> implements RedisValueSerializer<T> {
+
+    /**
+     * 负载大小指标名
+     */
+    public static final String PAYLOAD_METRIC = "redis.utils.payload";
+
+    private final RedisSerializer<T> delegate;
+    private final DistributionSummary written;
+    private final DistributionSummary read;
+
+    /**
+     * 记录负载大小的序列化器
+     *
+     * @param delegate      被装饰的序列化器
+     * @param kind          负载种类, key/value
+     * @param meterRegistry 指标注册表
+     */
+    public MeteredRedisSerializer(RedisSerializer<T> delegate, String kind, MeterRegistry meterRegistry) {
+        Assert.notNull(delegate, "delegate must not be null");
+        this.delegate = delegate;
+        this.written = summary(kind, "write", meterRegistry);
+        this.read = summary(kind, "read", meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            written.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            read.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    @Override
+    public <R> R deserialize(byte[] bytes, Type type) throws SerializationException {
+        if (!(delegate instanceof RedisValueSerializer)) {
+            return BeanUtils.copyProperties(deserialize(bytes), type);
+        }
+        if (bytes != null) {
+            read.record(bytes.length);
+        }
+        return ((RedisValueSerializer<?>) delegate).deserialize(bytes, type);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return delegate.getTargetType();
+    }
+
+    /**
+     * 获取被装饰的序列化器
+     *
+     * @return {@link RedisSerializer}
+     */
+    public RedisSerializer<T> getDelegate() {
+        return delegate;
+    }
+
+    private static DistributionSummary summary(String kind, String direction, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(PAYLOAD_METRIC)
+                .description("Serialized RedisUtils payload size")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,152 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.cache.ExtendedCacheStatistics;
+import cn.darkjrong.redis.cache.ExtendedRedisCache;
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 缓存统计端点, 按缓存管理器、缓存名称输出命中、写入、删除、加载及等锁统计
+ * <ul>
+ *     <li>GET /actuator/rediscaches: 全部缓存</li>
+ *     <li>GET /actuator/rediscaches/{cache}: 指定缓存</li>
+ *     <li>DELETE /actuator/rediscaches: 重置全部缓存的统计</li>
+ * </ul>
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@Endpoint(id = "rediscaches")
+public class RedisCacheStatisticsEndpoint {
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    public RedisCacheStatisticsEndpoint(Map<String, CacheManager> cacheManagers) {
+        this.cacheManagers = cacheManagers;
+    }
+
+    /**
+     * 全部缓存的统计
+     *
+     * @return {@link Map} 缓存管理器名称 -> 缓存名称 -> 统计
+     */
+    @ReadOperation
+    public Map<String, Map<String, CacheStatisticsDescriptor>> caches() {
+        Map<String, Map<String, CacheStatisticsDescriptor>> result = new LinkedHashMap<>();
+        cacheManagers.forEach((name, cacheManager) -> {
+            if (cacheManager instanceof ExtendedRedisCacheManager) {
+                Map<String, CacheStatisticsDescriptor> caches = new TreeMap<>();
+                ((ExtendedRedisCacheManager) cacheManager).getRedisCaches()
+                        .forEach(cache -> caches.put(cache.getName(), new CacheStatisticsDescriptor(cache)));
+                result.put(name, caches);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 指定缓存的统计, 多个缓存管理器存在同名缓存时返回第一个
+     *
+     * @param cache 缓存名称
+     * @return {@link CacheStatisticsDescriptor}, 不存在时返回null(404)
+     */
+    @ReadOperation
+    @Nullable
+    public CacheStatisticsDescriptor cache(@Selector String cache) {
+        return caches().values().stream()
+                .map(caches -> caches.get(cache))
+                .filter(descriptor -> descriptor != null)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 重置全部缓存的统计
+     */
+    @DeleteOperation
+    public void clearStatistics() {
+        cacheManagers.values().stream()
+                .filter(cacheManager -> cacheManager instanceof ExtendedRedisCacheManager)
+                .flatMap(cacheManager -> ((ExtendedRedisCacheManager) cacheManager).getRedisCaches().stream())
+                .forEach(ExtendedRedisCache::clearStatistics);
+    }
+
+    /**
+     * 单个缓存的统计
+     */
+    public static final class CacheStatisticsDescriptor {
+
+        private final long hits;
+        private final long misses;
+        private final double hitRatio;
+        private final long puts;
+        private final long evictions;
+        private final long loads;
+        private final long loadFailures;
+        private final double averageLoadMillis;
+        private final long lockWaitMillis;
+
+        CacheStatisticsDescriptor(ExtendedRedisCache cache) {
+            CacheStatistics statistics = cache.getStatistics();
+            ExtendedCacheStatistics extendedStatistics = cache.getExtendedStatistics();
+            this.hits = cache.getHitCount();
+            this.misses = cache.getMissCount();
+            this.hitRatio = hits + misses == 0 ? 0D : (double) hits / (hits + misses);
+            this.puts = statistics.getPuts();
+            this.evictions = statistics.getDeletes();
+            this.loads = extendedStatistics.getLoads();
+            this.loadFailures = extendedStatistics.getLoadFailures();
+            this.averageLoadMillis = loads == 0 ? 0D : extendedStatistics.getLoadTime().toNanos() / 1_000_000D / loads;
+            this.lockWaitMillis = statistics.getLockWaitDuration(TimeUnit.MILLISECONDS)
+                    + extendedStatistics.getLockWaitTime().toMillis();
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getHitRatio() {
+            return hitRatio;
+        }
+
+        public long getPuts() {
+            return puts;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getLoads() {
+            return loads;
+        }
+
+        public long getLoadFailures() {
+            return loadFailures;
+        }
+
+        public double getAverageLoadMillis() {
+            return averageLoadMillis;
+        }
+
+        public long getLockWaitMillis() {
+            return lockWaitMillis;
+        }
+    }
+
+}
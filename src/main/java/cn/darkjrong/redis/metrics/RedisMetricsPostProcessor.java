@@ -0,0 +1,167 @@
+package cn.darkjrong.redis.metrics;
+
+import cn.darkjrong.redis.BeanUtils;
+import cn.darkjrong.redis.RedisUtils;
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import cn.darkjrong.redis.configuration.serializer.CompressionRedisValueSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisUtils 指标后置处理器, 存在 {@link MeterRegistry} 时生效
+ * <ul>
+ *     <li>为 {@link RedisUtils} 创建代理, 记录 {@value RedisOperationMetricsInterceptor#OPERATION_METRIC} 操作耗时</li>
+ *     <li>装饰 {@link RedisTemplate} 的序列化器, 记录 {@value MeteredRedisSerializer#PAYLOAD_METRIC} 负载大小;
+ *     value 序列化器为 {@link CompressionRedisValueSerializer} 时绑定 {@link CompressionMetrics}</li>
+ *     <li>注册 {@link BeanUtils} 转换监听器, 记录 {@value #CONVERSION_METRIC} 转换耗时</li>
+ *     <li>为 {@link ExtendedRedisCacheManager} 运行时动态创建的缓存绑定 {@link ExtendedRedisCacheMetrics};
+ *     启动时已存在的缓存由 Spring Boot 的缓存指标注册器通过 {@link ExtendedRedisCacheMeterBinderProvider} 绑定,
+ *     类路径不存在 actuator 时全部由此绑定</li>
+ * </ul>
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class RedisMetricsPostProcessor implements BeanPostProcessor, DisposableBean {
+
+    /**
+     * BeanUtils 转换耗时指标名
+     */
+    public static final String CONVERSION_METRIC = "redis.utils.conversion";
+
+    private static final String CACHE_MANAGER_SUFFIX = "cacheManager";
+    private static final boolean CACHE_METRICS_REGISTRAR_PRESENT = ClassUtils.isPresent(
+            "org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar", RedisMetricsPostProcessor.class.getClassLoader());
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Set<CompressionRedisValueSerializer> compressionSerializers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile MeterRegistry meterRegistry;
+
+    public RedisMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RedisUtils) {
+            MeterRegistry registry = getMeterRegistry();
+            if (registry != null) {
+                registerConversionListener(registry);
+                return proxy((RedisUtils) bean, registry);
+            }
+        } else if (bean instanceof ExtendedRedisCacheManager) {
+            MeterRegistry registry = getMeterRegistry();
+            if (registry != null) {
+                bindRuntimeCaches((ExtendedRedisCacheManager) bean, beanName, registry);
+            }
+        } else if (bean instanceof RedisTemplate && !(bean instanceof StringRedisTemplate)) {
+            MeterRegistry registry = getMeterRegistry();
+            if (registry != null) {
+                meter((RedisTemplate<?, ?>) bean, registry);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public void destroy() {
+        if (meterRegistry != null) {
+            BeanUtils.setConversionListener(null);
+        }
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * 与 Spring Boot 的缓存指标注册器使用相同的 cache.manager 标签, 避免同名指标标签不一致
+     */
+    private static void bindRuntimeCaches(ExtendedRedisCacheManager cacheManager, String beanName, MeterRegistry registry) {
+        Tags tags = Tags.of("cache.manager", getCacheManagerName(beanName));
+        Set<String> initialCaches = CACHE_METRICS_REGISTRAR_PRESENT
+                ? new HashSet<>(cacheManager.getCacheNames()) : Collections.emptySet();
+        cacheManager.onCacheCreated(cache -> {
+            if (!initialCaches.contains(cache.getName())) {
+                new ExtendedRedisCacheMetrics(cache, tags).bindTo(registry);
+            }
+        });
+    }
+
+    private static String getCacheManagerName(String beanName) {
+        if (beanName.length() > CACHE_MANAGER_SUFFIX.length()
+                && StringUtils.endsWithIgnoreCase(beanName, CACHE_MANAGER_SUFFIX)) {
+            return beanName.substring(0, beanName.length() - CACHE_MANAGER_SUFFIX.length());
+        }
+        return beanName;
+    }
+
+    private Object proxy(RedisUtils redisUtils, MeterRegistry registry) {
+        ProxyFactory proxyFactory = new ProxyFactory(redisUtils);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new RedisOperationMetricsInterceptor(registry));
+        return proxyFactory.getProxy(redisUtils.getClass().getClassLoader());
+    }
+
+    private void meter(RedisTemplate<?, ?> redisTemplate, MeterRegistry registry) {
+        bindCompressionMetrics(redisTemplate.getValueSerializer(), registry);
+        bindCompressionMetrics(redisTemplate.getHashValueSerializer(), registry);
+        redisTemplate.setKeySerializer(meter(redisTemplate.getKeySerializer(), "key", registry));
+        redisTemplate.setHashKeySerializer(meter(redisTemplate.getHashKeySerializer(), "key", registry));
+        redisTemplate.setValueSerializer(meter(redisTemplate.getValueSerializer(), "value", registry));
+        redisTemplate.setHashValueSerializer(meter(redisTemplate.getHashValueSerializer(), "value", registry));
+    }
+
+    private static <T> RedisSerializer<T> meter(RedisSerializer<T> serializer, String kind, MeterRegistry registry) {
+        if (serializer == null || serializer instanceof MeteredRedisSerializer) {
+            return serializer;
+        }
+        return new MeteredRedisSerializer<>(serializer, kind, registry);
+    }
+
+    /**
+     * 多个 RedisTemplate 共用同一压缩序列化器时只绑定一次
+     */
+    private void bindCompressionMetrics(RedisSerializer<?> serializer, MeterRegistry registry) {
+        if (serializer instanceof MeteredRedisSerializer) {
+            serializer = ((MeteredRedisSerializer<?>) serializer).getDelegate();
+        }
+        if (serializer instanceof CompressionRedisValueSerializer) {
+            CompressionRedisValueSerializer compressionSerializer = (CompressionRedisValueSerializer) serializer;
+            synchronized (compressionSerializers) {
+                if (compressionSerializers.add(compressionSerializer)) {
+                    new CompressionMetrics(compressionSerializer).bindTo(registry);
+                }
+            }
+        }
+    }
+
+    private static void registerConversionListener(MeterRegistry registry) {
+        Timer timer = Timer.builder(CONVERSION_METRIC)
+                .description("Time spent converting objects in BeanUtils")
+                .register(registry);
+        BeanUtils.setConversionListener(nanos -> timer.record(nanos, TimeUnit.NANOSECONDS));
+    }
+
+}
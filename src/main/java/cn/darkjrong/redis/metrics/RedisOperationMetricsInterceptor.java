@@ -0,0 +1,132 @@
+package cn.darkjrong.redis.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisUtils 操作计时拦截器
+ * <p>
+ * 每个公开操作记录一个 {@value #OPERATION_METRIC} 计时器, 标签为 command(方法名)、type(数据类型)、outcome(success/error).
+ * 配置类方法(setXxx/getXxx 属性访问)不计时; 返回 Stream 的方法只统计创建耗时
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+public class RedisOperationMetricsInterceptor implements MethodInterceptor {
+
+    /**
+     * 操作计时指标名
+     */
+    public static final String OPERATION_METRIC = "redis.utils.op";
+
+    private static final Set<String> KEY_COMMANDS = new HashSet<>(Arrays.asList(
+            "delete", "unlink", "deleteByPattern", "dump", "hasKey", "expire", "expireAt", "keys", "scanKeys",
+            "move", "persist", "getExpire", "randomKey", "rename", "renameIfAbsent", "type"));
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RedisOperationMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!isOperation(method)) {
+            return invocation.proceed();
+        }
+        Timer[] outcomes = timers.computeIfAbsent(method, this::createTimers);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            outcomes[success ? 0 : 1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] createTimers(Method method) {
+        String command = method.getName();
+        String type = dataType(command);
+        return new Timer[]{timer(command, type, "success"), timer(command, type, "error")};
+    }
+
+    private Timer timer(String command, String type, String outcome) {
+        return Timer.builder(OPERATION_METRIC)
+                .description("RedisUtils operation latency")
+                .tag("command", command)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 是否为需要计时的操作, 排除 Object 方法及属性访问方法
+     *
+     * @param method 方法
+     * @return boolean
+     */
+    static boolean isOperation(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+            return false;
+        }
+        String name = method.getName();
+        if (isProperty(name, "set") && method.getParameterCount() == 1 && method.getReturnType() == void.class) {
+            return false;
+        }
+        return !(isProperty(name, "get") && method.getParameterCount() == 0);
+    }
+
+    /**
+     * 根据方法名获取数据类型
+     *
+     * @param command 方法名
+     * @return key/string/hash/list/set/zset/batch
+     */
+    static String dataType(String command) {
+        if (KEY_COMMANDS.contains(command)) {
+            return "key";
+        }
+        if ("consume".equals(command)) {
+            return "list";
+        }
+        if ("batch".equals(command)) {
+            return "batch";
+        }
+        if (command.length() > 1 && Character.isUpperCase(command.charAt(1))) {
+            switch (command.charAt(0)) {
+                case 'h':
+                    return "hash";
+                case 'l':
+                    return "list";
+                case 's':
+                    return "set";
+                case 'z':
+                    return "zset";
+                default:
+                    break;
+            }
+        }
+        return "string";
+    }
+
+    private static boolean isProperty(String name, String prefix) {
+        return name.length() > prefix.length() && name.startsWith(prefix)
+                && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+}
@@ -0,0 +1,39 @@
+package cn.darkjrong.spring.boot.autoconfigure;
+
+import cn.darkjrong.redis.metrics.RedisCacheStatisticsEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * Redis 缓存统计端点自动配置类, 类路径存在 actuator 且端点已开放时生效
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@AutoConfiguration(after = RedisSerializeAutoConfiguration.class)
+@ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+@ConditionalOnBean(CacheManager.class)
+public class RedisCacheEndpointAutoConfiguration {
+
+    /**
+     * Redis 缓存统计端点
+     *
+     * @param cacheManagers 缓存管理器
+     * @return {@link RedisCacheStatisticsEndpoint}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = RedisCacheStatisticsEndpoint.class)
+    public RedisCacheStatisticsEndpoint redisCacheStatisticsEndpoint(Map<String, CacheManager> cacheManagers) {
+        return new RedisCacheStatisticsEndpoint(cacheManagers);
+    }
+
+}
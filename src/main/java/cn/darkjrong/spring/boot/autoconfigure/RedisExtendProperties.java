@@ -0,0 +1,969 @@
+package cn.darkjrong.spring.boot.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Redis 扩展配置
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@ConfigurationProperties(prefix = "spring.redis.extend")
+public class RedisExtendProperties {
+
+    /**
+     * 序列化配置
+     */
+    private Serializer serializer = new Serializer();
+
+    /**
+     * Value 压缩配置
+     */
+    private Compression compression = new Compression();
+
+    /**
+     * 读命令合并配置
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * 缓存配置
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * SCAN 配置
+     */
+    private Scan scan = new Scan();
+
+    /**
+     * 异步操作配置
+     */
+    private Async async = new Async();
+
+    /**
+     * 列表队列消费配置
+     */
+    private Queue queue = new Queue();
+
+    /**
+     * 指标配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 内存 Redis 配置
+     */
+    private InMemory inMemory = new InMemory();
+
+    /**
+     * Lua 脚本配置
+     */
+    private Script script = new Script();
+
+    /**
+     * 分布式锁配置
+     */
+    private Lock lock = new Lock();
+
+    /**
+     * 分布式限流配置
+     */
+    private RateLimiter rateLimiter = new RateLimiter();
+
+    public Serializer getSerializer() {
+        return serializer;
+    }
+
+    public void setSerializer(Serializer serializer) {
+        this.serializer = serializer;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(Coalescing coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Scan getScan() {
+        return scan;
+    }
+
+    public void setScan(Scan scan) {
+        this.scan = scan;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+
+    public Queue getQueue() {
+        return queue;
+    }
+
+    public void setQueue(Queue queue) {
+        this.queue = queue;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public InMemory getInMemory() {
+        return inMemory;
+    }
+
+    public void setInMemory(InMemory inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public Script getScript() {
+        return script;
+    }
+
+    public void setScript(Script script) {
+        this.script = script;
+    }
+
+    public Lock getLock() {
+        return lock;
+    }
+
+    public void setLock(Lock lock) {
+        this.lock = lock;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * 序列化方式
+     */
+    public enum SerializerType {
+
+        /**
+         * JSON(Jackson), 默认
+         */
+        JSON,
+
+        /**
+         * 紧凑二进制
+         */
+        COMPACT,
+
+    }
+
+    /**
+     * 序列化配置
+     */
+    public static class Serializer {
+
+        /**
+         * Value 序列化方式
+         */
+        private SerializerType type = SerializerType.JSON;
+
+        /**
+         * 紧凑二进制序列化时注册的类型, key: 类型ID(大于0), value: 类型
+         */
+        private Map<Integer, Class<?>> types = new LinkedHashMap<>();
+
+        /**
+         * 紧凑二进制序列化时允许按全类名读写的包(未注册类型), 如 com.example.model
+         */
+        private List<String> allowedPackages = new ArrayList<>();
+
+        public SerializerType getType() {
+            return type;
+        }
+
+        public void setType(SerializerType type) {
+            this.type = type;
+        }
+
+        public Map<Integer, Class<?>> getTypes() {
+            return types;
+        }
+
+        public void setTypes(Map<Integer, Class<?>> types) {
+            this.types = types;
+        }
+
+        public List<String> getAllowedPackages() {
+            return allowedPackages;
+        }
+
+        public void setAllowedPackages(List<String> allowedPackages) {
+            this.allowedPackages = allowedPackages;
+        }
+    }
+
+    /**
+     * Value 压缩配置
+     */
+    public static class Compression {
+
+        /**
+         * 是否开启压缩
+         */
+        private boolean enabled = false;
+
+        /**
+         * 压缩阈值, 序列化后超过该大小才压缩
+         */
+        private DataSize threshold = DataSize.ofKilobytes(1);
+
+        /**
+         * 压缩级别(0-9), 默认最快速度
+         */
+        private int level = Deflater.BEST_SPEED;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(DataSize threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+    }
+
+    /**
+     * 读命令合并配置
+     */
+    public static class Coalescing {
+
+        /**
+         * 是否开启, 开启后并发的 get/hGet 在时间窗口内合并为一次管道执行
+         */
+        private boolean enabled = false;
+
+        /**
+         * 合并窗口
+         */
+        private Duration window = Duration.ofNanos(200_000);
+
+        /**
+         * 单次合并的最大命令数
+         */
+        private int maxBatchSize = 128;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+    }
+
+    /**
+     * 缓存配置
+     */
+    public static class Cache {
+
+        /**
+         * 近端缓存配置
+         */
+        private NearCache near = new NearCache();
+
+        /**
+         * 单飞加载配置
+         */
+        private SingleFlight singleFlight = new SingleFlight();
+
+        /**
+         * 提前刷新配置
+         */
+        private RefreshAhead refreshAhead = new RefreshAhead();
+
+        /**
+         * 按缓存名称的配置, key 为缓存名称
+         */
+        private Map<String, CacheSpec> configs = new LinkedHashMap<>();
+
+        /**
+         * 过期时间抖动比例, 如 0.1 表示 ±10%, 0 表示不抖动
+         */
+        private double ttlJitter = 0D;
+
+        /**
+         * 默认 key 生成器中参数部分的最大长度, 超过时使用哈希值
+         */
+        private int keyMaxLength = 128;
+
+        /**
+         * 是否收集缓存统计(命中、未命中、写入、删除、加载、等锁), 关闭时 spring.cache.redis.enable-statistics 仍可开启 Redis 部分的统计
+         */
+        private boolean statistics = true;
+
+        public NearCache getNear() {
+            return near;
+        }
+
+        public void setNear(NearCache near) {
+            this.near = near;
+        }
+
+        public SingleFlight getSingleFlight() {
+            return singleFlight;
+        }
+
+        public void setSingleFlight(SingleFlight singleFlight) {
+            this.singleFlight = singleFlight;
+        }
+
+        public RefreshAhead getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(RefreshAhead refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        public Map<String, CacheSpec> getConfigs() {
+            return configs;
+        }
+
+        public void setConfigs(Map<String, CacheSpec> configs) {
+            this.configs = configs;
+        }
+
+        public double getTtlJitter() {
+            return ttlJitter;
+        }
+
+        public void setTtlJitter(double ttlJitter) {
+            this.ttlJitter = ttlJitter;
+        }
+
+        public int getKeyMaxLength() {
+            return keyMaxLength;
+        }
+
+        public void setKeyMaxLength(int keyMaxLength) {
+            this.keyMaxLength = keyMaxLength;
+        }
+
+        public boolean isStatistics() {
+            return statistics;
+        }
+
+        public void setStatistics(boolean statistics) {
+            this.statistics = statistics;
+        }
+    }
+
+    /**
+     * 单个缓存的配置, 未配置的项使用全局配置
+     */
+    public static class CacheSpec {
+
+        /**
+         * 缓存过期时间
+         */
+        private Duration ttl;
+
+        /**
+         * 是否缓存null值, 默认不缓存
+         */
+        private Boolean cacheNullValues;
+
+        /**
+         * 序列化方式
+         */
+        private SerializerType serializer;
+
+        /**
+         * key前缀, 替换默认前缀(缓存名称::)
+         */
+        private String keyPrefix;
+
+        /**
+         * 是否压缩, 压缩阈值及级别使用全局配置
+         */
+        private Boolean compression;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Boolean getCacheNullValues() {
+            return cacheNullValues;
+        }
+
+        public void setCacheNullValues(Boolean cacheNullValues) {
+            this.cacheNullValues = cacheNullValues;
+        }
+
+        public SerializerType getSerializer() {
+            return serializer;
+        }
+
+        public void setSerializer(SerializerType serializer) {
+            this.serializer = serializer;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public Boolean getCompression() {
+            return compression;
+        }
+
+        public void setCompression(Boolean compression) {
+            this.compression = compression;
+        }
+    }
+
+    /**
+     * 提前刷新配置
+     */
+    public static class RefreshAhead {
+
+        /**
+         * 是否开启, 开启后 {@code cacheNames} 中缓存的 {@code @Cacheable(sync = true)} 临近过期的命中在后台重新加载
+         */
+        private boolean enabled = false;
+
+        /**
+         * 开启的缓存名称, 须逐个指定; 后台刷新在其他线程调用被缓存的方法, 方法不能依赖调用线程的上下文(事务、登录信息等)
+         */
+        private Set<String> cacheNames = new LinkedHashSet<>();
+
+        /**
+         * 剩余过期时间低于缓存过期时间的该比例时刷新, 0 表示不按比例刷新
+         */
+        private double ratio = 0.1D;
+
+        /**
+         * XFetch 概率提前刷新系数, 越大越早刷新, 0 表示不按概率刷新
+         */
+        private double beta = 1D;
+
+        /**
+         * 刷新线程数
+         */
+        private int threads = 2;
+
+        /**
+         * 刷新队列容量, 队列满时放弃刷新
+         */
+        private int queueCapacity = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Set<String> getCacheNames() {
+            return cacheNames;
+        }
+
+        public void setCacheNames(Set<String> cacheNames) {
+            this.cacheNames = cacheNames;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public double getBeta() {
+            return beta;
+        }
+
+        public void setBeta(double beta) {
+            this.beta = beta;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    /**
+     * 单飞加载配置
+     */
+    public static class SingleFlight {
+
+        /**
+         * 是否开启, 开启后 {@code @Cacheable(sync = true)} 同一 key 的并发加载只执行一次
+         */
+        private boolean enabled = false;
+
+        /**
+         * 是否通过 Redis 锁在集群内单飞
+         */
+        private boolean distributed = false;
+
+        /**
+         * 集群锁超时时间, 同时是等待其他节点加载的最长时间, 应大于加载耗时
+         */
+        private Duration lockTimeout = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isDistributed() {
+            return distributed;
+        }
+
+        public void setDistributed(boolean distributed) {
+            this.distributed = distributed;
+        }
+
+        public Duration getLockTimeout() {
+            return lockTimeout;
+        }
+
+        public void setLockTimeout(Duration lockTimeout) {
+            this.lockTimeout = lockTimeout;
+        }
+    }
+
+    /**
+     * 近端缓存配置
+     */
+    public static class NearCache {
+
+        /**
+         * 是否开启, 开启后在 Redis 缓存前增加进程内缓存
+         */
+        private boolean enabled = false;
+
+        /**
+         * 每个缓存的最大条目数
+         */
+        private int maximumSize = 10000;
+
+        /**
+         * 存活时间, 应小于 Redis 缓存的过期时间
+         */
+        private Duration timeToLive = Duration.ofSeconds(10);
+
+        /**
+         * 失效通知频道
+         */
+        private String channel = "redis:extend:near-cache:invalidation";
+
+        /**
+         * 开启的缓存名称, 为空时全部开启
+         */
+        private Set<String> cacheNames = new LinkedHashSet<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public Set<String> getCacheNames() {
+            return cacheNames;
+        }
+
+        public void setCacheNames(Set<String> cacheNames) {
+            this.cacheNames = cacheNames;
+        }
+    }
+
+    /**
+     * SCAN 配置
+     */
+    public static class Scan {
+
+        /**
+         * 安全模式, 开启后 RedisUtils.keys 及缓存清空使用 SCAN 代替阻塞的 KEYS
+         */
+        private boolean safeMode = false;
+
+        /**
+         * 每次 SCAN 的数量提示
+         */
+        private int count = 1000;
+
+        /**
+         * 集群模式下并行扫描的节点数
+         */
+        private int parallelism = 4;
+
+        public boolean isSafeMode() {
+            return safeMode;
+        }
+
+        public void setSafeMode(boolean safeMode) {
+            this.safeMode = safeMode;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * 异步操作配置
+     */
+    public static class Async {
+
+        /**
+         * 工作线程数, 执行未走 Lettuce 异步 API 的命令及反序列化
+         */
+        private int threads = Runtime.getRuntime().availableProcessors() * 2;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+    }
+
+    /**
+     * 列表队列消费配置
+     */
+    public static class Queue {
+
+        /**
+         * 是否优先使用虚拟线程(JDK 21+), 不支持时使用平台线程
+         */
+        private boolean virtualThreads = true;
+
+        /**
+         * 每次 BLPOP 的阻塞时间, 最小1秒, 需小于客户端命令超时时间
+         */
+        private Duration pollTimeout = Duration.ofSeconds(1);
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public Duration getPollTimeout() {
+            return pollTimeout;
+        }
+
+        public void setPollTimeout(Duration pollTimeout) {
+            this.pollTimeout = pollTimeout;
+        }
+    }
+
+    /**
+     * 指标配置
+     */
+    public static class Metrics {
+
+        /**
+         * 是否记录 RedisUtils 指标, 需引入 micrometer-core 且容器中存在 MeterRegistry
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * 内存 Redis 配置
+     */
+    public static class InMemory {
+
+        /**
+         * 是否使用进程内的内存 Redis 替代真实连接, 仅用于测试及单机开发
+         */
+        private boolean enabled = false;
+
+        /**
+         * 数据库数量
+         */
+        private int databases = 16;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getDatabases() {
+            return databases;
+        }
+
+        public void setDatabases(int databases) {
+            this.databases = databases;
+        }
+    }
+
+    /**
+     * Lua 脚本配置
+     */
+    public static class Script {
+
+        /**
+         * 脚本资源路径模式, 文件名(不含 .lua)作为脚本名称
+         */
+        private String locations = "classpath*:redis/scripts/*.lua";
+
+        public String getLocations() {
+            return locations;
+        }
+
+        public void setLocations(String locations) {
+            this.locations = locations;
+        }
+    }
+
+    /**
+     * 分布式锁配置
+     */
+    public static class Lock {
+
+        /**
+         * 锁 key 前缀
+         */
+        private String keyPrefix = "lock:";
+
+        /**
+         * 未指定租期时的租期, 看门狗每隔租期的 1/3 续期
+         */
+        private Duration leaseTime = Duration.ofSeconds(30);
+
+        /**
+         * 本 JVM 内的等待线程是否按到达顺序获取锁
+         */
+        private boolean fair = false;
+
+        /**
+         * 锁释放通知频道
+         */
+        private String channel = "redis:extend:lock:release";
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public boolean isFair() {
+            return fair;
+        }
+
+        public void setFair(boolean fair) {
+            this.fair = fair;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * 分布式限流配置
+     */
+    public static class RateLimiter {
+
+        /**
+         * 限流 key 前缀
+         */
+        private String keyPrefix = "rate-limit:";
+
+        /**
+         * 是否开启本地预检, 被拒绝的 key 在服务端给出的等待时间内直接在本地拒绝, 不访问 Redis
+         */
+        private boolean localPreCheck = true;
+
+        /**
+         * 本地预检最多记录的 key 数量
+         */
+        private int localMaxEntries = 10000;
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public boolean isLocalPreCheck() {
+            return localPreCheck;
+        }
+
+        public void setLocalPreCheck(boolean localPreCheck) {
+            this.localPreCheck = localPreCheck;
+        }
+
+        public int getLocalMaxEntries() {
+            return localMaxEntries;
+        }
+
+        public void setLocalMaxEntries(int localMaxEntries) {
+            this.localMaxEntries = localMaxEntries;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package cn.darkjrong.spring.boot.autoconfigure;
+
+import cn.darkjrong.redis.memory.InMemoryRedisConnectionFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Clock;
+
+/**
+ * 内存 Redis 自动配置类, spring.redis.extend.in-memory.enabled=true 时以内存 Redis 替代 Lettuce/Jedis 连接工厂
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@AutoConfiguration(before = RedisAutoConfiguration.class)
+@EnableConfigurationProperties(RedisExtendProperties.class)
+@ConditionalOnProperty(prefix = "spring.redis.extend.in-memory", name = "enabled", havingValue = "true")
+public class RedisInMemoryAutoConfiguration {
+
+    /**
+     * 内存 Redis 连接工厂
+     *
+     * @param redisExtendProperties 扩展配置
+     * @return {@link InMemoryRedisConnectionFactory}
+     */
+    @Bean
+    @ConditionalOnMissingBean(RedisConnectionFactory.class)
+    public InMemoryRedisConnectionFactory redisConnectionFactory(RedisExtendProperties redisExtendProperties) {
+        return new InMemoryRedisConnectionFactory(redisExtendProperties.getInMemory().getDatabases(), Clock.systemUTC());
+    }
+
+}
@@ -0,0 +1,55 @@
+package cn.darkjrong.spring.boot.autoconfigure;
+
+import cn.darkjrong.redis.metrics.ExtendedRedisCacheMeterBinderProvider;
+import cn.darkjrong.redis.metrics.RedisMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RedisUtils 指标自动配置类, 类路径存在 Micrometer 时生效, 容器中存在 {@link MeterRegistry} 时记录指标
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "spring.redis.extend.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RedisMetricsAutoConfiguration {
+
+    /**
+     * RedisUtils 指标后置处理器
+     *
+     * @param meterRegistryProvider 指标注册表
+     * @return {@link RedisMetricsPostProcessor}
+     */
+    @Bean
+    public static RedisMetricsPostProcessor redisMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new RedisMetricsPostProcessor(meterRegistryProvider);
+    }
+
+    /**
+     * 缓存指标配置, 类路径存在 actuator 时由 Spring Boot 的缓存指标注册器绑定
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CacheMeterBinderProvider.class)
+    static class CacheMeterBinderProviderConfiguration {
+
+        /**
+         * ExtendedRedisCache 指标绑定提供者
+         *
+         * @return {@link ExtendedRedisCacheMeterBinderProvider}
+         */
+        @Bean
+        public ExtendedRedisCacheMeterBinderProvider extendedRedisCacheMeterBinderProvider() {
+            return new ExtendedRedisCacheMeterBinderProvider();
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package cn.darkjrong.spring.boot.autoconfigure;
+
+import cn.darkjrong.redis.ReactiveRedisUtils;
+import cn.darkjrong.redis.configuration.serializer.RedisKeySerializer;
+import cn.darkjrong.redis.configuration.serializer.RedisValueSerializer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Flux;
+
+/**
+ * Redis 响应式自动配置类, 类路径存在 Reactor 且连接工厂支持响应式(如 Lettuce)时生效,
+ * 与 RedisTemplate 使用相同的 Key/Value 序列化器
+ *
+ * @author Rong.Jia
+ * @date 2026/10/18
+ */
+@AutoConfiguration(after = {RedisAutoConfiguration.class, RedisSerializeAutoConfiguration.class},
+        before = RedisReactiveAutoConfiguration.class)
+@ConditionalOnClass({Flux.class, ReactiveRedisTemplate.class})
+@ConditionalOnBean(ReactiveRedisConnectionFactory.class)
+public class RedisReactiveExtendAutoConfiguration {
+
+    /**
+     * ReactiveRedisTemplate配置, 与 RedisTemplate 使用相同的序列化方式
+     *
+     * @param reactiveRedisConnectionFactory 响应式连接工厂
+     * @param redisKeySerializer             key 序列化器
+     * @param redisValueSerializer           value 序列化器
+     * @return ReactiveRedisTemplate<String, Object>
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "reactiveRedisTemplate")
+    @SuppressWarnings("unchecked")
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(ReactiveRedisConnectionFactory reactiveRedisConnectionFactory,
+                                                                       RedisKeySerializer redisKeySerializer,
+                                                                       RedisValueSerializer<?> redisValueSerializer) {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(redisKeySerializer)
+                .key(redisKeySerializer)
+                .value((RedisValueSerializer<Object>) redisValueSerializer)
+                .hashKey(redisKeySerializer)
+                .hashValue(redisValueSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+    }
+
+    /**
+     * 注入响应式工具类
+     *
+     * @param reactiveRedisTemplate {@link ReactiveRedisTemplate}
+     * @param redisKeySerializer    key 序列化器
+     * @param redisValueSerializer  value 序列化器
+     * @return {@link ReactiveRedisUtils}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveRedisUtils reactiveRedisUtils(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                                                 RedisKeySerializer redisKeySerializer,
+                                                 RedisValueSerializer<?> redisValueSerializer) {
+        return new ReactiveRedisUtils(reactiveRedisTemplate, redisKeySerializer, redisValueSerializer);
+    }
+
+}
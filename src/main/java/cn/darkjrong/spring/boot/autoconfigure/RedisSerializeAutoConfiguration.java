@@ -1,5 +1,7 @@
 package cn.darkjrong.spring.boot.autoconfigure;
 
+import cn.darkjrong.redis.configuration.serializer.CompactRedisValueSerializer;
+import cn.darkjrong.redis.configuration.serializer.CompressionRedisValueSerializer;
 import cn.darkjrong.redis.configuration.serializer.DefaultRedisKeySerializer;
 import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
 import cn.darkjrong.redis.configuration.serializer.RedisKeySerializer;
@@ -18,7 +20,7 @@ import org.springframework.context.annotation.ComponentScan;
  */
 @AutoConfiguration
 @ComponentScan("cn.darkjrong.redis")
-@EnableConfigurationProperties(CacheProperties.class)
+@EnableConfigurationProperties({CacheProperties.class, RedisExtendProperties.class})
 public class RedisSerializeAutoConfiguration {
 
     @Bean
@@ -29,7 +31,41 @@ public class RedisSerializeAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(RedisValueSerializer.class)
-    public RedisValueSerializer<?> valueSerializer() {
+    public RedisValueSerializer<?> valueSerializer(RedisExtendProperties redisExtendProperties) {
+        RedisValueSerializer<Object> valueSerializer = createValueSerializer(redisExtendProperties.getSerializer());
+        RedisExtendProperties.Compression compression = redisExtendProperties.getCompression();
+        if (compression.isEnabled()) {
+            return compress(valueSerializer, compression);
+        }
+        return valueSerializer;
+    }
+
+    /**
+     * 为 Value 序列化器增加压缩
+     *
+     * @param valueSerializer 序列化器
+     * @param compression     压缩配置
+     * @return {@link CompressionRedisValueSerializer}
+     */
+    public static CompressionRedisValueSerializer compress(RedisValueSerializer<Object> valueSerializer,
+                                                           RedisExtendProperties.Compression compression) {
+        return new CompressionRedisValueSerializer(valueSerializer,
+                (int) compression.getThreshold().toBytes(), compression.getLevel());
+    }
+
+    /**
+     * 创建 Value 序列化器
+     *
+     * @param serializer 序列化配置
+     * @return {@link RedisValueSerializer}
+     */
+    public static RedisValueSerializer<Object> createValueSerializer(RedisExtendProperties.Serializer serializer) {
+        if (serializer.getType() == RedisExtendProperties.SerializerType.COMPACT) {
+            CompactRedisValueSerializer compactRedisValueSerializer = new CompactRedisValueSerializer();
+            compactRedisValueSerializer.registerTypes(serializer.getTypes());
+            compactRedisValueSerializer.setAllowedPackages(serializer.getAllowedPackages());
+            return compactRedisValueSerializer;
+        }
         DefaultRedisValueSerializer defaultRedisValueSerializer = new DefaultRedisValueSerializer();
         defaultRedisValueSerializer.setObjectMapper();
         return defaultRedisValueSerializer;
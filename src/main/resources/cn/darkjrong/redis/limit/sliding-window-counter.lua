@@ -0,0 +1,41 @@
+-- 滑动窗口计数, 以当前与上一个固定窗口的计数按时间加权估算滑动窗口内的次数
+-- KEYS[1] 限流 key, ARGV[1] 窗口内允许的次数, ARGV[2] 窗口(毫秒), ARGV[3] 申请的次数
+-- 返回 {是否通过, 窗口内剩余次数, 需等待的毫秒数(-1 表示永远无法满足)}
+redis.replicate_commands()
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local index = math.floor(now / window)
+local counter = redis.call('HMGET', KEYS[1], 'window', 'current', 'previous')
+local last = tonumber(counter[1])
+local current = tonumber(counter[2]) or 0
+local previous = tonumber(counter[3]) or 0
+if last == nil or last < index - 1 then
+    current = 0
+    previous = 0
+elseif last == index - 1 then
+    previous = current
+    current = 0
+end
+local elapsed = now - index * window
+local estimated = previous * (window - elapsed) / window + current
+if permits > limit then
+    return {0, math.max(0, math.floor(limit - estimated)), -1}
+end
+if estimated + permits <= limit then
+    current = current + permits
+    redis.call('HSET', KEYS[1], 'window', index, 'current', current, 'previous', previous)
+    redis.call('PEXPIRE', KEYS[1], window * 2)
+    return {1, math.floor(limit - estimated - permits), 0}
+end
+local wait
+if current + permits > limit then
+    -- 本窗口内无法满足, 至少等到下一个窗口
+    wait = window - elapsed
+else
+    -- 等到上一个窗口的权重衰减到足够小
+    wait = math.ceil(window - (limit - current - permits) * window / previous) - elapsed
+end
+return {0, math.max(0, math.floor(limit - estimated)), math.max(1, wait)}
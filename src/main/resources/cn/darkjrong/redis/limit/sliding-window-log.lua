@@ -0,0 +1,25 @@
+-- 滑动窗口日志, 以有序集合记录窗口内每次通过的时间
+-- KEYS[1] 限流 key, ARGV[1] 窗口内允许的次数, ARGV[2] 窗口(毫秒), ARGV[3] 申请的次数, ARGV[4] 本次请求的唯一标识
+-- 返回 {是否通过, 窗口内剩余次数, 需等待的毫秒数(-1 表示永远无法满足)}
+redis.replicate_commands()
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+if permits > limit then
+    return {0, math.max(0, limit - count), -1}
+end
+if count + permits <= limit then
+    for i = 1, permits do
+        redis.call('ZADD', KEYS[1], now, ARGV[4] .. ':' .. i)
+    end
+    redis.call('PEXPIRE', KEYS[1], window)
+    return {1, limit - count - permits, 0}
+end
+-- 等到最早的若干条记录移出窗口
+local index = count + permits - limit - 1
+local oldest = redis.call('ZRANGE', KEYS[1], index, index, 'WITHSCORES')
+return {0, math.max(0, limit - count), math.max(1, tonumber(oldest[2]) + window - now)}
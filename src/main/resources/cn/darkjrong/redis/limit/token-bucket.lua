@@ -0,0 +1,31 @@
+-- 令牌桶
+-- KEYS[1] 限流 key, ARGV[1] 容量, ARGV[2] 每个周期补充的令牌数, ARGV[3] 周期(毫秒), ARGV[4] 申请的令牌数
+-- 返回 {是否通过, 剩余令牌数, 需等待的毫秒数(-1 表示永远无法满足)}
+redis.replicate_commands()
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2]) / tonumber(ARGV[3])
+local permits = tonumber(ARGV[4])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+if permits > capacity then
+    return {0, math.floor(tokens), -1}
+end
+local allowed = 0
+local wait = 0
+if tokens >= permits then
+    tokens = tokens - permits
+    allowed = 1
+else
+    wait = math.ceil((permits - tokens) / rate)
+end
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.max(1, math.ceil(capacity / rate)))
+return {allowed, math.floor(tokens), wait}
@@ -0,0 +1,7 @@
+-- 获取锁
+-- KEYS[1] 锁 key, ARGV[1] 持有者标识, ARGV[2] 租期(毫秒)
+-- 获取成功返回 nil, 否则返回锁的剩余租期(毫秒)
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return nil
+end
+return redis.call('PTTL', KEYS[1])
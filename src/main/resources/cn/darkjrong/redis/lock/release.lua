@@ -0,0 +1,8 @@
+-- 释放锁, 仅持有者可释放, 释放后通知等待者
+-- KEYS[1] 锁 key, ARGV[1] 持有者标识, ARGV[2] 释放通知频道
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    redis.call('PUBLISH', ARGV[2], KEYS[1])
+    return 1
+end
+return 0
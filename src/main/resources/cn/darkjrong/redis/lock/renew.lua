@@ -0,0 +1,6 @@
+-- 续期, 仅持有者可续期
+-- KEYS[1] 锁 key, ARGV[1] 持有者标识, ARGV[2] 租期(毫秒)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
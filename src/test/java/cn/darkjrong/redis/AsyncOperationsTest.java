@@ -0,0 +1,38 @@
+package cn.darkjrong.redis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncOperationsTest extends RedisInitTest {
+
+    @Test
+    void fanOut() {
+
+        Person person = new Person();
+        person.setId(1);
+        person.setName("Rong.Jia");
+        person.setAge(23);
+        person.setSex("男");
+
+        try (AsyncRedisUtils asyncRedisUtils = new AsyncRedisUtils(redisUtils, 2)) {
+            CompletableFuture.allOf(
+                    asyncRedisUtils.set("async:a", person),
+                    asyncRedisUtils.hPut("async:h", "1", person),
+                    asyncRedisUtils.lRightPush("async:l", person)).join();
+
+            CompletableFuture<Person> value = asyncRedisUtils.get("async:a", Person.class);
+            CompletableFuture<Person> hashValue = asyncRedisUtils.hGet("async:h", "1", Person.class);
+            CompletableFuture<List<Person>> list = asyncRedisUtils.lRange("async:l", 0, -1, Person.class);
+            CompletableFuture<Long> size = asyncRedisUtils.sSize("async:s");
+            CompletableFuture.allOf(value, hashValue, list, size).join();
+
+            System.out.println(value.join());
+            System.out.println(hashValue.join());
+            System.out.println(list.join());
+            System.out.println(size.join());
+        }
+    }
+
+}
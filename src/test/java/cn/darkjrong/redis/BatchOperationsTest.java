@@ -0,0 +1,31 @@
+package cn.darkjrong.redis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BatchOperationsTest extends RedisInitTest {
+
+    @Test
+    void execute() {
+
+        Person person = new Person();
+        person.setId(1);
+        person.setName("Rong.Jia");
+        person.setAge(23);
+        person.setSex("男");
+
+        List<Object> results = redisUtils.batch()
+                .set("batch:a", person)
+                .hPut("batch:h", "1", person)
+                .expire("batch:h", 1, TimeUnit.MINUTES)
+                .sAdd("batch:s", 1, 2, 3)
+                .get("batch:a", Person.class)
+                .hGet("batch:h", "1", Person.class)
+                .execute();
+        System.out.println(results);
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.cache.ExtendedRedisCache;
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CacheStatisticsTest {
+
+    private static final String CACHE_NAME = "statistics";
+
+    private static final boolean MEMORY = "memory".equals(System.getProperty("redis.mode"));
+
+    private RedisConnectionFactory connectionFactory;
+    private AnnotationConfigApplicationContext context;
+    private ExtendedRedisCache cache;
+    private PersonService personService;
+
+    @BeforeEach
+    public void initCache() {
+        connectionFactory = RedisInitTest.getConnectionFactory();
+        ExtendedRedisCacheManager cacheManager = cacheManager();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(CacheManager.class, () -> cacheManager);
+        context.register(CachingConfiguration.class);
+        context.refresh();
+        personService = context.getBean(PersonService.class);
+
+        cache = (ExtendedRedisCache) cacheManager.getCache(CACHE_NAME);
+        cache.clear();
+        cache.clearStatistics();
+    }
+
+    @AfterEach
+    public void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void syncMissWithSingleFlight() {
+        Assertions.assertEquals("name1", personService.find(1).getName());
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(1, personService.getLoads());
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, statistics.getPuts());
+        Assertions.assertEquals(0, statistics.getDeletes());
+
+        Assertions.assertEquals("name1", personService.find(1).getName());
+        Assertions.assertEquals(1, personService.getLoads());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void lockWaitIsNotCounted() throws Exception {
+        Assumptions.assumeFalse(MEMORY, "cluster lock requires Redis");
+        // 模拟另一节点
+        ExtendedRedisCache other = (ExtendedRedisCache) cacheManager().getCache(CACHE_NAME);
+
+        CompletableFuture<Object> slow = CompletableFuture.supplyAsync(() -> other.get(2, () -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return "slow";
+        }));
+        TimeUnit.MILLISECONDS.sleep(100);
+        Assertions.assertEquals("slow", cache.get(2, () -> "fast"));
+        Assertions.assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0, statistics.getPuts());
+        Assertions.assertEquals(0, statistics.getDeletes());
+    }
+
+    private ExtendedRedisCacheManager cacheManager() {
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory)
+                .withStatisticsCollector(CacheStatisticsCollector.create());
+        ExtendedRedisCacheManager cacheManager = new ExtendedRedisCacheManager(cacheWriter,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(60)), Collections.emptyMap());
+        // 内存 Redis 不支持脚本, 仅在进程内单飞
+        cacheManager.enableSingleFlight(connectionFactory, MEMORY ? null : Duration.ofSeconds(5));
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfiguration {
+
+        @Bean
+        public PersonService personService() {
+            return new PersonService();
+        }
+
+    }
+
+    static class PersonService {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Cacheable(cacheNames = CACHE_NAME, sync = true)
+        public Person find(int id) {
+            loads.incrementAndGet();
+            Person person = new Person();
+            person.setId(id);
+            person.setName("name" + id);
+            return person;
+        }
+
+        public int getLoads() {
+            return loads.get();
+        }
+
+    }
+
+}
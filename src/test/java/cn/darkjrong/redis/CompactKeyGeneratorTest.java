@@ -0,0 +1,93 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.cache.CompactKeyGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+public class CompactKeyGeneratorTest {
+
+    private CompactKeyGenerator keyGenerator;
+    private Method method;
+
+    @BeforeEach
+    public void initKeyGenerator() throws Exception {
+        keyGenerator = new CompactKeyGenerator(128);
+        method = CompactKeyGeneratorTest.class.getDeclaredMethod("find", Object.class);
+    }
+
+    @Test
+    void beanParameter() {
+        Assertions.assertNotEquals(generate(person(1)), generate(person(2)));
+        Assertions.assertEquals(generate(person(1)), generate(person(1)));
+    }
+
+    @Test
+    void fieldOnlyParameterDoesNotCollide() {
+        Object first = generate(new Query("a", 1));
+        Object second = generate(new Query("b", 2));
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(first, generate(new Query("a", 1)));
+    }
+
+    @Test
+    void stringDoesNotCollideWithHashedKey() {
+        StringBuilder longParam = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            longParam.append('a');
+        }
+        String hashed = (String) generate(longParam.toString());
+        String hash = hashed.substring(hashed.indexOf('(') + 1, hashed.length() - 1);
+        Assertions.assertTrue(hash.startsWith("#"));
+        Assertions.assertNotEquals(hashed, generate(hash));
+        Assertions.assertNotEquals(generate(null), generate("~"));
+    }
+
+    @Test
+    void rejectParameterWithoutKey() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generate(new Opaque("a")));
+    }
+
+    private Object generate(Object param) {
+        return keyGenerator.generate(this, method, param);
+    }
+
+    private static Person person(int id) {
+        Person person = new Person();
+        person.setId(id);
+        person.setName("name" + id);
+        return person;
+    }
+
+    Object find(Object param) {
+        return param;
+    }
+
+    static class Query {
+
+        private final String name;
+        private final int page;
+
+        Query(String name, int page) {
+            this.name = name;
+            this.page = page;
+        }
+
+        @Override
+        public String toString() {
+            return "Query[name=" + name + ", page=" + page + "]";
+        }
+    }
+
+    static class Opaque {
+
+        private final String value;
+
+        Opaque(String value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import cn.darkjrong.redis.configuration.RedisConfiguration;
+import cn.darkjrong.redis.configuration.serializer.CompactRedisValueSerializer;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisKeySerializer;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import cn.darkjrong.spring.boot.autoconfigure.RedisExtendProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class CompactSerializerTest {
+
+    private CompactRedisValueSerializer serializer;
+
+    @BeforeEach
+    public void initSerializer() {
+        serializer = new CompactRedisValueSerializer();
+        serializer.registerType(1, Person.class);
+        serializer.setAllowedPackages(Collections.singletonList("cn.darkjrong.redis"));
+    }
+
+    @Test
+    void primitives() {
+        List<Object> values = Arrays.asList(1, -2L, 3.5D, 4.5F, (short) 5, (byte) 6, 'c', true, "中文",
+                new BigDecimal("1.20"), LocalDateTime.of(2026, 10, 18, 12, 0), UUID.randomUUID(),
+                Duration.ofSeconds(30), new int[]{1, 2}, new byte[]{7, 8});
+        for (Object value : values) {
+            Object result = serializer.deserialize(serializer.serialize(value));
+            if (value.getClass().isArray()) {
+                Assertions.assertTrue(Objects.deepEquals(value, result), value.getClass().getName());
+            } else {
+                Assertions.assertEquals(value, result);
+            }
+        }
+        Assertions.assertNull(serializer.deserialize(serializer.serialize(null)));
+    }
+
+    @Test
+    void collections() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("list", Arrays.asList(1, "a", null));
+        map.put("set", new LinkedHashSet<>(Arrays.asList(1L, 2L)));
+        map.put("nested", Collections.singletonMap("k", Collections.singletonList(2.5D)));
+        Assertions.assertEquals(map, serializer.deserialize(serializer.serialize(map)));
+    }
+
+    @Test
+    void nestedObjects() {
+        Group group = new Group();
+        group.name = "group";
+        group.level = Level.HIGH;
+        group.members = new ArrayList<>(Collections.singletonList(person(1)));
+        group.leaders = new HashMap<>(Collections.singletonMap("first", person(2)));
+        group.unit = TimeUnit.SECONDS;
+
+        Group result = serializer.deserialize(serializer.serialize(group), Group.class);
+        Assertions.assertEquals("group", result.name);
+        Assertions.assertEquals(Level.HIGH, result.level);
+        Assertions.assertEquals(TimeUnit.SECONDS, result.unit);
+        Assertions.assertEquals("name1", result.members.get(0).getName());
+        Assertions.assertEquals(2, result.leaders.get("first").getId());
+    }
+
+    @Test
+    void rejectUnregisteredType() {
+        byte[] bytes = serializer.serialize(Level.LOW);
+
+        CompactRedisValueSerializer strict = new CompactRedisValueSerializer();
+        Assertions.assertThrows(SerializationException.class, () -> strict.deserialize(bytes));
+        Assertions.assertThrows(SerializationException.class, () -> strict.serialize(new Group()));
+        // 已注册类型不受包限制
+        strict.registerType(1, Person.class);
+        Assertions.assertEquals("name3", ((Person) strict.deserialize(serializer.serialize(person(3)))).getName());
+    }
+
+    @Test
+    void rejectNativeDeserializationOfNonJdkType() throws Exception {
+        ByteArrayOutputStream objectBytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(objectBytes)) {
+            objectOutput.writeObject(person(4));
+        }
+        byte[] payload = objectBytes.toByteArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // MAGIC, SERIALIZABLE, 变长长度
+        bytes.write(0xCB);
+        bytes.write(26);
+        for (long length = payload.length; ; length >>>= 7) {
+            if ((length & ~0x7FL) == 0) {
+                bytes.write((int) length);
+                break;
+            }
+            bytes.write((int) ((length & 0x7F) | 0x80));
+        }
+        bytes.write(payload);
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(bytes.toByteArray()));
+    }
+
+    @Test
+    void rejectSizeBeyondInput() {
+        // MAGIC, LIST/MAP, 变长数量 Integer.MAX_VALUE
+        for (int tag : new int[]{15, 16, 17}) {
+            byte[] bytes = {(byte) 0xCB, (byte) tag, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+            Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+        // 将空数组的长度改为变长 Integer.MAX_VALUE
+        byte[] array = serializer.serialize(new int[0]);
+        byte[] bytes = Arrays.copyOf(array, array.length + 4);
+        System.arraycopy(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0, bytes, array.length - 1, 5);
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    @Test
+    void perCacheSerializerUsesAllowedPackages() {
+        RedisExtendProperties properties = new RedisExtendProperties();
+        properties.getSerializer().setAllowedPackages(Collections.singletonList("cn.darkjrong.redis"));
+        RedisExtendProperties.CacheSpec spec = new RedisExtendProperties.CacheSpec();
+        spec.setSerializer(RedisExtendProperties.SerializerType.COMPACT);
+        properties.getCache().getConfigs().put("compact", spec);
+        DefaultRedisValueSerializer valueSerializer = new DefaultRedisValueSerializer();
+        valueSerializer.setObjectMapper();
+
+        RedisConfiguration configuration = new RedisConfiguration(RedisInitTest.getConnectionFactory(),
+                new CacheProperties(), new DefaultRedisKeySerializer(), valueSerializer, properties);
+        ExtendedRedisCacheManager cacheManager = (ExtendedRedisCacheManager) configuration.cacheManager();
+        cacheManager.afterPropertiesSet();
+        Cache cache = cacheManager.getCache("compact");
+        cache.put(5, person(5));
+        Assertions.assertEquals("name5", cache.get(5, Person.class).getName());
+        cache.evict(5);
+    }
+
+    private static Person person(int id) {
+        Person person = new Person();
+        person.setId(id);
+        person.setName("name" + id);
+        person.setAge(20 + id);
+        person.setSex("男");
+        return person;
+    }
+
+    enum Level {
+
+        LOW,
+
+        HIGH,
+
+    }
+
+    static class Group {
+
+        private String name;
+        private Level level;
+        private List<Person> members;
+        private Map<String, Person> leaders;
+        private TimeUnit unit;
+    }
+
+}
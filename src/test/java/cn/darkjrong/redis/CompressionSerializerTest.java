@@ -0,0 +1,54 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.configuration.serializer.CompressionRedisValueSerializer;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+
+public class CompressionSerializerTest {
+
+    private CompressionRedisValueSerializer serializer;
+
+    @BeforeEach
+    public void initSerializer() {
+        DefaultRedisValueSerializer valueSerializer = new DefaultRedisValueSerializer();
+        valueSerializer.setObjectMapper();
+        serializer = new CompressionRedisValueSerializer(valueSerializer, 64, 1);
+    }
+
+    @Test
+    void roundTrip() {
+        String value = StrUtil.repeat("redis-extend-", 100);
+        byte[] bytes = serializer.serialize(value);
+        Assertions.assertTrue(bytes.length < value.length());
+        Assertions.assertEquals(value, serializer.deserialize(bytes));
+        Assertions.assertEquals("short", serializer.deserialize(serializer.serialize("short")));
+        Assertions.assertEquals(1, serializer.getStatistics().getCompressedCount());
+    }
+
+    @Test
+    void rejectTruncatedValue() {
+        byte[] bytes = serializer.serialize(StrUtil.repeat("redis-extend-", 100));
+        // 声明长度大于实际解压长度
+        bytes[5]++;
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        // 压缩数据被截断
+        byte[] truncated = serializer.serialize(StrUtil.repeat("redis-extend-", 100));
+        Assertions.assertThrows(SerializationException.class,
+                () -> serializer.deserialize(Arrays.copyOf(truncated, truncated.length - 4)));
+    }
+
+    @Test
+    void rejectUntrustedLength() {
+        byte[] bytes = serializer.serialize(StrUtil.repeat("redis-extend-", 100));
+        // 声明长度约 2GB
+        bytes[2] = 0x7F;
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+}
@@ -8,6 +8,7 @@ import org.springframework.data.redis.core.ScanOptions;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public class HashOperationsInitTest extends RedisInitTest {
 
@@ -80,4 +81,16 @@ public class HashOperationsInitTest extends RedisInitTest {
 
     }
 
+    @Test
+    void hScanStream() {
+
+        ScanOptions scanOptions = ScanOptions.scanOptions().count(100).build();
+
+        try (Stream<Map.Entry<String, Person>> persons = redisUtils.hScanStream("persons", scanOptions, Person.class)) {
+            persons.forEach(System.out::println);
+        }
+
+        redisUtils.hScan("persons", scanOptions, Person.class, (field, person) -> System.out.println(field + " " + person));
+    }
+
 }
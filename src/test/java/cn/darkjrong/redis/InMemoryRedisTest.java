@@ -0,0 +1,67 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.memory.InMemoryRedisConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class InMemoryRedisTest {
+
+    private static final byte[] KEY = bytes("memory:key");
+
+    private InMemoryRedisConnectionFactory connectionFactory;
+    private RedisConnection connection;
+
+    @BeforeEach
+    public void openConnection() {
+        connectionFactory = new InMemoryRedisConnectionFactory();
+        connection = connectionFactory.getConnection();
+    }
+
+    @AfterEach
+    public void closeConnection() {
+        connection.close();
+    }
+
+    @Test
+    void execAppliesQueuedCommands() {
+        connection.multi();
+        Assertions.assertNull(connection.stringCommands().set(KEY, bytes("1")));
+        Assertions.assertNull(connection.stringCommands().incr(KEY));
+        try (RedisConnection other = connectionFactory.getConnection()) {
+            Assertions.assertNull(other.stringCommands().get(KEY));
+        }
+
+        List<Object> results = connection.exec();
+        Assertions.assertEquals(Arrays.asList(true, 2L), results);
+        Assertions.assertArrayEquals(bytes("2"), connection.stringCommands().get(KEY));
+    }
+
+    @Test
+    void discardDropsQueuedCommands() {
+        connection.multi();
+        connection.stringCommands().set(KEY, bytes("1"));
+        connection.discard();
+
+        Assertions.assertNull(connection.stringCommands().get(KEY));
+        Assertions.assertThrows(InvalidDataAccessApiUsageException.class, () -> connection.discard());
+    }
+
+    @Test
+    void rejectUnsupportedCommands() {
+        Assertions.assertThrows(InvalidDataAccessApiUsageException.class, () -> connection.watch(KEY));
+        Assertions.assertThrows(InvalidDataAccessApiUsageException.class, () -> connection.publish(KEY, bytes("message")));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,49 @@
+package cn.darkjrong.redis;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class KeysOperationsTest extends RedisInitTest {
+
+    @Test
+    void scanKeys() {
+        for (int i = 0; i < 10; i++) {
+            redisUtils.set("scan:" + i, i);
+        }
+
+        try (Stream<String> keys = redisUtils.scanKeys("scan:*", 100)) {
+            List<String> list = keys.collect(Collectors.toList());
+            System.out.println(list);
+        }
+
+        redisUtils.setSafeMode(true);
+        System.out.println(redisUtils.keys("scan:*"));
+    }
+
+    @Test
+    void forEachBatch() {
+        for (int i = 0; i < 10; i++) {
+            redisUtils.set("scan:" + i, i);
+        }
+
+        try (KeyspaceScanner keyspaceScanner = new KeyspaceScanner(redisUtils.getRedisTemplate(), 2)) {
+            long count = keyspaceScanner.forEachBatch("scan:*", 100, 3,
+                    (connection, keys) -> keys.forEach(key -> connection.keyCommands().expire(key, 60)));
+            System.out.println(count);
+        }
+    }
+
+    @Test
+    void deleteByPattern() {
+        for (int i = 0; i < 10; i++) {
+            redisUtils.set("unlink:" + i, i);
+        }
+
+        System.out.println(redisUtils.deleteByPattern("unlink:*", 3, Duration.ofMillis(10)));
+    }
+
+}
@@ -1,10 +1,12 @@
 package cn.darkjrong.redis;
 
 import com.alibaba.fastjson.TypeReference;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class ListOperationsTest extends RedisInitTest {
 
@@ -48,9 +50,27 @@ public class ListOperationsTest extends RedisInitTest {
 
     }
 
+    @Test
+    void consume() throws InterruptedException {
+
+        try (QueueConsumer consumer = redisUtils.consume("persons", Person.class, System.out::println)) {
+            TimeUnit.SECONDS.sleep(2);
+            System.out.println(consumer.isRunning());
+        }
+
+    }
 
+    @Test
+    void closeConsumersOnDestroy() {
 
+        QueueConsumer consumer = redisUtils.consume("persons", Person.class, System.out::println);
+        Assertions.assertTrue(consumer.isRunning());
 
+        redisUtils.destroy();
+        Assertions.assertFalse(consumer.isRunning());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> redisUtils.consume("persons", Person.class, System.out::println));
 
+    }
 
 }
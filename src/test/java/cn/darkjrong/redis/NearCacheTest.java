@@ -0,0 +1,73 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.cache.ExtendedRedisCacheManager;
+import cn.darkjrong.redis.cache.NearCacheInvalidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class NearCacheTest {
+
+    private static final String CACHE_NAME = "near";
+
+    private RedisConnectionFactory connectionFactory;
+    private ExtendedRedisCacheManager first;
+    private ExtendedRedisCacheManager second;
+
+    @BeforeEach
+    public void initCacheManagers() {
+        Assumptions.assumeFalse("memory".equals(System.getProperty("redis.mode")), "invalidation requires pub/sub");
+        connectionFactory = RedisInitTest.getConnectionFactory();
+        first = cacheManager();
+        second = cacheManager();
+        first.getCache(CACHE_NAME).clear();
+    }
+
+    @AfterEach
+    public void closeCacheManagers() throws Exception {
+        if (first != null) {
+            first.destroy();
+            second.destroy();
+        }
+    }
+
+    @Test
+    void refreshAheadUpdatesNearCache() throws Exception {
+        Cache firstCache = first.getCache(CACHE_NAME);
+        Cache secondCache = second.getCache(CACHE_NAME);
+        Assertions.assertEquals("v1", firstCache.get(1, () -> "v1"));
+        // 剩余过期时间低于比例后命中即刷新
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        // 另一节点命中 Redis 并触发后台刷新
+        Assertions.assertEquals("v1", secondCache.get(1, () -> "v2"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"v2".equals(firstCache.get(1, () -> "v3")) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        Assertions.assertEquals("v2", firstCache.get(1, () -> "v3"));
+        Assertions.assertEquals("v2", secondCache.get(1, () -> "v3"));
+    }
+
+    private ExtendedRedisCacheManager cacheManager() {
+        ExtendedRedisCacheManager cacheManager = new ExtendedRedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(60)), Collections.emptyMap());
+        cacheManager.enableRefreshAhead(Collections.singletonList(CACHE_NAME), connectionFactory, 0.999, 0, 1, 16);
+        cacheManager.enableNearCache(new NearCacheInvalidator(connectionFactory, "test:near:invalidation"),
+                100, Duration.ofSeconds(60), null);
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+}
@@ -0,0 +1,130 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisKeySerializer;
+import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
+import cn.darkjrong.spring.boot.autoconfigure.RedisReactiveExtendAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.LongStream;
+
+public class ReactiveOperationsTest {
+
+    private LettuceConnectionFactory lettuceConnectionFactory;
+    private ReactiveRedisUtils reactiveRedisUtils;
+
+    @BeforeEach
+    public void initRedis() {
+        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
+        redisStandaloneConfiguration.setHostName("localhost");
+        redisStandaloneConfiguration.setPort(6379);
+        redisStandaloneConfiguration.setDatabase(4);
+
+        lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
+        lettuceConnectionFactory.afterPropertiesSet();
+        DefaultRedisKeySerializer redisKeySerializer = new DefaultRedisKeySerializer();
+        DefaultRedisValueSerializer redisValueSerializer = new DefaultRedisValueSerializer();
+        redisValueSerializer.setObjectMapper();
+
+        RedisReactiveExtendAutoConfiguration configuration = new RedisReactiveExtendAutoConfiguration();
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = configuration.reactiveRedisTemplate(
+                lettuceConnectionFactory, redisKeySerializer, redisValueSerializer);
+        reactiveRedisUtils = configuration.reactiveRedisUtils(reactiveRedisTemplate, redisKeySerializer, redisValueSerializer);
+    }
+
+    @Test
+    void lRangePaged() {
+        Person person = new Person();
+        person.setId(1);
+        person.setName("Rong.Jia");
+        person.setAge(23);
+        person.setSex("男");
+
+        for (int i = 0; i < 10; i++) {
+            reactiveRedisUtils.lRightPush("reactive:l", person).block();
+        }
+
+        List<Person> persons = reactiveRedisUtils.lRangePaged("reactive:l", 3, Person.class).collectList().block();
+        System.out.println(persons);
+    }
+
+    @Test
+    void skipNullValues() {
+        byte[] key = "reactive:null".getBytes(StandardCharsets.UTF_8);
+        byte[] listKey = "reactive:null:l".getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = lettuceConnectionFactory.getConnection()) {
+            connection.keyCommands().del(key, listKey);
+            // JSON null 反序列化为 null
+            connection.stringCommands().set(key, "null".getBytes(StandardCharsets.UTF_8));
+            connection.listCommands().rPush(listKey, "null".getBytes(StandardCharsets.UTF_8),
+                    "\"a\"".getBytes(StandardCharsets.UTF_8));
+        }
+
+        Assertions.assertNull(reactiveRedisUtils.get("reactive:null", String.class).block());
+        Assertions.assertEquals(Collections.singletonList("a"),
+                reactiveRedisUtils.lRange("reactive:null:l", 0, -1, String.class).collectList().block());
+    }
+
+    @Test
+    void pagedFetchesOnDemand() {
+        AtomicInteger fetches = new AtomicInteger();
+        BiFunction<Long, Long, Flux<Long>> page = (start, end) -> {
+            fetches.incrementAndGet();
+            // 共 95 个元素, 10 页
+            return Flux.fromStream(LongStream.rangeClosed(start, Math.min(end, 94)).boxed());
+        };
+
+        List<Long> values = new ArrayList<>();
+        BaseSubscriber<Long> subscriber = new BaseSubscriber<Long>() {
+
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Long value) {
+                values.add(value);
+            }
+        };
+        // 至多预读一页
+        ReactiveRedisUtils.paged(10, page).subscribe(subscriber);
+        Assertions.assertEquals(1, values.size());
+        Assertions.assertEquals(2, fetches.get());
+
+        subscriber.request(10);
+        Assertions.assertEquals(11, values.size());
+        Assertions.assertEquals(3, fetches.get());
+
+        subscriber.request(Long.MAX_VALUE);
+        Assertions.assertEquals(95, values.size());
+        Assertions.assertEquals(10, fetches.get());
+    }
+
+    @Test
+    void sScan() {
+        reactiveRedisUtils.sAdd("reactive:s", 1, 2, 3, 4, 5).block();
+
+        List<Integer> values = reactiveRedisUtils.sScan("reactive:s", ScanOptions.scanOptions().count(2).build(), Integer.class)
+                .limitRate(2)
+                .collectList()
+                .block();
+        System.out.println(values);
+    }
+
+}
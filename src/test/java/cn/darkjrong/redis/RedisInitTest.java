@@ -4,9 +4,12 @@ import cn.darkjrong.redis.configuration.RedisConfiguration;
 import cn.darkjrong.redis.configuration.serializer.DefaultRedisKeySerializer;
 import cn.darkjrong.redis.configuration.serializer.DefaultRedisValueSerializer;
 import cn.darkjrong.redis.configuration.serializer.RedisKeySerializer;
+import cn.darkjrong.redis.memory.InMemoryRedisConnectionFactory;
+import cn.darkjrong.spring.boot.autoconfigure.RedisExtendProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
 import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -16,27 +19,39 @@ import java.time.Duration;
 public class RedisInitTest {
 
     protected static RedisUtils redisUtils;
+    protected static RedisTemplate<String, Object> redisTemplate;
 
     @BeforeEach
     public void initRedis() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName("localhost");
-        redisStandaloneConfiguration.setPort(6379);
-        redisStandaloneConfiguration.setDatabase(4);
-
-        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
-        lettuceConnectionFactory.afterPropertiesSet();
+        RedisConnectionFactory connectionFactory = getConnectionFactory();
         CacheProperties cacheProperties = getCacheProperties();
         RedisKeySerializer redisKeySerializer = new DefaultRedisKeySerializer();
         DefaultRedisValueSerializer redisValueSerializer = new DefaultRedisValueSerializer();
         redisValueSerializer.setObjectMapper();
 
-        RedisConfiguration redisConfiguration = new RedisConfiguration(lettuceConnectionFactory, cacheProperties,
-                redisKeySerializer, redisValueSerializer);
+        RedisConfiguration redisConfiguration = new RedisConfiguration(connectionFactory, cacheProperties,
+                redisKeySerializer, redisValueSerializer, new RedisExtendProperties());
+
+        redisTemplate = redisConfiguration.redisTemplate(connectionFactory);
+        redisUtils = redisConfiguration.redisUtils(redisTemplate, null, redisConfiguration.keyspaceScanner(redisTemplate));
 
-        RedisTemplate<String, Object> redisTemplate = redisConfiguration.redisTemplate(lettuceConnectionFactory);
-        redisUtils = redisConfiguration.redisUtils(redisTemplate);
+    }
+
+    /**
+     * 指定 -Dredis.mode=memory 时使用内存 Redis, 无需启动 Redis
+     */
+    static RedisConnectionFactory getConnectionFactory() {
+        if ("memory".equals(System.getProperty("redis.mode"))) {
+            return new InMemoryRedisConnectionFactory();
+        }
+        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
+        redisStandaloneConfiguration.setHostName("localhost");
+        redisStandaloneConfiguration.setPort(6379);
+        redisStandaloneConfiguration.setDatabase(4);
 
+        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
+        lettuceConnectionFactory.afterPropertiesSet();
+        return lettuceConnectionFactory;
     }
 
     private static CacheProperties getCacheProperties() {
@@ -0,0 +1,73 @@
+package cn.darkjrong.redis;
+
+import cn.darkjrong.redis.lock.RedisLock;
+import cn.darkjrong.redis.lock.RedisLockRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RedisLockTest extends RedisInitTest {
+
+    private RedisLockRegistry registry;
+
+    @BeforeEach
+    public void initRegistry() {
+        Assumptions.assumeFalse("memory".equals(System.getProperty("redis.mode")), "lock scripts require Redis");
+        registry = new RedisLockRegistry(redisTemplate, new RedisScriptRegistry(redisTemplate), "test:lock:",
+                Duration.ofSeconds(30), false, "test:lock:release");
+    }
+
+    @AfterEach
+    public void closeRegistry() throws Exception {
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    @Test
+    void reentrantAcrossGetLock() throws Exception {
+        RedisLock lock = registry.getLock("reentrant");
+        lock.lock();
+        lock.unlock();
+
+        // 释放后调用方仍持有引用, 再次获取同名锁应得到同一个对象
+        lock.lock();
+        try {
+            Assertions.assertSame(lock, registry.getLock("reentrant"));
+            Assertions.assertFalse(CompletableFuture.supplyAsync(() -> registry.getLock("reentrant").tryLock())
+                    .get(5, TimeUnit.SECONDS));
+            RedisLock nested = registry.getLock("reentrant");
+            Assertions.assertTrue(nested.tryLock(1, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, lock.getHoldCount());
+            nested.unlock();
+        } finally {
+            lock.unlock();
+        }
+        Assertions.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    void negativeWaitTimeDoesNotWait() throws Exception {
+        RedisLock lock = registry.getLock("negative");
+        lock.lock();
+        try {
+            boolean acquired = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return registry.getLock("negative").tryLock(-1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get(5, TimeUnit.SECONDS);
+            Assertions.assertFalse(acquired);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}